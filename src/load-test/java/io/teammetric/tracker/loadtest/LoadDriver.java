@@ -0,0 +1,131 @@
+package io.teammetric.tracker.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Closed-loop workers: each thread sends a request picked by weight, waits for the response and sends the next.
+ * Everything recorded during the warmup is discarded, so JIT compilation and cold caches do not skew the report.
+ */
+final class LoadDriver {
+    private static final double MICROS_PER_MILLI = 1_000.0;
+
+    private final HttpClient httpClient;
+    private final List<LoadOperation> operations;
+    private final int totalWeight;
+    private final Map<String, Recorder> latencies = new LinkedHashMap<>();
+    private final Map<String, ConcurrentMap<String, LongAdder>> failures = new LinkedHashMap<>();
+
+    LoadDriver(HttpClient httpClient, List<LoadOperation> operations) {
+        this.httpClient = httpClient;
+        this.operations = operations;
+        this.totalWeight = operations.stream().mapToInt(LoadOperation::weight).sum();
+
+        for (LoadOperation operation : operations) {
+            latencies.put(operation.name(), new Recorder(3));
+            failures.put(operation.name(), new ConcurrentHashMap<>());
+        }
+    }
+
+    LoadReport run(LoadTestSettings settings, ThreadMode threadMode) throws InterruptedException {
+        long deadline = System.nanoTime() + settings.warmup().toNanos() + settings.duration().toNanos();
+
+        ExecutorService workers = Executors.newFixedThreadPool(settings.threads());
+        for (int i = 0; i < settings.threads(); i++) {
+            workers.execute(() -> work(deadline));
+        }
+
+        Thread.sleep(settings.warmup().toMillis());
+        latencies.values().forEach(Recorder::reset);
+        failures.values().forEach(Map::clear);
+        long measuredFrom = System.nanoTime();
+
+        workers.shutdown();
+        workers.awaitTermination(settings.duration().toSeconds() + 60, TimeUnit.SECONDS);
+        double seconds = (System.nanoTime() - measuredFrom) / 1e9;
+
+        List<LoadReport.Row> rows = new ArrayList<>();
+        Histogram total = null;
+        Map<String, Long> totalFailed = new TreeMap<>();
+        for (Map.Entry<String, Recorder> entry : latencies.entrySet()) {
+            Histogram histogram = entry.getValue().getIntervalHistogram();
+            Map<String, Long> failed = new TreeMap<>();
+            failures.get(entry.getKey()).forEach((reason, count) -> failed.put(reason, count.sum()));
+            rows.add(row(entry.getKey(), histogram, failed, seconds));
+
+            if (total == null) {
+                total = histogram.copy();
+            } else {
+                total.add(histogram);
+            }
+            failed.forEach((reason, count) -> totalFailed.merge(reason, count, Long::sum));
+        }
+        rows.add(row(LoadReport.TOTAL, total, totalFailed, seconds));
+
+        return new LoadReport(threadMode, settings.dbLatency().toMillis(), settings.threads(), seconds, rows);
+    }
+
+    private static LoadReport.Row row(String name, Histogram histogram, Map<String, Long> failed, double seconds) {
+        return new LoadReport.Row(
+                name,
+                histogram.getTotalCount(),
+                failed.values().stream().mapToLong(Long::longValue).sum(),
+                failed,
+                histogram.getTotalCount() / seconds,
+                histogram.getValueAtPercentile(50) / MICROS_PER_MILLI,
+                histogram.getValueAtPercentile(99) / MICROS_PER_MILLI,
+                histogram.getValueAtPercentile(99.9) / MICROS_PER_MILLI,
+                histogram.getMaxValue() / MICROS_PER_MILLI);
+    }
+
+    private void work(long deadline) {
+        Random random = ThreadLocalRandom.current();
+
+        while (System.nanoTime() < deadline) {
+            LoadOperation operation = pick(random);
+            HttpRequest request = operation.requestFactory().apply(random);
+
+            long start = System.nanoTime();
+            String failure;
+            try {
+                HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                failure = response.statusCode() >= 400 ? "HTTP " + response.statusCode() : null;
+            } catch (IOException e) {
+                failure = e.getClass().getSimpleName();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+
+            latencies.get(operation.name()).recordValue(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start));
+            if (failure != null) {
+                failures.get(operation.name()).computeIfAbsent(failure, reason -> new LongAdder()).increment();
+            }
+        }
+    }
+
+    private LoadOperation pick(Random random) {
+        int ticket = random.nextInt(totalWeight);
+        for (LoadOperation operation : operations) {
+            ticket -= operation.weight();
+            if (ticket < 0) {
+                return operation;
+            }
+        }
+
+        throw new IllegalStateException("Weights changed while running");
+    }
+}
@@ -0,0 +1,15 @@
+package io.teammetric.tracker.loadtest;
+
+import java.net.http.HttpRequest;
+import java.util.Random;
+import java.util.function.Function;
+
+/**
+ * One kind of request in the mix. The factory is called for every request, so ids and payloads vary per call.
+ */
+public record LoadOperation(
+        String name,
+        int weight,
+        Function<Random, HttpRequest> requestFactory
+) {
+}
@@ -0,0 +1,111 @@
+package io.teammetric.tracker.loadtest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.teammetric.tracker.dto.request.employee.CreateEmployeeRequest;
+import io.teammetric.tracker.dto.request.employee.UpdateEmployeeRequest;
+import io.teammetric.tracker.dto.request.project.UpdateProjectRequest;
+
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * The request catalogue the mix picks from. Writes use unique usernames, emails and project names,
+ * so that they never fail on uniqueness and every request exercises the full write path.
+ */
+final class LoadOperations {
+    private static final int PAGE_SIZE = 100;
+
+    private final URI api;
+    private final long[] employeeIds;
+    private final long[] projectIds;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicLong sequence = new AtomicLong();
+
+    LoadOperations(URI api, long[] employeeIds, long[] projectIds) {
+        this.api = api;
+        this.employeeIds = employeeIds;
+        this.projectIds = projectIds;
+    }
+
+    List<LoadOperation> select(Map<String, Integer> mix) {
+        Map<String, Function<Random, HttpRequest>> catalogue = new LinkedHashMap<>();
+        catalogue.put("employee-by-id", random -> get("/employees/" + pick(random, employeeIds)));
+        catalogue.put("employee-page", random -> get("/employees?limit=" + PAGE_SIZE));
+        catalogue.put("employee-list", random -> get("/employees"));
+        catalogue.put("project-by-id", random -> get("/projects/" + pick(random, projectIds)));
+        catalogue.put("project-list", random -> get("/projects"));
+        catalogue.put("employee-create", this::createEmployee);
+        catalogue.put("employee-update", this::updateEmployee);
+        catalogue.put("project-update", this::updateProject);
+
+        List<LoadOperation> operations = new ArrayList<>();
+        mix.forEach((name, weight) -> {
+            Function<Random, HttpRequest> factory = catalogue.get(name);
+            if (factory == null) {
+                throw new IllegalArgumentException("Unknown operation '" + name + "', expected one of " + catalogue.keySet());
+            }
+            if (weight > 0) {
+                operations.add(new LoadOperation(name, weight, factory));
+            }
+        });
+
+        return operations;
+    }
+
+    private HttpRequest createEmployee(Random random) {
+        long n = sequence.incrementAndGet();
+
+        return send("POST", "/employees", CreateEmployeeRequest.builder()
+                .firstName("Load")
+                .lastName("Test " + n)
+                .username("load-" + n)
+                .email("load-" + n + "@teammetric.io")
+                .projectId(pick(random, projectIds))
+                .build());
+    }
+
+    private HttpRequest updateEmployee(Random random) {
+        long n = sequence.incrementAndGet();
+
+        return send("PUT", "/employees/" + pick(random, employeeIds), UpdateEmployeeRequest.builder()
+                .firstName("Updated")
+                .lastName("Test " + n)
+                .email("updated-" + n + "@teammetric.io")
+                .projectId(pick(random, projectIds))
+                .build());
+    }
+
+    private HttpRequest updateProject(Random random) {
+        long id = pick(random, projectIds);
+
+        return send("PUT", "/projects/" + id, UpdateProjectRequest.builder()
+                .name("Project " + id + " rev " + sequence.incrementAndGet())
+                .build());
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(api.resolve("api" + path))
+                .GET()
+                .build();
+    }
+
+    private HttpRequest send(String method, String path, Object body) {
+        try {
+            return HttpRequest.newBuilder(api.resolve("api" + path))
+                    .header("Content-Type", "application/json")
+                    .method(method, HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+                    .build();
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static long pick(Random random, long[] ids) {
+        return ids[random.nextInt(ids.length)];
+    }
+}
@@ -0,0 +1,84 @@
+package io.teammetric.tracker.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Per-operation results of the measured window, plus a {@value #TOTAL} row over all of them; latencies are in
+ * milliseconds.
+ */
+public record LoadReport(
+        ThreadMode threadMode,
+        long dbLatencyMillis,
+        int threads,
+        double seconds,
+        List<Row> operations
+) {
+    public record Row(
+            String operation,
+            long requests,
+            long errors,
+            Map<String, Long> failures,
+            double throughput,
+            double p50,
+            double p99,
+            double p999,
+            double max
+    ) {
+    }
+
+    static final String TOTAL = "total";
+
+    void print(PrintStream out) {
+        out.printf("%n%s request threads, %d ms simulated DB latency, %d client threads, %.1f s measured%n",
+                threadMode.label(), dbLatencyMillis, threads, seconds);
+        out.printf("%-16s %10s %8s %10s %10s %10s %10s %10s%n",
+                "operation", "requests", "errors", "req/s", "p50 ms", "p99 ms", "p99.9 ms", "max ms");
+        for (Row row : operations) {
+            out.printf("%-16s %10d %8d %10.1f %10.2f %10.2f %10.2f %10.2f%n", row.operation(), row.requests(),
+                    row.errors(), row.throughput(), row.p50(), row.p99(), row.p999(), row.max());
+        }
+    }
+
+    static void compare(List<LoadReport> reports, PrintStream out) {
+        out.printf("%n%-16s %10s %10s %10s %10s %10s%n", "request threads", "req/s", "p50 ms", "p99 ms", "p99.9 ms", "max ms");
+        for (LoadReport report : reports) {
+            report.operations().stream()
+                    .filter(row -> row.operation().equals(TOTAL))
+                    .forEach(row -> out.printf("%-16s %10.1f %10.2f %10.2f %10.2f %10.2f%n", report.threadMode().label(),
+                            row.throughput(), row.p50(), row.p99(), row.p999(), row.max()));
+        }
+    }
+
+    static void write(List<LoadReport> reports, Path file) throws IOException {
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        new ObjectMapper().writerWithDefaultPrettyPrinter().writeValue(file.toFile(), reports);
+    }
+
+    /**
+     * Operations whose p99 exceeds their budget, or that failed at least one request.
+     */
+    List<String> violations(Map<String, Double> budgets) {
+        List<String> violations = new ArrayList<>();
+        for (Row row : operations) {
+            Double budget = budgets.get(row.operation());
+            if (budget != null && row.p99() > budget) {
+                violations.add("%s %s: p99 %.2f ms exceeds the %.2f ms budget".formatted(
+                        threadMode.label(), row.operation(), row.p99(), budget));
+            }
+            if (row.errors() > 0 && !row.operation().equals(TOTAL)) {
+                violations.add("%s %s: %d of %d requests failed %s".formatted(
+                        threadMode.label(), row.operation(), row.errors(), row.requests(), row.failures()));
+            }
+        }
+
+        return violations;
+    }
+}
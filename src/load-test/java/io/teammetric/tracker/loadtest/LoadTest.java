@@ -0,0 +1,120 @@
+package io.teammetric.tracker.loadtest;
+
+import io.teammetric.tracker.TrackerApplication;
+import io.teammetric.tracker.entity.Employee;
+import io.teammetric.tracker.entity.Project;
+import io.teammetric.tracker.repository.EmployeeRepository;
+import io.teammetric.tracker.repository.ProjectRepository;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Boots the application on a random port against in-memory H2, seeds it and drives the configured request mix
+ * over real HTTP from the same JVM. Prints throughput and p50/p99/p99.9 per operation, writes them as JSON and
+ * exits with status 1 when a p99 budget is exceeded or a request failed.
+ * <p>
+ * With several thread modes the whole run is repeated on a fresh application per mode and the totals are compared,
+ * e.g. platform against virtual request threads under simulated database latency.
+ */
+public final class LoadTest {
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        // devtools reads this before the environment exists, so it has to be a system property
+        System.setProperty("spring.devtools.restart.enabled", "false");
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+
+        List<LoadReport> reports = new ArrayList<>();
+        for (ThreadMode threadMode : settings.threadModes()) {
+            LoadReport report = run(settings, threadMode);
+            report.print(System.out);
+            reports.add(report);
+        }
+        if (reports.size() > 1) {
+            LoadReport.compare(reports, System.out);
+        }
+        LoadReport.write(reports, settings.report());
+
+        List<String> violations = reports.stream()
+                .flatMap(report -> report.violations(settings.budgets()).stream())
+                .toList();
+        violations.forEach(System.err::println);
+        System.exit(violations.isEmpty() ? 0 : 1);
+    }
+
+    private static LoadReport run(LoadTestSettings settings, ThreadMode threadMode) throws InterruptedException {
+        SimulatedDatabaseLatency dbLatency = new SimulatedDatabaseLatency(settings.dbLatency());
+        try (ConfigurableApplicationContext context = start(settings, threadMode, dbLatency)) {
+            List<Project> projects = seedProjects(context.getBean(ProjectRepository.class), settings.projects());
+            long[] employeeIds = seedEmployees(context.getBean(EmployeeRepository.class), settings.employees(), projects);
+            long[] projectIds = projects.stream()
+                    .mapToLong(Project::getId)
+                    .toArray();
+
+            dbLatency.enable();
+
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            List<LoadOperation> operations = new LoadOperations(URI.create("http://localhost:" + port + "/"),
+                    employeeIds, projectIds).select(settings.mix());
+
+            return new LoadDriver(HttpClient.newHttpClient(), operations).run(settings, threadMode);
+        }
+    }
+
+    private static ConfigurableApplicationContext start(LoadTestSettings settings, ThreadMode threadMode,
+                                                        SimulatedDatabaseLatency dbLatency) {
+        SpringApplicationBuilder application = new SpringApplicationBuilder(TrackerApplication.class);
+        if (threadMode == ThreadMode.VIRTUAL) {
+            application.profiles("virtual-threads");
+        }
+        if (settings.dbLatency().isPositive()) {
+            application.initializers(context -> context.getBeanFactory().addBeanPostProcessor(dbLatency));
+        }
+
+        // passed as arguments so they win over application.properties
+        return application.run(
+                "--server.port=0",
+                "--spring.datasource.url=jdbc:h2:mem:loadtest-" + threadMode.label()
+                        + ";DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+                "--spring.datasource.hikari.maximum-pool-size=" + settings.poolSize(),
+                "--spring.jpa.show-sql=false",
+                "--spring.main.banner-mode=off",
+                "--logging.level.root=WARN");
+    }
+
+    private static List<Project> seedProjects(ProjectRepository projectRepository, int count) {
+        List<Project> projects = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            projects.add(Project.builder()
+                    .name("Project " + i)
+                    .description("Seeded for load testing")
+                    .build());
+        }
+
+        return projectRepository.saveAll(projects);
+    }
+
+    private static long[] seedEmployees(EmployeeRepository employeeRepository, int count, List<Project> projects) {
+        List<Employee> employees = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            employees.add(Employee.builder()
+                    .firstName("Иван")
+                    .lastName("Петров " + i)
+                    .username("seed-" + i)
+                    .email("seed-" + i + "@teammetric.io")
+                    .project(projects.get(i % projects.size()))
+                    .build());
+        }
+
+        return employeeRepository.saveAll(employees).stream()
+                .mapToLong(Employee::getId)
+                .toArray();
+    }
+}
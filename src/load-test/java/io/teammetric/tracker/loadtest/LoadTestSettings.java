@@ -0,0 +1,71 @@
+package io.teammetric.tracker.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Load test knobs, read from {@code load.*} system properties (the {@code load-test} Maven profile passes them on).
+ *
+ * @param mix         operation name to relative weight, e.g. {@code employee-by-id=40,project-list=5}
+ * @param budgets     operation name (or {@code total}) to the highest acceptable p99 in milliseconds; exceeding one
+ *                    fails the run
+ * @param threadModes request thread modes to run one after another on a fresh application, e.g. {@code platform,virtual}
+ * @param dbLatency   delay added to every statement execution while the pooled connection is held
+ * @param poolSize    maximum Hikari pool size
+ */
+public record LoadTestSettings(
+        int threads,
+        Duration warmup,
+        Duration duration,
+        int employees,
+        int projects,
+        Map<String, Integer> mix,
+        Map<String, Double> budgets,
+        List<ThreadMode> threadModes,
+        Duration dbLatency,
+        int poolSize,
+        Path report
+) {
+    static final String DEFAULT_MIX = "employee-by-id=35,employee-page=15,employee-list=2,project-by-id=20,"
+            + "project-list=3,employee-create=10,employee-update=10,project-update=5";
+
+    public static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings(
+                Integer.getInteger("load.threads", 16),
+                Duration.ofSeconds(Long.getLong("load.warmupSeconds", 10)),
+                Duration.ofSeconds(Long.getLong("load.durationSeconds", 30)),
+                Integer.getInteger("load.employees", 10_000),
+                Integer.getInteger("load.projects", 200),
+                parse(System.getProperty("load.mix", DEFAULT_MIX), Integer::valueOf),
+                parse(System.getProperty("load.budgets", ""), Double::valueOf),
+                Arrays.stream(System.getProperty("load.threadModes", "platform").split(","))
+                        .filter(mode -> !mode.isBlank())
+                        .map(ThreadMode::of)
+                        .toList(),
+                Duration.ofMillis(Long.getLong("load.dbLatencyMillis", 0)),
+                Integer.getInteger("load.poolSize", 10),
+                Path.of(System.getProperty("load.report", "target/load-test-report.json")));
+    }
+
+    private static <V> Map<String, V> parse(String pairs, Function<String, V> valueParser) {
+        Map<String, V> parsed = new LinkedHashMap<>();
+        for (String pair : pairs.split(",")) {
+            if (pair.isBlank()) {
+                continue;
+            }
+
+            String[] keyValue = pair.split("=", 2);
+            if (keyValue.length != 2) {
+                throw new IllegalArgumentException("Expected name=value but got: " + pair);
+            }
+            parsed.put(keyValue[0].trim(), valueParser.apply(keyValue[1].trim()));
+        }
+
+        return parsed;
+    }
+}
@@ -0,0 +1,64 @@
+package io.teammetric.tracker.loadtest;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.time.Duration;
+
+/**
+ * Wraps the pooled {@link DataSource} so every statement execution sleeps first, standing in for the round trip to a
+ * remote database. The sleep happens while the pooled connection is checked out, so pool occupancy behaves as it
+ * would against a slow server, and request threads block the way they would on a socket read.
+ * <p>
+ * Off until {@link #enable()}, so schema creation and seeding run at full speed.
+ */
+final class SimulatedDatabaseLatency implements BeanPostProcessor {
+    private final Duration latency;
+    private volatile boolean enabled;
+
+    SimulatedDatabaseLatency(Duration latency) {
+        this.latency = latency;
+    }
+
+    void enable() {
+        enabled = true;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        return bean instanceof DataSource dataSource ? delaying(DataSource.class, dataSource) : bean;
+    }
+
+    private <T> T delaying(Class<T> type, T target) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            if (method.getName().equals("equals")) {
+                return proxy == args[0];
+            }
+            if (enabled && Statement.class.isAssignableFrom(type) && method.getName().startsWith("execute")) {
+                Thread.sleep(latency);
+            }
+
+            Object result;
+            try {
+                result = method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+
+            Class<?> returnType = method.getReturnType();
+            if (result != null && (returnType == Connection.class || Statement.class.isAssignableFrom(returnType))) {
+                return wrap(returnType, result);
+            }
+            return result;
+        }));
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T wrap(Class<T> type, Object target) {
+        return delaying(type, (T) target);
+    }
+}
@@ -0,0 +1,30 @@
+package io.teammetric.tracker.loadtest;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Which threads serve requests in the application under test.
+ */
+public enum ThreadMode {
+    /**
+     * Tomcat's default pool of platform threads.
+     */
+    PLATFORM,
+    /**
+     * The {@code virtual-threads} profile.
+     */
+    VIRTUAL;
+
+    String label() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+
+    static ThreadMode of(String label) {
+        return Arrays.stream(values())
+                .filter(mode -> mode.label().equals(label.trim()))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException(
+                        "Unknown thread mode '" + label + "', expected one of " + Arrays.toString(values())));
+    }
+}
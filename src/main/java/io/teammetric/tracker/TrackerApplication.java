@@ -2,12 +2,28 @@ package io.teammetric.tracker;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.data.r2dbc.R2dbcDataAutoConfiguration;
+import org.springframework.boot.autoconfigure.data.r2dbc.R2dbcRepositoriesAutoConfiguration;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcAutoConfiguration;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcTransactionManagerAutoConfiguration;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
 
-@SpringBootApplication
+// R2DBC lives only in the reactive API's own context (see ReactiveApiServer); a second transaction manager here
+// would make @Transactional ambiguous for the JPA services.
+@SpringBootApplication(exclude = {
+        R2dbcAutoConfiguration.class,
+        R2dbcDataAutoConfiguration.class,
+        R2dbcRepositoriesAutoConfiguration.class,
+        R2dbcTransactionManagerAutoConfiguration.class
+})
 public class TrackerApplication {
+    // enough for every bean of the context; steps beyond it are dropped
+    private static final int STARTUP_STEPS_CAPACITY = 4096;
 
     public static void main(String[] args) {
-        SpringApplication.run(TrackerApplication.class, args);
+        SpringApplication application = new SpringApplication(TrackerApplication.class);
+        application.setApplicationStartup(new BufferingApplicationStartup(STARTUP_STEPS_CAPACITY));
+        application.run(args);
     }
 
 }
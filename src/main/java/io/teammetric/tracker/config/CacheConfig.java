@@ -0,0 +1,26 @@
+package io.teammetric.tracker.config;
+
+import io.teammetric.tracker.service.cache.ResponseCaches;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.annotation.CachingConfigurer;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.interceptor.CacheResolver;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * {@code @Cacheable} lookups go through {@link ResponseCaches}, which drops values loaded across an invalidation.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig implements CachingConfigurer {
+    private final ObjectProvider<ResponseCaches> responseCaches;
+
+    public CacheConfig(ObjectProvider<ResponseCaches> responseCaches) {
+        this.responseCaches = responseCaches;
+    }
+
+    @Override
+    public CacheResolver cacheResolver() {
+        return responseCaches.getObject();
+    }
+}
@@ -0,0 +1,10 @@
+package io.teammetric.tracker.config;
+
+import io.teammetric.tracker.service.changes.ChangeStreamProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(ChangeStreamProperties.class)
+public class ChangeStreamConfig {
+}
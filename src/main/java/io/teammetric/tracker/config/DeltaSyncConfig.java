@@ -0,0 +1,10 @@
+package io.teammetric.tracker.config;
+
+import io.teammetric.tracker.pagination.DeltaSyncProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(DeltaSyncProperties.class)
+public class DeltaSyncConfig {
+}
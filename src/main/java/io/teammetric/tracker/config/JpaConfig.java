@@ -0,0 +1,14 @@
+package io.teammetric.tracker.config;
+
+import io.teammetric.tracker.repository.EmployeeRepository;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+/**
+ * Keeps JPA repository scanning out of the reactive package, whose R2DBC repositories Spring Data JPA would otherwise
+ * inspect and log about.
+ */
+@Configuration
+@EnableJpaRepositories(basePackageClasses = EmployeeRepository.class)
+public class JpaConfig {
+}
@@ -0,0 +1,56 @@
+package io.teammetric.tracker.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import io.teammetric.tracker.controller.support.JacksonProtobufHttpMessageConverter;
+import io.teammetric.tracker.dto.response.employee.EmployeeResponse;
+import io.teammetric.tracker.dto.response.project.ProjectResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Binary encodings for clients that ask for them in {@code Accept}: {@code application/cbor} for every body and
+ * {@code application/x-protobuf} for project and employee responses. Both come after the JSON converter, so JSON
+ * stays the default for {@code Accept: *}{@code /*}.
+ */
+@Configuration
+public class MessageConvertersConfig implements WebMvcConfigurer {
+    /**
+     * Takes the place of the CBOR converter Spring MVC registers on its own, which would not share the JSON
+     * mapper's settings.
+     */
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.add(new JacksonProtobufHttpMessageConverter(List.of(ProjectResponse.class, EmployeeResponse.class)));
+    }
+
+    /**
+     * The body under one URL now depends on {@code Accept}, so caches must not hand a protobuf response to a JSON
+     * client. Added before the handler runs, so 304s carry it too.
+     */
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new HandlerInterceptor() {
+            @Override
+            public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+                response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+                return true;
+            }
+        }).addPathPatterns("/api/**");
+    }
+}
@@ -0,0 +1,29 @@
+package io.teammetric.tracker.config;
+
+import io.teammetric.tracker.dto.response.employee.EmployeeResponse;
+import io.teammetric.tracker.dto.response.project.ProjectResponse;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.annotation.RegisterReflectionForBinding;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
+/**
+ * Reflection hints for a native image. Spring AOT already covers controller signatures, {@code @ConfigurationProperties}
+ * records and the JPA entities; these responses are only serialized by the NDJSON exports, so nothing registers them.
+ * Lombok builders are ordinary generated code and need no hints.
+ */
+@Configuration
+@RegisterReflectionForBinding({EmployeeResponse.class, ProjectResponse.class})
+@ImportRuntimeHints(NativeHintsConfig.ResourceHints.class)
+public class NativeHintsConfig {
+    /**
+     * The protobuf schema is read from the classpath when the converters are set up.
+     */
+    static class ResourceHints implements RuntimeHintsRegistrar {
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            hints.resources().registerPattern("proto/tracker.proto");
+        }
+    }
+}
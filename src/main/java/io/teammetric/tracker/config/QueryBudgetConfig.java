@@ -0,0 +1,40 @@
+package io.teammetric.tracker.config;
+
+import io.teammetric.tracker.diagnostics.QueryBudgetInterceptor;
+import io.teammetric.tracker.diagnostics.QueryBudgetProperties;
+import io.teammetric.tracker.diagnostics.RequestQueryBudget;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@EnableConfigurationProperties(QueryBudgetProperties.class)
+public class QueryBudgetConfig implements WebMvcConfigurer {
+    private final QueryBudgetProperties properties;
+    private final RequestQueryBudget queryBudget;
+
+    public QueryBudgetConfig(QueryBudgetProperties properties) {
+        this.properties = properties;
+        this.queryBudget = new RequestQueryBudget(properties);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer queryBudgetStatementInspector() {
+        return hibernateProperties -> {
+            if (properties.enabled()) {
+                hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, queryBudget);
+            }
+        };
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        if (properties.enabled()) {
+            registry.addInterceptor(new QueryBudgetInterceptor(queryBudget));
+        }
+    }
+}
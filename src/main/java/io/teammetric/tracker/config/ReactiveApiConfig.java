@@ -0,0 +1,20 @@
+package io.teammetric.tracker.config;
+
+import io.teammetric.tracker.reactive.ReactiveApiProperties;
+import io.teammetric.tracker.reactive.ReactiveApiServer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(ReactiveApiProperties.class)
+@ConditionalOnProperty(name = "tracker.reactive.enabled", havingValue = "true")
+public class ReactiveApiConfig {
+
+    @Bean
+    public ReactiveApiServer reactiveApiServer(ApplicationContext applicationContext, ReactiveApiProperties properties) {
+        return new ReactiveApiServer(applicationContext, properties);
+    }
+}
@@ -0,0 +1,48 @@
+package io.teammetric.tracker.config;
+
+import io.teammetric.tracker.diagnostics.StartupReportEndpoint;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.MethodIntrospector;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.util.ReflectionUtils;
+
+@Configuration
+public class StartupConfig {
+
+    /**
+     * Only when started through {@code TrackerApplication.main}, which installs the buffering recorder.
+     */
+    @Bean
+    @ConditionalOnBean(BufferingApplicationStartup.class)
+    public StartupReportEndpoint startupReportEndpoint(BufferingApplicationStartup applicationStartup) {
+        return new StartupReportEndpoint(applicationStartup);
+    }
+
+    /**
+     * With the {@code lazy} profile the EntityManagerFactory, and with it the Flyway migration and schema validation,
+     * is still built at startup: a broken schema should fail the start, not the first request.
+     */
+    @Bean
+    public static LazyInitializationExcludeFilter eagerEntityManagerFactory() {
+        return LazyInitializationExcludeFilter.forBeanTypes(EntityManagerFactory.class);
+    }
+
+    /**
+     * {@code @Scheduled} methods are only registered once their bean exists, and nothing else asks for the relay or
+     * the reconciler; deferred, they would never run.
+     */
+    @Bean
+    public static LazyInitializationExcludeFilter eagerScheduledBeans() {
+        return (beanName, beanDefinition, beanType) -> beanType != null
+                && AnnotationUtils.isCandidateClass(beanType, Scheduled.class)
+                && !MethodIntrospector.selectMethods(beanType, (ReflectionUtils.MethodFilter) method ->
+                        AnnotatedElementUtils.hasAnnotation(method, Scheduled.class)).isEmpty();
+    }
+}
@@ -0,0 +1,22 @@
+package io.teammetric.tracker.controller;
+
+import io.teammetric.tracker.dto.response.cache.CacheStatsResponse;
+import io.teammetric.tracker.service.cache.ResponseCaches;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/caches")
+@RequiredArgsConstructor
+public class CacheController {
+    private final ResponseCaches responseCaches;
+
+    @GetMapping
+    public List<CacheStatsResponse> getStats() {
+        return responseCaches.getStats();
+    }
+}
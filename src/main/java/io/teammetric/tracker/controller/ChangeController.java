@@ -0,0 +1,24 @@
+package io.teammetric.tracker.controller;
+
+import io.teammetric.tracker.service.changes.ChangeStreamDispatcher;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/api/changes")
+@RequiredArgsConstructor
+public class ChangeController {
+    private final ChangeStreamDispatcher changeStreamDispatcher;
+
+    /**
+     * EventSource resends the last received id in {@code Last-Event-ID} when it reconnects; the query parameter lets
+     * a client resume from a position it stored itself.
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(@RequestHeader(name = "Last-Event-ID", required = false) Long lastEventIdHeader,
+                             @RequestParam(name = "lastEventId", required = false) Long lastEventId) {
+        return changeStreamDispatcher.subscribe(lastEventIdHeader != null ? lastEventIdHeader : lastEventId);
+    }
+}
@@ -1,38 +1,136 @@
 package io.teammetric.tracker.controller;
 
+import io.teammetric.tracker.controller.support.NdjsonStreamer;
+import io.teammetric.tracker.controller.support.VersionETags;
 import io.teammetric.tracker.dto.request.employee.CreateEmployeeRequest;
+import io.teammetric.tracker.dto.request.employee.EmployeeBatchRequest;
 import io.teammetric.tracker.dto.request.employee.UpdateEmployeeRequest;
+import io.teammetric.tracker.dto.response.employee.EmployeeBatchResponse;
+import io.teammetric.tracker.dto.response.employee.EmployeeImportResponse;
+import io.teammetric.tracker.dto.response.employee.EmployeePrefixIndexStatsResponse;
 import io.teammetric.tracker.dto.response.employee.EmployeeResponse;
+import io.teammetric.tracker.dto.response.employee.EmployeeSuggestionResponse;
+import io.teammetric.tracker.dto.response.page.CursorPageResponse;
+import io.teammetric.tracker.dto.response.page.DeltaPageResponse;
+import io.teammetric.tracker.service.EmployeeImportService;
 import io.teammetric.tracker.service.EmployeeService;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 
 @RestController
 @RequestMapping("/api/employees")
 @RequiredArgsConstructor
 public class EmployeeController {
+    private static final int MAX_PAGE_SIZE = 1000;
+    private static final int MAX_SEARCH_PAGE_SIZE = 100;
+    private static final int MAX_SUGGESTIONS = 50;
+    private static final String TEXT_CSV_VALUE = "text/csv";
+
     private final EmployeeService employeeService;
+    private final EmployeeImportService employeeImportService;
+    private final NdjsonStreamer ndjsonStreamer;
 
     @GetMapping("/{id}")
-    public EmployeeResponse getById(@PathVariable("id") Long id) {
-        return employeeService.getById(id);
+    public EmployeeResponse getById(@PathVariable("id") Long id, WebRequest webRequest) {
+        // Tagged from the response itself: a fresh tag next to a cached body not evicted yet would pin that body
+        EmployeeResponse employee = employeeService.getById(id);
+        if (webRequest.checkNotModified(VersionETags.weak(employee.versionTag()))) {
+            return null;
+        }
+
+        return employee;
     }
 
     @GetMapping
-    public List<EmployeeResponse> findAll() {
+    public List<EmployeeResponse> findAll(WebRequest webRequest) {
+        if (webRequest.checkNotModified(VersionETags.weak(employeeService.getCollectionVersionTag()))) {
+            return null;
+        }
+
         return employeeService.findAll();
     }
 
+    @GetMapping(params = "limit")
+    public CursorPageResponse<EmployeeResponse> findPage(@RequestParam(name = "after", required = false) String after,
+                                                         @RequestParam("limit") @Min(1) @Max(MAX_PAGE_SIZE) int limit) {
+        return employeeService.findPage(after, limit);
+    }
+
+    @GetMapping("/changes")
+    public DeltaPageResponse<EmployeeResponse> findChanges(@RequestParam(name = "since", required = false) String since,
+                                                           @RequestParam(name = "limit", defaultValue = "500")
+                                                           @Min(1) @Max(MAX_PAGE_SIZE) int limit) {
+        return employeeService.findChanges(since, limit);
+    }
+
+    @GetMapping("/search")
+    public CursorPageResponse<EmployeeResponse> search(@RequestParam("q") @NotBlank @Size(min = 3, max = 100) String query,
+                                                       @RequestParam(name = "after", required = false) String after,
+                                                       @RequestParam(name = "limit", defaultValue = "20")
+                                                       @Min(1) @Max(MAX_SEARCH_PAGE_SIZE) int limit) {
+        return employeeService.search(query, after, limit);
+    }
+
+    @GetMapping("/autocomplete")
+    public List<EmployeeSuggestionResponse> autocomplete(@RequestParam("prefix") @NotBlank @Size(max = 100) String prefix,
+                                                         @RequestParam(name = "limit", defaultValue = "10")
+                                                         @Min(1) @Max(MAX_SUGGESTIONS) int limit) {
+        return employeeService.autocomplete(prefix, limit);
+    }
+
+    @GetMapping("/autocomplete/stats")
+    public EmployeePrefixIndexStatsResponse getAutocompleteStats() {
+        return employeeService.getAutocompleteStats();
+    }
+
+    @GetMapping(path = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> export() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(ndjsonStreamer.<EmployeeResponse>stream(employeeService::exportAll));
+    }
+
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
     public EmployeeResponse create(@Valid @RequestBody CreateEmployeeRequest employeeRequest) {
         return employeeService.save(employeeRequest);
     }
 
+    @PostMapping("/batch")
+    public EmployeeBatchResponse saveAll(@Valid @RequestBody EmployeeBatchRequest batchRequest) {
+        return employeeService.saveAll(batchRequest);
+    }
+
+    /**
+     * Reads the CSV straight from the request body, without buffering it.
+     */
+    @PostMapping(path = "/import", consumes = TEXT_CSV_VALUE)
+    public EmployeeImportResponse importCsv(InputStream csv) {
+        return employeeImportService.importCsv(csv);
+    }
+
+    @PostMapping(path = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public EmployeeImportResponse importCsv(@RequestParam("file") MultipartFile file) throws IOException {
+        try (InputStream csv = file.getInputStream()) {
+            return employeeImportService.importCsv(csv);
+        }
+    }
+
     @PutMapping("/{id}")
     public EmployeeResponse update(@PathVariable("id") Long id, @Valid @RequestBody UpdateEmployeeRequest employeeRequest) {
         return employeeService.update(id, employeeRequest);
@@ -1,13 +1,27 @@
 package io.teammetric.tracker.controller;
 
+import io.teammetric.tracker.controller.support.NdjsonStreamer;
+import io.teammetric.tracker.controller.support.VersionETags;
+import io.teammetric.tracker.dto.request.project.AssignMembersRequest;
 import io.teammetric.tracker.dto.request.project.CreateProjectRequest;
+import io.teammetric.tracker.dto.request.project.UnassignMembersRequest;
 import io.teammetric.tracker.dto.request.project.UpdateProjectRequest;
+import io.teammetric.tracker.dto.response.page.CursorPageResponse;
+import io.teammetric.tracker.dto.response.page.DeltaPageResponse;
+import io.teammetric.tracker.dto.response.project.MembershipChangeResponse;
 import io.teammetric.tracker.dto.response.project.ProjectResponse;
+import io.teammetric.tracker.dto.response.project.ProjectSummaryResponse;
 import io.teammetric.tracker.service.ProjectService;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -15,18 +29,60 @@ import java.util.List;
 @RequestMapping("/api/projects")
 @RequiredArgsConstructor
 public class ProjectController {
+    private static final int MAX_PAGE_SIZE = 1000;
+
     private final ProjectService projectService;
+    private final NdjsonStreamer ndjsonStreamer;
 
     @GetMapping("/{id}")
-    public ProjectResponse getById(@PathVariable("id") Long id) {
-        return projectService.getById(id);
+    public ProjectResponse getById(@PathVariable("id") Long id, WebRequest webRequest) {
+        // Tagged from the response itself: a fresh tag next to a cached body not evicted yet would pin that body
+        ProjectResponse project = projectService.getById(id);
+        if (webRequest.checkNotModified(VersionETags.weak(project.versionTag()))) {
+            return null;
+        }
+
+        return project;
     }
 
     @GetMapping
-    public List<ProjectResponse> findAll() {
+    public List<ProjectResponse> findAll(WebRequest webRequest) {
+        if (webRequest.checkNotModified(VersionETags.weak(projectService.getCollectionVersionTag()))) {
+            return null;
+        }
+
         return projectService.findAll();
     }
 
+    @GetMapping(params = "view=summary")
+    public List<ProjectSummaryResponse> findAllSummaries(WebRequest webRequest) {
+        if (webRequest.checkNotModified(VersionETags.weak(projectService.getCollectionVersionTag()))) {
+            return null;
+        }
+
+        return projectService.findAllSummaries();
+    }
+
+    @GetMapping(params = "limit")
+    public CursorPageResponse<ProjectResponse> findPage(@RequestParam(name = "after", required = false) String after,
+                                                        @RequestParam("limit") @Min(1) @Max(MAX_PAGE_SIZE) int limit) {
+        return projectService.findPage(after, limit);
+    }
+
+    @GetMapping("/changes")
+    public DeltaPageResponse<ProjectResponse> findChanges(@RequestParam(name = "since", required = false) String since,
+                                                          @RequestParam(name = "limit", defaultValue = "500")
+                                                          @Min(1) @Max(MAX_PAGE_SIZE) int limit) {
+        return projectService.findChanges(since, limit);
+    }
+
+    @GetMapping(path = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> export() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(ndjsonStreamer.<ProjectResponse>stream(projectService::exportAll));
+    }
+
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
     public ProjectResponse create(@Valid @RequestBody CreateProjectRequest projectRequest) {
@@ -37,4 +93,16 @@ public class ProjectController {
     public ProjectResponse update(@PathVariable("id") Long id, @Valid @RequestBody UpdateProjectRequest projectRequest) {
         return projectService.update(id, projectRequest);
     }
+
+    @PostMapping("/{id}/members:assign")
+    public MembershipChangeResponse assignMembers(@PathVariable("id") Long id,
+                                                  @Valid @RequestBody AssignMembersRequest membersRequest) {
+        return projectService.assignMembers(id, membersRequest);
+    }
+
+    @PostMapping("/{id}/members:unassign")
+    public MembershipChangeResponse unassignMembers(@PathVariable("id") Long id,
+                                                    @Valid @RequestBody UnassignMembersRequest membersRequest) {
+        return projectService.unassignMembers(id, membersRequest);
+    }
 }
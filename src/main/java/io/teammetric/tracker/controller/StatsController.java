@@ -0,0 +1,20 @@
+package io.teammetric.tracker.controller;
+
+import io.teammetric.tracker.dto.response.stats.StaffingStatsResponse;
+import io.teammetric.tracker.service.StatsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/stats")
+@RequiredArgsConstructor
+public class StatsController {
+    private final StatsService statsService;
+
+    @GetMapping("/staffing")
+    public StaffingStatsResponse getStaffing() {
+        return statsService.getStaffing();
+    }
+}
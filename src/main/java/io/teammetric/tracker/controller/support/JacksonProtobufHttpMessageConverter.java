@@ -0,0 +1,170 @@
+package io.teammetric.tracker.controller.support;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.protobuf.ProtobufMapper;
+import com.fasterxml.jackson.dataformat.protobuf.schema.NativeProtobufSchema;
+import com.fasterxml.jackson.dataformat.protobuf.schema.ProtobufSchemaLoader;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Reads and writes {@code application/x-protobuf} bodies for the response records that have a message of the same
+ * name in {@code proto/tracker.proto}. Jackson encodes the records directly, so no generated protobuf classes are
+ * needed on this side. A collection is a sequence of length-delimited messages; other types are left to the
+ * remaining converters, which makes protobuf not acceptable (406) for them.
+ */
+public class JacksonProtobufHttpMessageConverter extends AbstractGenericHttpMessageConverter<Object> {
+    public static final String APPLICATION_PROTOBUF_VALUE = "application/x-protobuf";
+    public static final MediaType APPLICATION_PROTOBUF = MediaType.parseMediaType(APPLICATION_PROTOBUF_VALUE);
+
+    static final String SCHEMA_LOCATION = "proto/tracker.proto";
+
+    private final Map<Class<?>, Codec> codecs;
+
+    public JacksonProtobufHttpMessageConverter(Collection<Class<?>> messageTypes) {
+        super(APPLICATION_PROTOBUF);
+
+        NativeProtobufSchema schema = loadSchema();
+        ProtobufMapper mapper = new ProtobufMapper();
+        this.codecs = messageTypes.stream().collect(Collectors.toUnmodifiableMap(Function.identity(), type -> {
+            if (!schema.hasMessageType(type.getSimpleName())) {
+                throw new IllegalArgumentException("No message " + type.getSimpleName() + " in " + SCHEMA_LOCATION);
+            }
+            return new Codec(mapper.writerFor(type).with(schema.forType(type.getSimpleName())),
+                    mapper.readerFor(type).with(schema.forType(type.getSimpleName())));
+        }));
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return codecs.containsKey(clazz) || Collection.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+        return codecOf(ResolvableType.forType(type)) != null && canRead(mediaType);
+    }
+
+    @Override
+    public boolean canWrite(Type type, Class<?> clazz, MediaType mediaType) {
+        ResolvableType resolvableType = type != null ? ResolvableType.forType(type) : ResolvableType.forClass(clazz);
+        return codecOf(resolvableType) != null && canWrite(mediaType);
+    }
+
+    @Override
+    protected void writeInternal(Object body, Type type, HttpOutputMessage outputMessage) throws IOException {
+        OutputStream output = outputMessage.getBody();
+        if (body instanceof Collection<?> items) {
+            for (Object item : items) {
+                if (item == null) {
+                    continue;
+                }
+                byte[] message = codecs.get(item.getClass()).writer().writeValueAsBytes(item);
+                writeVarint(output, message.length);
+                output.write(message);
+            }
+        } else {
+            codecs.get(body.getClass()).writer().writeValue(output, body);
+        }
+    }
+
+    @Override
+    public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage) throws IOException {
+        ResolvableType resolvableType = ResolvableType.forType(type);
+        Codec codec = codecOf(resolvableType);
+        InputStream input = inputMessage.getBody();
+        if (resolvableType.getRawClass() != null && !Collection.class.isAssignableFrom(resolvableType.getRawClass())) {
+            return codec.reader().readValue(input.readAllBytes());
+        }
+
+        List<Object> items = new ArrayList<>();
+        int length;
+        while ((length = readVarint(input)) >= 0) {
+            byte[] message = input.readNBytes(length);
+            if (message.length < length) {
+                throw new HttpMessageNotReadableException("Truncated protobuf message", inputMessage);
+            }
+            items.add(codec.reader().readValue(message));
+        }
+        return items;
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) throws IOException {
+        return read(clazz, null, inputMessage);
+    }
+
+    /**
+     * The codec of the type itself, or of the element type of a collection.
+     */
+    private Codec codecOf(ResolvableType type) {
+        Class<?> rawClass = type.getRawClass();
+        if (rawClass == null) {
+            return null;
+        }
+        if (Collection.class.isAssignableFrom(rawClass)) {
+            return codecs.get(type.asCollection().resolveGeneric(0));
+        }
+
+        return codecs.get(rawClass);
+    }
+
+    private static NativeProtobufSchema loadSchema() {
+        try (InputStream schema = new ClassPathResource(SCHEMA_LOCATION).getInputStream()) {
+            return ProtobufSchemaLoader.std.loadNative(schema, true);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot load " + SCHEMA_LOCATION, e);
+        }
+    }
+
+    private static void writeVarint(OutputStream output, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            output.write((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        output.write(value);
+    }
+
+    /**
+     * @return the value, or -1 at the end of the stream
+     */
+    private static int readVarint(InputStream input) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            int b = input.read();
+            if (b < 0) {
+                if (shift == 0) {
+                    return -1;
+                }
+                throw new EOFException("Truncated protobuf length prefix");
+            }
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed protobuf length prefix");
+    }
+
+    private record Codec(ObjectWriter writer, ObjectReader reader) {
+    }
+}
@@ -0,0 +1,45 @@
+package io.teammetric.tracker.controller.support;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+
+/**
+ * Writes items to the response as newline-delimited JSON while the producer is still reading them,
+ * so nothing is collected into a list first.
+ */
+@Component
+@RequiredArgsConstructor
+public class NdjsonStreamer {
+    private final ObjectMapper objectMapper;
+
+    public <T> StreamingResponseBody stream(Consumer<Consumer<T>> producer) {
+        ObjectWriter writer = objectMapper.writer()
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .withRootValueSeparator("");
+
+        return outputStream -> {
+            try (JsonGenerator generator = writer.createGenerator(outputStream)) {
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                producer.accept(item -> writeLine(writer, generator, item));
+            }
+        };
+    }
+
+    private static void writeLine(ObjectWriter writer, JsonGenerator generator, Object item) {
+        try {
+            writer.writeValue(generator, item);
+            generator.writeRaw('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package io.teammetric.tracker.controller.support;
+
+public final class VersionETags {
+
+    private VersionETags() {
+    }
+
+    /**
+     * The same version is served as JSON, CBOR or protobuf, gzipped or not, so the tag only promises equivalent
+     * bodies. Tomcat also never compresses a response that carries a strong ETag.
+     */
+    public static String weak(String versionTag) {
+        return "W/\"" + versionTag + "\"";
+    }
+}
@@ -0,0 +1,7 @@
+package io.teammetric.tracker.diagnostics;
+
+public class QueryBudgetExceededException extends RuntimeException {
+    public QueryBudgetExceededException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,21 @@
+package io.teammetric.tracker.diagnostics;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Per-request limits on the SQL a single HTTP request may issue.
+ *
+ * @param enabled               count statements per request at all; off removes the inspector and the interceptor
+ * @param maxStatements         statements allowed per request
+ * @param maxRepeatedStatements how often the same statement shape may run within a request before it counts as N+1
+ * @param failOnViolation       throw {@link QueryBudgetExceededException} instead of logging a warning
+ */
+@ConfigurationProperties("tracker.query-budget")
+public record QueryBudgetProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("25") int maxStatements,
+        @DefaultValue("5") int maxRepeatedStatements,
+        @DefaultValue("false") boolean failOnViolation
+) {
+}
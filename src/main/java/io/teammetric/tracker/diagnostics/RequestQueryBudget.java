@@ -0,0 +1,109 @@
+package io.teammetric.tracker.diagnostics;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * Counts the statements Hibernate prepares on the current thread between {@link #open} and {@link #close}.
+ * Statements are grouped by shape - the SQL with whitespace and IN-list arity normalized - so a lazy association
+ * loaded row by row shows up as one shape repeated many times. Sequence calls and the inserts, updates and deletes
+ * of flushed entities are not counted: ids come from a pooled sequence and the flush runs in JDBC batches, so they
+ * grow with the rows a request writes, one per batch, rather than with lazy loading.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class RequestQueryBudget implements StatementInspector {
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern PARAMETER_LIST = Pattern.compile("\\?(\\s*,\\s*\\?)+");
+    private static final Pattern UNBUDGETED = Pattern.compile(
+            "(?i)select next value for .*|select nextval\\(.*|insert into .* values ?\\(.*"
+                    + "|(update|delete from) .* where id=\\? and version=\\?");
+
+    private final QueryBudgetProperties properties;
+    private final ThreadLocal<Scope> current = new ThreadLocal<>();
+
+    public void open(String endpoint) {
+        current.set(new Scope(endpoint));
+    }
+
+    public void close() {
+        Scope scope = current.get();
+        current.remove();
+
+        if (scope != null && !properties.failOnViolation()) {
+            scope.violation(properties).ifPresent(violation -> log.warn("Query budget exceeded: {}", violation));
+        }
+    }
+
+    /**
+     * Drops the current scope without evaluating it, e.g. when the response continues on another thread.
+     */
+    public void discard() {
+        current.remove();
+    }
+
+    @Override
+    public String inspect(String sql) {
+        Scope scope = current.get();
+        if (scope != null) {
+            String shape = shapeOf(sql);
+            if (UNBUDGETED.matcher(shape).matches()) {
+                return sql;
+            }
+
+            scope.record(shape);
+            if (properties.failOnViolation()) {
+                scope.violation(properties).ifPresent(violation -> {
+                    throw new QueryBudgetExceededException(violation);
+                });
+            }
+        }
+
+        return sql;
+    }
+
+    static String shapeOf(String sql) {
+        String collapsed = WHITESPACE.matcher(sql.strip()).replaceAll(" ");
+        return PARAMETER_LIST.matcher(collapsed).replaceAll("?, ...");
+    }
+
+    private static final class Scope {
+        private final String endpoint;
+        private final Map<String, Integer> shapes = new HashMap<>();
+        private int statements;
+        private String mostRepeated;
+        private int mostRepeatedCount;
+
+        private Scope(String endpoint) {
+            this.endpoint = endpoint;
+        }
+
+        private void record(String shape) {
+            statements++;
+            int count = shapes.merge(shape, 1, Integer::sum);
+            if (count > mostRepeatedCount) {
+                mostRepeated = shape;
+                mostRepeatedCount = count;
+            }
+        }
+
+        private Optional<String> violation(QueryBudgetProperties properties) {
+            if (mostRepeatedCount > properties.maxRepeatedStatements()) {
+                return Optional.of("%s ran the same statement %d times (limit %d, %d statements in total): %s".formatted(
+                        endpoint, mostRepeatedCount, properties.maxRepeatedStatements(), statements, mostRepeated));
+            }
+            if (statements > properties.maxStatements()) {
+                return Optional.of("%s ran %d statements (budget %d), most repeated %d times: %s".formatted(
+                        endpoint, statements, properties.maxStatements(), mostRepeatedCount, mostRepeated));
+            }
+
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package io.teammetric.tracker.diagnostics;
+
+import java.util.List;
+import java.util.Map;
+
+public record StartupReport(double totalMillis, int recordedSteps, List<Step> steps) {
+
+    /**
+     * @param totalMillis time from the start to the end of the step, including nested steps
+     * @param selfMillis  {@code totalMillis} minus the nested steps, i.e. the time spent in the step itself
+     */
+    public record Step(String name, Map<String, String> tags, double totalMillis, double selfMillis) {
+    }
+}
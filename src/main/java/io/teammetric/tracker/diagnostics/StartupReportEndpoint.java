@@ -0,0 +1,73 @@
+package io.teammetric.tracker.diagnostics;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline.TimelineEvent;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.lang.Nullable;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The startup timeline of {@code /actuator/startup}, ranked by self time: a bean that mostly waits for its
+ * dependencies to be created ranks below them instead of above.
+ */
+@Endpoint(id = "startupreport")
+@RequiredArgsConstructor
+public class StartupReportEndpoint {
+    private static final int DEFAULT_LIMIT = 30;
+
+    private final BufferingApplicationStartup applicationStartup;
+
+    @ReadOperation
+    public StartupReport report(@Nullable Integer limit) {
+        if (limit != null && limit < 1) {
+            throw new InvalidEndpointRequestException("Limit must be positive, got " + limit, "Invalid limit");
+        }
+        StartupTimeline timeline = applicationStartup.getBufferedTimeline();
+        List<TimelineEvent> events = timeline.getEvents();
+
+        Map<Long, Duration> nested = new HashMap<>();
+        Instant end = timeline.getStartTime();
+        for (TimelineEvent event : events) {
+            Long parentId = event.getStartupStep().getParentId();
+            if (parentId != null) {
+                nested.merge(parentId, event.getDuration(), Duration::plus);
+            }
+            if (event.getEndTime().isAfter(end)) {
+                end = event.getEndTime();
+            }
+        }
+
+        List<StartupReport.Step> steps = events.stream()
+                .map(event -> toStep(event, nested.getOrDefault(event.getStartupStep().getId(), Duration.ZERO)))
+                .sorted(Comparator.comparingDouble(StartupReport.Step::selfMillis).reversed())
+                .limit(limit != null ? limit : DEFAULT_LIMIT)
+                .toList();
+
+        return new StartupReport(millis(Duration.between(timeline.getStartTime(), end)), events.size(), steps);
+    }
+
+    private static StartupReport.Step toStep(TimelineEvent event, Duration nested) {
+        StartupStep step = event.getStartupStep();
+        Map<String, String> tags = new LinkedHashMap<>();
+        step.getTags().forEach(tag -> tags.put(tag.getKey(), tag.getValue()));
+
+        return new StartupReport.Step(step.getName(), tags,
+                millis(event.getDuration()), millis(event.getDuration().minus(nested)));
+    }
+
+    private static double millis(Duration duration) {
+        return Math.round(duration.toNanos() / 1_000.0) / 1_000.0;
+    }
+}
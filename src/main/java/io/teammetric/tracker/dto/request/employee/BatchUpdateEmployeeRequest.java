@@ -0,0 +1,16 @@
+package io.teammetric.tracker.dto.request.employee;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import lombok.Builder;
+
+@Builder
+public record BatchUpdateEmployeeRequest(
+        @NotNull(message = "Employee id cannot be empty")
+        Long id,
+
+        @NotNull(message = "Employee data cannot be empty")
+        @Valid
+        UpdateEmployeeRequest employee
+) {
+}
@@ -0,0 +1,26 @@
+package io.teammetric.tracker.dto.request.employee;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+public record EmployeeBatchRequest(
+        @Size(max = 1000, message = "Batch cannot contain more than 1000 new employees")
+        List<@Valid @NotNull CreateEmployeeRequest> create,
+
+        @Size(max = 1000, message = "Batch cannot contain more than 1000 updates")
+        List<@Valid @NotNull BatchUpdateEmployeeRequest> update
+) {
+    public EmployeeBatchRequest {
+        if (create == null) {
+            create = List.of();
+        }
+        if (update == null) {
+            update = List.of();
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package io.teammetric.tracker.dto.request.employee;
+
+/**
+ * One line of an import file, bound by header name. The project is referenced by its name.
+ */
+public record EmployeeCsvRow(
+        String firstName,
+        String lastName,
+        String middleName,
+        String username,
+        String email,
+        String project
+) {
+}
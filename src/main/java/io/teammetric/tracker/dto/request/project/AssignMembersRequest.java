@@ -0,0 +1,23 @@
+package io.teammetric.tracker.dto.request.project;
+
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+public record AssignMembersRequest(
+        @Size(max = 10_000, message = "Cannot assign more than 10000 employees at once")
+        List<@NotNull Long> employeeIds,
+
+        Long fromProjectId
+) {
+    @AssertTrue(message = "Either employeeIds or fromProjectId must be specified")
+    public boolean isSelectionSpecified() {
+        boolean hasEmployeeIds = employeeIds != null && !employeeIds.isEmpty();
+
+        return hasEmployeeIds != (fromProjectId != null);
+    }
+}
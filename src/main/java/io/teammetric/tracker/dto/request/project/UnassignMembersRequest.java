@@ -0,0 +1,16 @@
+package io.teammetric.tracker.dto.request.project;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+public record UnassignMembersRequest(
+        @NotEmpty(message = "Employee ids cannot be empty")
+        @Size(max = 10_000, message = "Cannot unassign more than 10000 employees at once")
+        List<@NotNull Long> employeeIds
+) {
+}
@@ -0,0 +1,15 @@
+package io.teammetric.tracker.dto.response.cache;
+
+import lombok.Builder;
+
+@Builder
+public record CacheStatsResponse(
+        String name,
+        long size,
+        long hitCount,
+        long missCount,
+        double hitRate,
+        long evictionCount,
+        long invalidationCount
+) {
+}
@@ -0,0 +1,17 @@
+package io.teammetric.tracker.dto.response.change;
+
+import io.teammetric.tracker.entity.ChangeEvent.AggregateType;
+import io.teammetric.tracker.entity.ChangeEvent.ChangeType;
+import lombok.Builder;
+
+import java.time.Instant;
+
+@Builder
+public record ChangeEventResponse(
+        Long id,
+        AggregateType aggregateType,
+        Long aggregateId,
+        ChangeType changeType,
+        Instant occurredAt
+) {
+}
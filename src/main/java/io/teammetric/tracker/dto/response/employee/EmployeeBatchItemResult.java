@@ -0,0 +1,22 @@
+package io.teammetric.tracker.dto.response.employee;
+
+import lombok.Builder;
+
+@Builder
+public record EmployeeBatchItemResult(
+        Operation operation,
+        int index,
+        Long id,
+        Status status,
+        String error
+) {
+    public enum Operation {
+        CREATE,
+        UPDATE
+    }
+
+    public enum Status {
+        SUCCEEDED,
+        FAILED
+    }
+}
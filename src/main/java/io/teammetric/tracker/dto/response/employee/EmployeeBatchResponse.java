@@ -0,0 +1,18 @@
+package io.teammetric.tracker.dto.response.employee;
+
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+public record EmployeeBatchResponse(
+        int succeeded,
+        int failed,
+        List<EmployeeBatchItemResult> results
+) {
+    public EmployeeBatchResponse {
+        if (results == null) {
+            results = List.of();
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package io.teammetric.tracker.dto.response.employee;
+
+/**
+ * @param row data row of the file, starting at 1 after the header
+ */
+public record EmployeeImportError(
+        long row,
+        String error
+) {
+}
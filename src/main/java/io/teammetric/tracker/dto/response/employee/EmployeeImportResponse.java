@@ -0,0 +1,21 @@
+package io.teammetric.tracker.dto.response.employee;
+
+import lombok.Builder;
+
+import java.util.List;
+
+/**
+ * @param errors the first rejected rows in file order, at most {@code EmployeeImportService.MAX_REPORTED_ERRORS}
+ */
+@Builder
+public record EmployeeImportResponse(
+        long imported,
+        long rejected,
+        List<EmployeeImportError> errors
+) {
+    public EmployeeImportResponse {
+        if (errors == null) {
+            errors = List.of();
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package io.teammetric.tracker.dto.response.employee;
+
+import lombok.Builder;
+
+@Builder
+public record EmployeePrefixIndexStatsResponse(
+        long employees,
+        long terms,
+        long pendingEmployees,
+        long estimatedBytes,
+        long bytesPerEmployee
+) {
+}
@@ -1,7 +1,12 @@
 package io.teammetric.tracker.dto.response.employee;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.Builder;
 
+/**
+ * @param versionTag version, revision and project version of the state this was mapped from; cached along with the
+ *                   body so the ETag always describes the body it is served with
+ */
 @Builder
 public record EmployeeResponse(
         Long id,
@@ -11,6 +16,7 @@ public record EmployeeResponse(
         String username,
         String email,
         Long projectId,
-        String projectName
+        String projectName,
+        @JsonIgnore String versionTag
 ) {
 }
\ No newline at end of file
@@ -0,0 +1,13 @@
+package io.teammetric.tracker.dto.response.employee;
+
+import lombok.Builder;
+
+@Builder
+public record EmployeeSuggestionResponse(
+        Long id,
+        String username,
+        String firstName,
+        String lastName,
+        String email
+) {
+}
@@ -0,0 +1,17 @@
+package io.teammetric.tracker.dto.response.page;
+
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+public record CursorPageResponse<T>(
+        List<T> items,
+        String nextCursor
+) {
+    public CursorPageResponse {
+        if (items == null) {
+            items = List.of();
+        }
+    }
+}
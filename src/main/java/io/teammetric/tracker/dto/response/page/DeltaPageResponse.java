@@ -0,0 +1,22 @@
+package io.teammetric.tracker.dto.response.page;
+
+import lombok.Builder;
+
+import java.util.List;
+
+/**
+ * @param nextToken where the next sync starts; returned even when nothing changed, so clients always store it
+ * @param hasMore   more changes are ready right now, fetch again with {@code nextToken}
+ */
+@Builder
+public record DeltaPageResponse<T>(
+        List<T> items,
+        String nextToken,
+        boolean hasMore
+) {
+    public DeltaPageResponse {
+        if (items == null) {
+            items = List.of();
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package io.teammetric.tracker.dto.response.project;
+
+import lombok.Builder;
+
+@Builder
+public record MembershipChangeResponse(
+        Long projectId,
+        int affected
+) {
+}
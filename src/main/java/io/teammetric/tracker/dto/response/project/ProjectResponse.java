@@ -1,16 +1,22 @@
 package io.teammetric.tracker.dto.response.project;
 
 import io.teammetric.tracker.dto.response.employee.EmployeeResponse;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.Builder;
 
 import java.util.List;
 
+/**
+ * @param versionTag version and revision of the state this was mapped from, see {@link EmployeeResponse}
+ */
 @Builder
 public record ProjectResponse(
         Long id,
         String name,
         String description,
-        List<EmployeeResponse> employees
+        int employeeCount,
+        List<EmployeeResponse> employees,
+        @JsonIgnore String versionTag
 ) {
     public ProjectResponse {
         if (employees == null) {
@@ -0,0 +1,12 @@
+package io.teammetric.tracker.dto.response.project;
+
+import lombok.Builder;
+
+@Builder
+public record ProjectSummaryResponse(
+        Long id,
+        String name,
+        String description,
+        long employeeCount
+) {
+}
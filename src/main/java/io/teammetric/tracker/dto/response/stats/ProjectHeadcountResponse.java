@@ -0,0 +1,11 @@
+package io.teammetric.tracker.dto.response.stats;
+
+import lombok.Builder;
+
+@Builder
+public record ProjectHeadcountResponse(
+        Long projectId,
+        String projectName,
+        long headcount
+) {
+}
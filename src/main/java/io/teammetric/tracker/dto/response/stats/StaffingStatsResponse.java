@@ -0,0 +1,19 @@
+package io.teammetric.tracker.dto.response.stats;
+
+import lombok.Builder;
+
+import java.util.List;
+
+/**
+ * @param projects     headcount of every project with at least one member, by project id
+ * @param largestTeams the same entries ordered by headcount, largest first
+ */
+@Builder
+public record StaffingStatsResponse(
+        long totalEmployees,
+        long assignedEmployees,
+        long unassignedEmployees,
+        List<ProjectHeadcountResponse> projects,
+        List<ProjectHeadcountResponse> largestTeams
+) {
+}
@@ -0,0 +1,50 @@
+package io.teammetric.tracker.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * Outbox row describing one committed change, appended by {@code ChangeOutbox}. The only later write is the
+ * position {@code ChangeEventSequencer} stamps once the row has committed, which orders the stream.
+ */
+@Entity
+@Table(name = "change_events")
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChangeEvent {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "aggregate_type", nullable = false, length = 16)
+    private AggregateType aggregateType;
+
+    @Column(name = "aggregate_id", nullable = false)
+    private Long aggregateId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "change_type", nullable = false, length = 16)
+    private ChangeType changeType;
+
+    @Column(name = "occurred_at", nullable = false)
+    private Instant occurredAt;
+
+    @Column(name = "position", unique = true)
+    private Long position;
+
+    public enum AggregateType {
+        EMPLOYEE,
+        PROJECT
+    }
+
+    public enum ChangeType {
+        CREATED,
+        UPDATED
+    }
+}
@@ -2,17 +2,33 @@ package io.teammetric.tracker.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.CurrentTimestamp;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.SourceType;
+import org.hibernate.generator.EventType;
+
+import java.time.Instant;
 
 @Entity
 @Table(name = "employees")
+@DynamicUpdate
 @Getter
 @Setter
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class Employee {
+    public static final String PROJECT_FOREIGN_KEY = "fk_employees_project";
+    public static final int ID_ALLOCATION_SIZE = 50;
+
+    /**
+     * Drawn from a pooled sequence so inserts can be batched. Databases that still have identity ids get the sequence
+     * moved past them by migration V10, so no manual step is needed on deploy.
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "employees_seq")
+    @SequenceGenerator(name = "employees_seq", sequenceName = "employees_seq", allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
     @Column(name = "first_name", nullable = false)
@@ -31,6 +47,29 @@ public class Employee {
     private String email;
 
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "project_id")
+    @JoinColumn(name = "project_id", foreignKey = @ForeignKey(name = PROJECT_FOREIGN_KEY))
     private Project project;
+
+    @Version
+    @ColumnDefault("0")
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    /**
+     * Bumped by the bulk membership updates in {@code EmployeeRepository} instead of the version, so they do not fail
+     * a concurrent entity update; part of the ETag together with the version.
+     */
+    @ColumnDefault("0")
+    @Column(name = "revision", nullable = false, insertable = false, updatable = false)
+    private long revision;
+
+    /**
+     * Stamped by the database clock: inserts take the column default, entity updates {@code localtimestamp} and the
+     * bulk updates in {@code EmployeeRepository} {@code statement_instant()}; delta sync reads the same clock. Left out
+     * of inserts so that they do not need the value read back and can still be batched.
+     */
+    @CurrentTimestamp(event = EventType.UPDATE, source = SourceType.DB)
+    @ColumnDefault("current_timestamp")
+    @Column(name = "updated_at", nullable = false, insertable = false)
+    private Instant updatedAt;
 }
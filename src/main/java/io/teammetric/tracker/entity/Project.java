@@ -2,7 +2,12 @@ package io.teammetric.tracker.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.CurrentTimestamp;
+import org.hibernate.annotations.SourceType;
+import org.hibernate.generator.EventType;
 
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -24,6 +29,39 @@ public class Project {
     @Column(name = "description")
     private String description;
 
+    /**
+     * Lost-update protection for entity writes only; roster changes move the {@link #revision} instead.
+     */
+    @Version
+    @ColumnDefault("0")
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    /**
+     * Bumped by every roster and count change in {@code ProjectRepository}, since {@code ProjectResponse} embeds the
+     * members; part of the ETag together with the version. Never written from the entity, like the count.
+     */
+    @ColumnDefault("0")
+    @Column(name = "revision", nullable = false, insertable = false, updatable = false)
+    private long revision;
+
+    /**
+     * Written only by the relative updates in {@code ProjectRepository}, never from the entity, so a stale copy
+     * cannot overwrite concurrent changes.
+     */
+    @ColumnDefault("0")
+    @Column(name = "employee_count", nullable = false, insertable = false, updatable = false)
+    private int employeeCount;
+
+    /**
+     * Like the revision, also moved by every roster and count change in {@code ProjectRepository}; stamped by the
+     * database clock like {@code Employee.updatedAt}.
+     */
+    @CurrentTimestamp(event = EventType.UPDATE, source = SourceType.DB)
+    @ColumnDefault("current_timestamp")
+    @Column(name = "updated_at", nullable = false, insertable = false)
+    private Instant updatedAt;
+
     @OneToMany(mappedBy = "project", cascade = CascadeType.ALL)
     @Builder.Default
     private List<Employee> employees = new ArrayList<>();
@@ -0,0 +1,11 @@
+package io.teammetric.tracker.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class ChangeStreamUnavailableException extends RuntimeException {
+    public ChangeStreamUnavailableException(String message) {
+        super(message);
+    }
+}
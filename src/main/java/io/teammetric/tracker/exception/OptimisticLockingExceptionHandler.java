@@ -0,0 +1,23 @@
+package io.teammetric.tracker.exception;
+
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import java.io.IOException;
+
+/**
+ * Two concurrent updates of the same project or employee: the one that commits second fails its version check instead
+ * of silently overwriting the first. The client gets a 409 and can retry, through the same error response as the
+ * {@code @ResponseStatus} exceptions.
+ */
+@RestControllerAdvice
+public class OptimisticLockingExceptionHandler {
+
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public void handleOptimisticLockingFailure(HttpServletResponse response) throws IOException {
+        response.sendError(HttpStatus.CONFLICT.value());
+    }
+}
@@ -0,0 +1,20 @@
+package io.teammetric.tracker.mapper.change;
+
+import io.teammetric.tracker.dto.response.change.ChangeEventResponse;
+import io.teammetric.tracker.entity.ChangeEvent;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ChangeEventMapper {
+
+    public ChangeEventResponse toResponse(ChangeEvent changeEvent) {
+
+        return ChangeEventResponse.builder()
+                .id(changeEvent.getPosition())
+                .aggregateType(changeEvent.getAggregateType())
+                .aggregateId(changeEvent.getAggregateId())
+                .changeType(changeEvent.getChangeType())
+                .occurredAt(changeEvent.getOccurredAt())
+                .build();
+    }
+}
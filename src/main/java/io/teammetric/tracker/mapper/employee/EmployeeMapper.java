@@ -2,6 +2,7 @@ package io.teammetric.tracker.mapper.employee;
 
 import io.teammetric.tracker.dto.request.employee.CreateEmployeeRequest;
 import io.teammetric.tracker.dto.response.employee.EmployeeResponse;
+import io.teammetric.tracker.dto.response.employee.EmployeeSuggestionResponse;
 import io.teammetric.tracker.entity.Employee;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
@@ -22,6 +23,19 @@ public class EmployeeMapper {
                 .email(employee.getEmail())
                 .projectId(hasProject ? employee.getProject().getId() : null)
                 .projectName(hasProject ? employee.getProject().getName() : null)
+                .versionTag(employee.getVersion() + "." + employee.getRevision() + "."
+                        + (hasProject ? employee.getProject().getVersion() : "-"))
+                .build();
+    }
+
+    public EmployeeSuggestionResponse toSuggestion(Employee employee) {
+
+        return EmployeeSuggestionResponse.builder()
+                .id(employee.getId())
+                .username(employee.getUsername())
+                .firstName(employee.getFirstName())
+                .lastName(employee.getLastName())
+                .email(employee.getEmail())
                 .build();
     }
 
@@ -24,7 +24,9 @@ public class ProjectMapper {
                 .id(project.getId())
                 .name(project.getName())
                 .description(project.getDescription())
+                .employeeCount(project.getEmployeeCount())
                 .employees(employeeResponseList)
+                .versionTag(project.getVersion() + "." + project.getRevision())
                 .build();
     }
 
@@ -0,0 +1,62 @@
+package io.teammetric.tracker.pagination;
+
+import io.teammetric.tracker.dto.response.page.CursorPageResponse;
+import io.teammetric.tracker.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Keyset pagination helpers. A cursor is the id of the last row of the previous page,
+ * encoded so that clients treat it as an opaque token.
+ */
+public final class CursorPages {
+    private static final long FIRST_PAGE = 0L;
+
+    private CursorPages() {
+    }
+
+    public static String encode(long id) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(Long.toString(id).getBytes(StandardCharsets.US_ASCII));
+    }
+
+    public static long decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return FIRST_PAGE;
+        }
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.US_ASCII);
+            long id = Long.parseLong(decoded);
+            if (id < FIRST_PAGE) {
+                throw new InvalidCursorException("Cursor is not valid: " + cursor);
+            }
+            return id;
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException("Cursor is not valid: " + cursor);
+        }
+    }
+
+    /**
+     * Builds a page from rows fetched with {@code limit + 1}: the extra row only signals
+     * that another page exists and is not returned.
+     */
+    public static <E, R> CursorPageResponse<R> toPage(List<E> rows, int limit,
+                                                      Function<E, R> mapper, Function<E, Long> idExtractor) {
+        boolean hasNext = rows.size() > limit;
+        List<E> pageRows = hasNext ? rows.subList(0, limit) : rows;
+
+        List<R> items = pageRows.stream()
+                .map(mapper)
+                .toList();
+        String nextCursor = hasNext ? encode(idExtractor.apply(pageRows.get(pageRows.size() - 1))) : null;
+
+        return CursorPageResponse.<R>builder()
+                .items(items)
+                .nextCursor(nextCursor)
+                .build();
+    }
+}
@@ -0,0 +1,71 @@
+package io.teammetric.tracker.pagination;
+
+import io.teammetric.tracker.dto.response.page.DeltaPageResponse;
+import io.teammetric.tracker.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Delta sync helpers. A token is the modification time and id of the last row a client received; time is kept
+ * in microseconds, the precision of the {@code updated_at} columns.
+ */
+public final class DeltaPages {
+    public static final Position INITIAL = new Position(Instant.EPOCH, 0L);
+
+    private DeltaPages() {
+    }
+
+    public record Position(Instant updatedAt, long id) {
+    }
+
+    public static String encode(Position position) {
+        String token = ChronoUnit.MICROS.between(Instant.EPOCH, position.updatedAt()) + ":" + position.id();
+
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(token.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    public static Position decode(String token) {
+        if (token == null || token.isBlank()) {
+            return INITIAL;
+        }
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.US_ASCII);
+            int separator = decoded.indexOf(':');
+            long micros = Long.parseLong(decoded.substring(0, separator));
+            long id = Long.parseLong(decoded.substring(separator + 1));
+            if (micros < 0 || id < 0) {
+                throw new InvalidCursorException("Token is not valid: " + token);
+            }
+            return new Position(Instant.EPOCH.plus(micros, ChronoUnit.MICROS), id);
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new InvalidCursorException("Token is not valid: " + token);
+        }
+    }
+
+    /**
+     * Builds a page from rows fetched with {@code limit + 1}. Without rows the client keeps its position.
+     */
+    public static <E, R> DeltaPageResponse<R> toPage(List<E> rows, int limit, Position since,
+                                                     Function<E, R> mapper, Function<E, Position> positionExtractor) {
+        boolean hasMore = rows.size() > limit;
+        List<E> pageRows = hasMore ? rows.subList(0, limit) : rows;
+
+        List<R> items = pageRows.stream()
+                .map(mapper)
+                .toList();
+        Position next = pageRows.isEmpty() ? since : positionExtractor.apply(pageRows.get(pageRows.size() - 1));
+
+        return DeltaPageResponse.<R>builder()
+                .items(items)
+                .nextToken(encode(next))
+                .hasMore(hasMore)
+                .build();
+    }
+}
@@ -0,0 +1,25 @@
+package io.teammetric.tracker.pagination;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * @param settleWindow how old a modification has to be, by the database clock, before delta sync returns it.
+ *                     {@code updated_at} is stamped before commit, so a slower transaction can still commit a row
+ *                     behind a token that was already handed out; the window must exceed the longest write
+ *                     transaction. The queries take it in whole seconds, so anything finer is rejected rather than
+ *                     truncated.
+ */
+@ConfigurationProperties("tracker.delta-sync")
+public record DeltaSyncProperties(
+        @DefaultValue("30s") Duration settleWindow
+) {
+    public DeltaSyncProperties {
+        if (settleWindow.isNegative() || settleWindow.getNano() != 0) {
+            throw new IllegalArgumentException(
+                    "tracker.delta-sync.settle-window must be a non-negative whole number of seconds: " + settleWindow);
+        }
+    }
+}
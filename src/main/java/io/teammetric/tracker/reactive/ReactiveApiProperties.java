@@ -0,0 +1,16 @@
+package io.teammetric.tracker.reactive;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * @param port     port of the reactive server, separate from the servlet one; 0 picks a free port
+ * @param poolSize maximum number of pooled R2DBC connections
+ */
+@ConfigurationProperties("tracker.reactive")
+public record ReactiveApiProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("8081") int port,
+        @DefaultValue("20") int poolSize
+) {
+}
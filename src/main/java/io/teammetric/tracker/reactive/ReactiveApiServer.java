@@ -0,0 +1,68 @@
+package io.teammetric.tracker.reactive;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.http.server.reactive.HttpHandler;
+import org.springframework.http.server.reactive.ReactorHttpHandlerAdapter;
+import org.springframework.web.reactive.function.server.HandlerStrategies;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+/**
+ * Runs the reactive read API next to the servlet application: a child context with WebFlux and R2DBC, served by
+ * Reactor Netty on its own port. The child sees the parent's beans (e.g. the shared {@code ObjectMapper}), while
+ * its WebFlux and R2DBC infrastructure stays invisible to the servlet side.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class ReactiveApiServer implements SmartLifecycle {
+    private final ApplicationContext parent;
+    private final ReactiveApiProperties properties;
+
+    private AnnotationConfigApplicationContext context;
+    private DisposableServer server;
+
+    @Override
+    public void start() {
+        context = new AnnotationConfigApplicationContext();
+        context.setParent(parent);
+        context.register(ReactiveDataConfiguration.class, ReactiveWebConfiguration.class);
+        context.refresh();
+
+        @SuppressWarnings("unchecked")
+        RouterFunction<ServerResponse> routes = context.getBean(RouterFunction.class);
+        HttpHandler httpHandler = RouterFunctions.toHttpHandler(routes, context.getBean(HandlerStrategies.class));
+        server = HttpServer.create()
+                .port(properties.port())
+                .handle(new ReactorHttpHandlerAdapter(httpHandler))
+                .bindNow();
+        log.info("Reactive read API started on port {}", server.port());
+    }
+
+    @Override
+    public void stop() {
+        if (server != null) {
+            server.disposeNow();
+            server = null;
+        }
+        if (context != null) {
+            context.close();
+            context = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return server != null;
+    }
+
+    public int getPort() {
+        return server.port();
+    }
+}
@@ -0,0 +1,45 @@
+package io.teammetric.tracker.reactive;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactory;
+import io.teammetric.tracker.reactive.repository.ReactiveEmployeeRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.r2dbc.ConnectionFactoryBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.env.Environment;
+import org.springframework.data.r2dbc.config.AbstractR2dbcConfiguration;
+import org.springframework.data.r2dbc.repository.config.EnableR2dbcRepositories;
+import org.springframework.util.StringUtils;
+
+/**
+ * R2DBC for the reactive API's child context, configured from the standard {@code spring.r2dbc.*} properties.
+ * Deliberately not a {@code @Configuration}: it must not be picked up by the servlet application's component scan.
+ */
+@EnableR2dbcRepositories(basePackageClasses = ReactiveEmployeeRepository.class)
+public class ReactiveDataConfiguration extends AbstractR2dbcConfiguration {
+    @Autowired
+    private Environment environment;
+
+    @Autowired
+    private ReactiveApiProperties properties;
+
+    @Override
+    @Bean(destroyMethod = "dispose")
+    public ConnectionPool connectionFactory() {
+        ConnectionFactoryBuilder builder = ConnectionFactoryBuilder.withUrl(environment.getRequiredProperty("spring.r2dbc.url"));
+        String username = environment.getProperty("spring.r2dbc.username");
+        if (StringUtils.hasText(username)) {
+            builder.username(username);
+        }
+        String password = environment.getProperty("spring.r2dbc.password");
+        if (StringUtils.hasText(password)) {
+            builder.password(password);
+        }
+        ConnectionFactory connectionFactory = builder.build();
+
+        return new ConnectionPool(ConnectionPoolConfiguration.builder(connectionFactory)
+                .maxSize(properties.poolSize())
+                .build());
+    }
+}
@@ -0,0 +1,65 @@
+package io.teammetric.tracker.reactive;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.teammetric.tracker.reactive.handler.ReactiveEmployeeHandler;
+import io.teammetric.tracker.reactive.handler.ReactiveProjectHandler;
+import io.teammetric.tracker.reactive.repository.ReactiveEmployeeRepository;
+import io.teammetric.tracker.reactive.repository.ReactiveProjectRepository;
+import io.teammetric.tracker.reactive.service.ReactiveEmployeeService;
+import io.teammetric.tracker.reactive.service.ReactiveProjectService;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.web.reactive.function.server.HandlerStrategies;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import org.springframework.web.reactive.handler.WebFluxResponseStatusExceptionHandler;
+
+/**
+ * Functional WebFlux routes of the reactive read API. Neither {@code @RestController}s nor {@code @EnableWebFlux}:
+ * the servlet application would scan the former as blocking handlers, and the latter refuses to start next to
+ * Spring MVC. Not a {@code @Configuration} for the same reason as {@link ReactiveDataConfiguration}.
+ */
+public class ReactiveWebConfiguration {
+
+    @Bean
+    public ReactiveEmployeeService reactiveEmployeeService(ReactiveEmployeeRepository employeeRepository) {
+        return new ReactiveEmployeeService(employeeRepository);
+    }
+
+    @Bean
+    public ReactiveProjectService reactiveProjectService(ReactiveProjectRepository projectRepository,
+                                                        ReactiveEmployeeService employeeService) {
+        return new ReactiveProjectService(projectRepository, employeeService);
+    }
+
+    @Bean
+    public RouterFunction<ServerResponse> reactiveRoutes(ReactiveEmployeeService employeeService,
+                                                         ReactiveProjectService projectService) {
+        ReactiveEmployeeHandler employees = new ReactiveEmployeeHandler(employeeService);
+        ReactiveProjectHandler projects = new ReactiveProjectHandler(projectService);
+
+        return RouterFunctions.route()
+                .path("/api/reactive", api -> api
+                        .GET("/employees/{id}", employees::getById)
+                        .GET("/employees", employees::findAll)
+                        .GET("/projects/{id}", projects::getById)
+                        .GET("/projects", projects::findAll))
+                .build();
+    }
+
+    /**
+     * JSON as the servlet API writes it, and {@code @ResponseStatus} exceptions mapped to their status.
+     */
+    @Bean
+    public HandlerStrategies reactiveHandlerStrategies(ObjectMapper objectMapper) {
+        return HandlerStrategies.builder()
+                .codecs(codecs -> {
+                    codecs.defaultCodecs().jackson2JsonEncoder(new Jackson2JsonEncoder(objectMapper));
+                    codecs.defaultCodecs().jackson2JsonDecoder(new Jackson2JsonDecoder(objectMapper));
+                })
+                .exceptionHandler(new WebFluxResponseStatusExceptionHandler())
+                .build();
+    }
+}
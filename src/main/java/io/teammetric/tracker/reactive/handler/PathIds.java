@@ -0,0 +1,18 @@
+package io.teammetric.tracker.reactive.handler;
+
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.server.ServerWebInputException;
+
+final class PathIds {
+    private PathIds() {
+    }
+
+    static Long id(ServerRequest request) {
+        String id = request.pathVariable("id");
+        try {
+            return Long.valueOf(id);
+        } catch (NumberFormatException e) {
+            throw new ServerWebInputException("Invalid id: " + id);
+        }
+    }
+}
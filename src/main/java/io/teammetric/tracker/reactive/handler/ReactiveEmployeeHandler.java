@@ -0,0 +1,29 @@
+package io.teammetric.tracker.reactive.handler;
+
+import io.teammetric.tracker.dto.response.employee.EmployeeResponse;
+import io.teammetric.tracker.reactive.service.ReactiveEmployeeService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+@RequiredArgsConstructor
+public class ReactiveEmployeeHandler {
+    private final ReactiveEmployeeService employeeService;
+
+    public Mono<ServerResponse> getById(ServerRequest request) {
+
+        return employeeService.getById(PathIds.id(request))
+                .flatMap(employee -> ServerResponse.ok().bodyValue(employee));
+    }
+
+    /**
+     * {@code application/x-ndjson} streams one employee per line with backpressure; otherwise a JSON array.
+     */
+    public Mono<ServerResponse> findAll(ServerRequest request) {
+
+        return ServerResponse.ok()
+                .contentType(StreamingMediaTypes.negotiate(request))
+                .body(employeeService.findAll(), EmployeeResponse.class);
+    }
+}
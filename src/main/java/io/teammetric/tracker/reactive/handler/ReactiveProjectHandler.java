@@ -0,0 +1,26 @@
+package io.teammetric.tracker.reactive.handler;
+
+import io.teammetric.tracker.dto.response.project.ProjectResponse;
+import io.teammetric.tracker.reactive.service.ReactiveProjectService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+@RequiredArgsConstructor
+public class ReactiveProjectHandler {
+    private final ReactiveProjectService projectService;
+
+    public Mono<ServerResponse> getById(ServerRequest request) {
+
+        return projectService.getById(PathIds.id(request))
+                .flatMap(project -> ServerResponse.ok().bodyValue(project));
+    }
+
+    public Mono<ServerResponse> findAll(ServerRequest request) {
+
+        return ServerResponse.ok()
+                .contentType(StreamingMediaTypes.negotiate(request))
+                .body(projectService.findAll(), ProjectResponse.class);
+    }
+}
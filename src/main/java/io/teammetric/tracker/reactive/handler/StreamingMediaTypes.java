@@ -0,0 +1,15 @@
+package io.teammetric.tracker.reactive.handler;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.server.ServerRequest;
+
+final class StreamingMediaTypes {
+    private StreamingMediaTypes() {
+    }
+
+    static MediaType negotiate(ServerRequest request) {
+        return request.headers().accept().contains(MediaType.APPLICATION_NDJSON)
+                ? MediaType.APPLICATION_NDJSON
+                : MediaType.APPLICATION_JSON;
+    }
+}
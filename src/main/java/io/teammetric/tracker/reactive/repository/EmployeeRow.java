@@ -0,0 +1,21 @@
+package io.teammetric.tracker.reactive.repository;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.ReadOnlyProperty;
+import org.springframework.data.relational.core.mapping.Table;
+
+/**
+ * Read model of {@code employees} for the reactive API, joined with the project name.
+ */
+@Table("employees")
+public record EmployeeRow(
+        @Id Long id,
+        String firstName,
+        String lastName,
+        String middleName,
+        String username,
+        String email,
+        Long projectId,
+        @ReadOnlyProperty String projectName
+) {
+}
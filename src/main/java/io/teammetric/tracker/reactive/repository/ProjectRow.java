@@ -0,0 +1,13 @@
+package io.teammetric.tracker.reactive.repository;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+@Table("projects")
+public record ProjectRow(
+        @Id Long id,
+        String name,
+        String description,
+        int employeeCount
+) {
+}
@@ -0,0 +1,26 @@
+package io.teammetric.tracker.reactive.repository;
+
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+
+public interface ReactiveEmployeeRepository extends R2dbcRepository<EmployeeRow, Long> {
+    String SELECT_WITH_PROJECT = """
+            select e.id, e.first_name, e.last_name, e.middle_name, e.username, e.email, e.project_id,
+                   p.name as project_name
+            from employees e
+            left join projects p on p.id = e.project_id
+            """;
+
+    @Query(SELECT_WITH_PROJECT + "where e.id = :id")
+    Mono<EmployeeRow> findWithProjectById(Long id);
+
+    @Query(SELECT_WITH_PROJECT + "order by e.id")
+    Flux<EmployeeRow> findAllWithProject();
+
+    @Query(SELECT_WITH_PROJECT + "where e.project_id in (:projectIds) order by e.id")
+    Flux<EmployeeRow> findAllWithProjectByProjectIdIn(Collection<Long> projectIds);
+}
@@ -0,0 +1,6 @@
+package io.teammetric.tracker.reactive.repository;
+
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+
+public interface ReactiveProjectRepository extends R2dbcRepository<ProjectRow, Long> {
+}
@@ -0,0 +1,52 @@
+package io.teammetric.tracker.reactive.service;
+
+import io.teammetric.tracker.dto.response.employee.EmployeeResponse;
+import io.teammetric.tracker.exception.EntityNotFoundException;
+import io.teammetric.tracker.reactive.repository.EmployeeRow;
+import io.teammetric.tracker.reactive.repository.ReactiveEmployeeRepository;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+
+@RequiredArgsConstructor
+public class ReactiveEmployeeService {
+    private final ReactiveEmployeeRepository employeeRepository;
+
+    public Mono<EmployeeResponse> getById(Long id) {
+
+        return employeeRepository.findWithProjectById(id)
+                .map(this::toResponse)
+                .switchIfEmpty(Mono.error(() -> new EntityNotFoundException("Employee not found with id: " + id)));
+    }
+
+    /**
+     * Streams straight from the result set; rows are fetched as the client consumes them.
+     */
+    public Flux<EmployeeResponse> findAll() {
+
+        return employeeRepository.findAllWithProject()
+                .map(this::toResponse);
+    }
+
+    Flux<EmployeeResponse> findAllByProjectIds(Collection<Long> projectIds) {
+
+        return employeeRepository.findAllWithProjectByProjectIdIn(projectIds)
+                .map(this::toResponse);
+    }
+
+    private EmployeeResponse toResponse(EmployeeRow employee) {
+
+        return EmployeeResponse.builder()
+                .id(employee.id())
+                .firstName(employee.firstName())
+                .lastName(employee.lastName())
+                .middleName(employee.middleName())
+                .username(employee.username())
+                .email(employee.email())
+                .projectId(employee.projectId())
+                .projectName(employee.projectName())
+                .build();
+    }
+}
@@ -0,0 +1,65 @@
+package io.teammetric.tracker.reactive.service;
+
+import io.teammetric.tracker.dto.response.employee.EmployeeResponse;
+import io.teammetric.tracker.dto.response.project.ProjectResponse;
+import io.teammetric.tracker.exception.EntityNotFoundException;
+import io.teammetric.tracker.reactive.repository.ProjectRow;
+import io.teammetric.tracker.reactive.repository.ReactiveProjectRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class ReactiveProjectService {
+    static final int ROSTER_BATCH_SIZE = 100;
+
+    private final ReactiveProjectRepository projectRepository;
+    private final ReactiveEmployeeService employeeService;
+
+    public Mono<ProjectResponse> getById(Long id) {
+
+        return projectRepository.findById(id)
+                .switchIfEmpty(Mono.error(() -> new EntityNotFoundException("Project not found with id: " + id)))
+                .flatMap(project -> employeeService.findAllByProjectIds(List.of(id))
+                        .collectList()
+                        .map(employees -> toResponse(project, employees)));
+    }
+
+    /**
+     * Rosters are loaded for {@value #ROSTER_BATCH_SIZE} projects at a time, and the next batch is only requested
+     * once the client has taken the previous one.
+     */
+    public Flux<ProjectResponse> findAll() {
+
+        return projectRepository.findAll(Sort.by("id"))
+                .buffer(ROSTER_BATCH_SIZE)
+                .concatMap(this::withRosters);
+    }
+
+    private Flux<ProjectResponse> withRosters(List<ProjectRow> projects) {
+        List<Long> projectIds = projects.stream()
+                .map(ProjectRow::id)
+                .toList();
+
+        return employeeService.findAllByProjectIds(projectIds)
+                .collectMultimap(EmployeeResponse::projectId)
+                .flatMapIterable(rosters -> projects.stream()
+                        .map(project -> toResponse(project, rosters.getOrDefault(project.id(), List.of())))
+                        .toList());
+    }
+
+    private ProjectResponse toResponse(ProjectRow project, Collection<EmployeeResponse> employees) {
+
+        return ProjectResponse.builder()
+                .id(project.id())
+                .name(project.name())
+                .description(project.description())
+                .employeeCount(project.employeeCount())
+                .employees(List.copyOf(employees))
+                .build();
+    }
+}
@@ -0,0 +1,31 @@
+package io.teammetric.tracker.repository;
+
+import io.teammetric.tracker.entity.ChangeEvent;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+
+@Repository
+public interface ChangeEventRepository extends JpaRepository<ChangeEvent, Long> {
+
+    List<ChangeEvent> findByPositionGreaterThanOrderByPositionAsc(Long position, Limit limit);
+
+    @Query("select coalesce(max(e.position), 0) from ChangeEvent e")
+    long findLastPosition();
+
+    /**
+     * Position of the oldest retained event, or 0 when no event has a position yet.
+     */
+    @Query("select coalesce(min(e.position), 0) from ChangeEvent e")
+    long findFirstPosition();
+
+    @Modifying
+    @Query("delete from ChangeEvent e where e.occurredAt < :cutoff")
+    int deleteOccurredBefore(@Param("cutoff") Instant cutoff);
+}
@@ -0,0 +1,4 @@
+package io.teammetric.tracker.repository;
+
+public record EmployeeCountDrift(Long projectId, int storedCount, long actualCount) {
+}
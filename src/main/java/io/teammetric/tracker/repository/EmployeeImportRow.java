@@ -0,0 +1,17 @@
+package io.teammetric.tracker.repository;
+
+/**
+ * A staged line of an import file. Rows rejected while parsing carry their {@code error} and no id.
+ */
+public record EmployeeImportRow(
+        long rowNo,
+        Long id,
+        String firstName,
+        String lastName,
+        String middleName,
+        String username,
+        String email,
+        Long projectId,
+        String error
+) {
+}
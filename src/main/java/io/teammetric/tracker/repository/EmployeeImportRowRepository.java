@@ -0,0 +1,259 @@
+package io.teammetric.tracker.repository;
+
+import io.teammetric.tracker.dto.response.employee.EmployeeImportError;
+import io.teammetric.tracker.entity.Employee;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.postgresql.PGConnection;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.sql.Types;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * The {@code employee_import_rows} staging table behind the CSV import. Rows go in through {@code COPY} on
+ * PostgreSQL and through JDBC batches elsewhere (H2 in tests); everything after that is set-based SQL both
+ * databases understand, so a file is checked and merged in a fixed number of statements whatever its size. Staged
+ * rows are committed before the merge and have to be deleted by the caller, whether or not the import succeeds;
+ * rows of imports that died before that are left to {@link #deleteStagedBefore}.
+ */
+@Repository
+@RequiredArgsConstructor
+public class EmployeeImportRowRepository {
+    private static final String POSTGRES_NEXT_ID_BLOCKS =
+            "select nextval('employees_seq') from generate_series(1, ?)";
+    private static final String H2_NEXT_ID_BLOCKS = "select next value for employees_seq from system_range(1, ?)";
+    private static final String COLUMNS =
+            "import_id, row_no, id, first_name, last_name, middle_name, username, email, project_id, error";
+    private static final String COPY_SQL = "copy employee_import_rows (" + COLUMNS + ") from stdin (format csv)";
+    private static final String INSERT_SQL =
+            "insert into employee_import_rows (" + COLUMNS + ") values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final int BATCH_SIZE = 500;
+
+    /**
+     * Rejects rows whose username exists already or appeared on an earlier accepted row; the statement sees the
+     * errors as they were before it ran, so the first of several duplicates is kept. Written with {@code min} rather
+     * than a correlated {@code exists} on the row number, which H2 evaluates very slowly over uncommitted rows.
+     */
+    private static final String REJECT_TAKEN_USERNAMES = """
+            update employee_import_rows s
+            set error = 'Username is already taken: ' || s.username
+            where s.import_id = ? and s.error is null
+              and (exists (select 1 from employees e where e.username = s.username)
+                or s.row_no > (select min(t.row_no) from employee_import_rows t
+                               where t.import_id = s.import_id and t.username = s.username and t.error is null))
+            """;
+    private static final String REJECT_TAKEN_EMAILS = """
+            update employee_import_rows s
+            set error = 'Email is already taken: ' || s.email
+            where s.import_id = ? and s.error is null and s.email is not null
+              and (exists (select 1 from employees e where e.email = s.email)
+                or s.row_no > (select min(t.row_no) from employee_import_rows t
+                               where t.import_id = s.import_id and t.email = s.email and t.error is null))
+            """;
+    /**
+     * {@code updated_at} is stamped with the clock of the statement (see {@link StatementClockFunctionContributor})
+     * rather than left to the column default, which PostgreSQL evaluates at transaction start.
+     */
+    private static final String INSERT_ACCEPTED = """
+            insert into employees (id, first_name, last_name, middle_name, username, email, project_id, updated_at)
+            select id, first_name, last_name, middle_name, username, email, project_id, %s
+            from employee_import_rows
+            where import_id = ? and error is null
+            """;
+    private static final String SELECT_ACCEPTED_PROJECT_IDS = """
+            select distinct project_id from employee_import_rows
+            where import_id = ? and error is null and project_id is not null
+            """;
+    private static final String CREDIT_PROJECTS = """
+            update projects p
+            set employee_count = employee_count + (select count(*) from employee_import_rows s
+                                                   where s.import_id = ? and s.error is null and s.project_id = p.id),
+                revision = revision + 1,
+                updated_at = %s
+            where p.id in (select s.project_id from employee_import_rows s where s.import_id = ? and s.error is null)
+            """;
+    private static final String COUNT_REJECTED =
+            "select count(*) from employee_import_rows where import_id = ? and error is not null";
+    private static final String SELECT_REJECTED = """
+            select row_no, error from employee_import_rows
+            where import_id = ? and error is not null
+            order by row_no
+            limit ?
+            """;
+    private static final String DELETE_SQL = "delete from employee_import_rows where import_id = ?";
+    private static final String DELETE_STAGED_BEFORE = "delete from employee_import_rows where staged_at < ?";
+    private static final String POSTGRES_STATEMENT_CLOCK = "clock_timestamp()";
+    private static final String H2_STATEMENT_CLOCK = "current_timestamp";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+
+    /**
+     * Reserves ids for new employees, one sequence value per {@link Employee#ID_ALLOCATION_SIZE} ids. Hibernate's
+     * pooled optimizer reads a value as the upper end of a block of that size, so the blocks drawn here never overlap
+     * with the ids the entity's generator hands out.
+     */
+    public long[] allocateEmployeeIds(int count) {
+        long[] ids = new long[count];
+        int allocated = 0;
+        while (allocated < count) {
+            int blocks = Math.ceilDiv(count - allocated, Employee.ID_ALLOCATION_SIZE);
+            List<Long> upperEnds = jdbcTemplate.queryForList(isPostgres() ? POSTGRES_NEXT_ID_BLOCKS : H2_NEXT_ID_BLOCKS,
+                    Long.class, blocks);
+
+            for (long upperEnd : upperEnds) {
+                // The first value of the sequence is a block of its own
+                long id = Math.max(1, upperEnd - Employee.ID_ALLOCATION_SIZE + 1);
+                for (; id <= upperEnd && allocated < count; id++) {
+                    ids[allocated++] = id;
+                }
+            }
+        }
+
+        return ids;
+    }
+
+    public void stage(UUID importId, List<EmployeeImportRow> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        if (isPostgres()) {
+            copy(importId, rows);
+        } else {
+            insert(importId, rows);
+        }
+    }
+
+    /**
+     * @return the number of rows rejected
+     */
+    public int rejectConflicts(UUID importId) {
+        return jdbcTemplate.update(REJECT_TAKEN_USERNAMES, importId) + jdbcTemplate.update(REJECT_TAKEN_EMAILS, importId);
+    }
+
+    /**
+     * @return the number of employees created
+     */
+    public int insertAccepted(UUID importId) {
+        return jdbcTemplate.update(INSERT_ACCEPTED.formatted(statementClock()), importId);
+    }
+
+    public List<Long> findAcceptedProjectIds(UUID importId) {
+        return jdbcTemplate.queryForList(SELECT_ACCEPTED_PROJECT_IDS, Long.class, importId);
+    }
+
+    /**
+     * Adds the accepted rows to their projects' member counts and bumps those projects' revisions.
+     */
+    public int creditProjects(UUID importId) {
+        return jdbcTemplate.update(CREDIT_PROJECTS.formatted(statementClock()), importId, importId);
+    }
+
+    public long countRejected(UUID importId) {
+        Long rejected = jdbcTemplate.queryForObject(COUNT_REJECTED, Long.class, importId);
+        return rejected == null ? 0 : rejected;
+    }
+
+    public List<EmployeeImportError> findRejected(UUID importId, int limit) {
+        return jdbcTemplate.query(SELECT_REJECTED, (resultSet, rowNum) -> new EmployeeImportError(
+                resultSet.getLong("row_no"),
+                resultSet.getString("error")), importId, limit);
+    }
+
+    public int delete(UUID importId) {
+        return jdbcTemplate.update(DELETE_SQL, importId);
+    }
+
+    /**
+     * Deletes rows staged before the cutoff, whichever import they belong to.
+     *
+     * @return the number of rows deleted
+     */
+    public int deleteStagedBefore(Instant cutoff) {
+        return jdbcTemplate.update(DELETE_STAGED_BEFORE, OffsetDateTime.ofInstant(cutoff, ZoneOffset.UTC));
+    }
+
+    private void copy(UUID importId, List<EmployeeImportRow> rows) {
+        StringBuilder csv = new StringBuilder(rows.size() * 128);
+        for (EmployeeImportRow row : rows) {
+            csv.append(importId).append(',').append(row.rowNo());
+            appendValue(csv, row.id());
+            appendText(csv, row.firstName());
+            appendText(csv, row.lastName());
+            appendText(csv, row.middleName());
+            appendText(csv, row.username());
+            appendText(csv, row.email());
+            appendValue(csv, row.projectId());
+            appendText(csv, row.error());
+            csv.append('\n');
+        }
+
+        jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+            try {
+                return connection.unwrap(PGConnection.class).getCopyAPI()
+                        .copyIn(COPY_SQL, new StringReader(csv.toString()));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private void insert(UUID importId, List<EmployeeImportRow> rows) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows, BATCH_SIZE, (statement, row) -> {
+            statement.setObject(1, importId);
+            statement.setLong(2, row.rowNo());
+            statement.setObject(3, row.id(), Types.BIGINT);
+            statement.setString(4, row.firstName());
+            statement.setString(5, row.lastName());
+            statement.setString(6, row.middleName());
+            statement.setString(7, row.username());
+            statement.setString(8, row.email());
+            statement.setObject(9, row.projectId(), Types.BIGINT);
+            statement.setString(10, row.error());
+        });
+    }
+
+    /**
+     * An unquoted empty field is NULL in COPY's CSV format.
+     */
+    private static void appendValue(StringBuilder csv, Long value) {
+        csv.append(',');
+        if (value != null) {
+            csv.append(value);
+        }
+    }
+
+    private static void appendText(StringBuilder csv, String value) {
+        csv.append(',');
+        if (value != null) {
+            csv.append('"').append(value.replace("\"", "\"\"")).append('"');
+        }
+    }
+
+    private String statementClock() {
+        return isPostgres() ? POSTGRES_STATEMENT_CLOCK : H2_STATEMENT_CLOCK;
+    }
+
+    private boolean isPostgres() {
+        Dialect dialect = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices()
+                .getDialect();
+
+        return dialect instanceof PostgreSQLDialect;
+    }
+}
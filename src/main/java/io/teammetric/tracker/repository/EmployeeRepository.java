@@ -1,9 +1,122 @@
 package io.teammetric.tracker.repository;
 
+import io.teammetric.tracker.dto.response.employee.EmployeeSuggestionResponse;
+import io.teammetric.tracker.dto.response.stats.ProjectHeadcountResponse;
 import io.teammetric.tracker.entity.Employee;
+import io.teammetric.tracker.entity.Project;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
 @Repository
-public interface EmployeeRepository extends JpaRepository<Employee, Long> {
+public interface EmployeeRepository extends JpaRepository<Employee, Long>, EmployeeSearchRepository {
+    int EXPORT_FETCH_SIZE = 500;
+
+    @EntityGraph(attributePaths = "project")
+    Optional<Employee> findWithProjectById(Long id);
+
+    @EntityGraph(attributePaths = "project")
+    List<Employee> findWithProjectByIdIn(Collection<Long> ids);
+
+    @EntityGraph(attributePaths = "project")
+    List<Employee> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    @Query("select e from Employee e left join fetch e.project order by e.id")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<Employee> streamAllForExport();
+
+    @Query("""
+            select new io.teammetric.tracker.dto.response.employee.EmployeeSuggestionResponse(
+                e.id, e.username, e.firstName, e.lastName, e.email)
+            from Employee e
+            """)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + EXPORT_FETCH_SIZE))
+    Stream<EmployeeSuggestionResponse> streamSuggestions();
+
+    /**
+     * Row count, highest id and the sum of versions and revisions: unlike a max, the sum moves whenever any row is
+     * updated.
+     */
+    @Query("""
+            select concat(str(count(e)), '.', str(coalesce(max(e.id), 0)), '.',
+                str(coalesce(sum(e.version + e.revision), 0)))
+            from Employee e
+            """)
+    String findCollectionVersionTag();
+
+    /**
+     * Headcount per project; employees without a project are counted in the row with a null project id.
+     */
+    @Query("""
+            select new io.teammetric.tracker.dto.response.stats.ProjectHeadcountResponse(p.id, p.name, count(e))
+            from Employee e left join e.project p
+            group by p.id, p.name
+            """)
+    List<ProjectHeadcountResponse> countByProject();
+
+    /**
+     * Rows modified after the given (updatedAt, id) position and at least {@code settleWindow} before now by the
+     * database clock, in that order.
+     */
+    @EntityGraph(attributePaths = "project")
+    @Query("""
+            select e from Employee e
+            where (e.updatedAt > :updatedAt or e.updatedAt = :updatedAt and e.id > :id)
+                and e.updatedAt < statement_instant() - :settleSeconds second
+            order by e.updatedAt, e.id
+            """)
+    List<Employee> findChangedSince(@Param("updatedAt") Instant updatedAt, @Param("id") Long id,
+                                    @Param("settleSeconds") long settleSeconds, Limit limit);
+
+    @Query("select e.username from Employee e where e.username in :usernames")
+    List<String> findExistingUsernames(@Param("usernames") Collection<String> usernames);
+
+    List<Employee> findByEmailIn(Collection<String> emails);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            update Employee e set e.project = :project, e.revision = e.revision + 1,
+                e.updatedAt = statement_instant()
+            where e.id in :ids
+            """)
+    int assignToProject(@Param("project") Project project, @Param("ids") Collection<Long> ids);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            update Employee e set e.project = :project, e.revision = e.revision + 1,
+                e.updatedAt = statement_instant()
+            where e.project.id = :fromProjectId
+            """)
+    int moveProjectMembers(@Param("project") Project project, @Param("fromProjectId") Long fromProjectId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            update Employee e set e.project = null, e.revision = e.revision + 1,
+                e.updatedAt = statement_instant()
+            where e.project.id = :projectId and e.id in :ids
+            """)
+    int unassignFromProject(@Param("projectId") Long projectId, @Param("ids") Collection<Long> ids);
+
+    /**
+     * Responses embed the project name, so a rename has to reach the members' delta sync too.
+     */
+    @Modifying
+    @Query("update Employee e set e.updatedAt = statement_instant() where e.project.id = :projectId")
+    int touchProjectMembers(@Param("projectId") Long projectId);
 }
@@ -0,0 +1,11 @@
+package io.teammetric.tracker.repository;
+
+import java.util.List;
+
+public interface EmployeeSearchRepository {
+    /**
+     * Returns ids of employees whose names, username or email resemble the query, best match first.
+     * Tolerates typos: a row matches when enough of the query's trigrams occur in it.
+     */
+    List<Long> searchIds(String query, long offset, int limit);
+}
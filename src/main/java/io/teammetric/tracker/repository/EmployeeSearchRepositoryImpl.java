@@ -0,0 +1,97 @@
+package io.teammetric.tracker.repository;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * On Postgres the search runs as a pg_trgm word-similarity query served by the GIN index created in migration
+ * {@code V2__index_employee_project_and_search.sql}; other databases (H2 in tests) score the same trigrams in memory.
+ */
+@RequiredArgsConstructor
+class EmployeeSearchRepositoryImpl implements EmployeeSearchRepository {
+    /**
+     * pg_trgm's default {@code word_similarity_threshold}, which the {@code <%} operator applies.
+     */
+    static final double SIMILARITY_THRESHOLD = 0.6;
+
+    /**
+     * Must stay identical to the indexed expression in V2__index_employee_project_and_search.sql, otherwise the
+     * planner ignores the index.
+     */
+    private static final String SEARCH_DOCUMENT = "(first_name || ' ' || last_name || ' ' || coalesce(middle_name, '')"
+            + " || ' ' || username || ' ' || coalesce(email, ''))";
+
+    private static final String POSTGRES_SEARCH = "select id from employees"
+            + " where :query <% " + SEARCH_DOCUMENT
+            + " order by word_similarity(:query, " + SEARCH_DOCUMENT + ") desc, id"
+            + " limit :limit offset :offset";
+
+    private final EntityManager entityManager;
+
+    @Override
+    public List<Long> searchIds(String query, long offset, int limit) {
+        if (isPostgres()) {
+            return searchWithIndex(query, offset, limit);
+        }
+
+        return searchInMemory(query, offset, limit);
+    }
+
+    private List<Long> searchWithIndex(String query, long offset, int limit) {
+        List<?> ids = entityManager.createNativeQuery(POSTGRES_SEARCH, Long.class)
+                .setParameter("query", query)
+                .setParameter("limit", limit)
+                .setParameter("offset", offset)
+                .getResultList();
+
+        return ids.stream()
+                .map(Long.class::cast)
+                .toList();
+    }
+
+    private List<Long> searchInMemory(String query, long offset, int limit) {
+        Set<String> queryTrigrams = Trigrams.of(query);
+        List<Object[]> rows = entityManager.createQuery(
+                        "select e.id, e.firstName, e.lastName, e.middleName, e.username, e.email from Employee e",
+                        Object[].class)
+                .getResultList();
+
+        return rows.stream()
+                .map(row -> Map.entry((Long) row[0], Trigrams.wordSimilarity(queryTrigrams, Trigrams.of(toDocument(row)))))
+                .filter(scored -> scored.getValue() >= SIMILARITY_THRESHOLD)
+                .sorted(Map.Entry.<Long, Double>comparingByValue(Comparator.reverseOrder())
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .skip(offset)
+                .limit(limit)
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    private static String toDocument(Object[] row) {
+        StringBuilder document = new StringBuilder();
+        for (int i = 1; i < row.length; i++) {
+            if (row[i] != null) {
+                document.append(row[i]).append(' ');
+            }
+        }
+
+        return document.toString();
+    }
+
+    private boolean isPostgres() {
+        Dialect dialect = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices()
+                .getDialect();
+
+        return dialect instanceof PostgreSQLDialect;
+    }
+}
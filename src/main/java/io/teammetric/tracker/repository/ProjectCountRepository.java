@@ -0,0 +1,12 @@
+package io.teammetric.tracker.repository;
+
+import java.util.Collection;
+import java.util.Map;
+
+public interface ProjectCountRepository {
+    /**
+     * Bumps the revisions of the given projects and adds each one's delta to its member count, in one statement
+     * however many projects a batch touches; projects without a delta are only bumped.
+     */
+    int adjustEmployeeCounts(Collection<Long> projectIds, Map<Long, Integer> employeeCountDeltas);
+}
@@ -0,0 +1,55 @@
+package io.teammetric.tracker.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Builds the {@code case} over the projects of the batch; its length, and with it the statement, only varies with the
+ * number of projects that change their count.
+ */
+@RequiredArgsConstructor
+class ProjectCountRepositoryImpl implements ProjectCountRepository {
+    private static final String BUMP_REVISIONS =
+            "update Project p set p.revision = p.revision + 1, p.updatedAt = statement_instant()";
+
+    private final EntityManager entityManager;
+
+    @Override
+    public int adjustEmployeeCounts(Collection<Long> projectIds, Map<Long, Integer> employeeCountDeltas) {
+        if (projectIds.isEmpty()) {
+            return 0;
+        }
+
+        List<Map.Entry<Long, Integer>> deltas = new ArrayList<>();
+        employeeCountDeltas.forEach((projectId, delta) -> {
+            if (delta != 0) {
+                deltas.add(Map.entry(projectId, delta));
+            }
+        });
+
+        StringBuilder hql = new StringBuilder(BUMP_REVISIONS);
+        if (!deltas.isEmpty()) {
+            hql.append(", p.employeeCount = p.employeeCount + case p.id");
+            for (int i = 0; i < deltas.size(); i++) {
+                hql.append(" when :id").append(i).append(" then :delta").append(i);
+            }
+            hql.append(" else 0 end");
+        }
+        hql.append(" where p.id in :ids");
+
+        Query update = entityManager.createQuery(hql.toString())
+                .setParameter("ids", projectIds);
+        for (int i = 0; i < deltas.size(); i++) {
+            update.setParameter("id" + i, deltas.get(i).getKey())
+                    .setParameter("delta" + i, deltas.get(i).getValue());
+        }
+
+        return update.executeUpdate();
+    }
+}
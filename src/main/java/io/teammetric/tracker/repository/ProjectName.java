@@ -0,0 +1,4 @@
+package io.teammetric.tracker.repository;
+
+public record ProjectName(Long id, String name) {
+}
@@ -1,9 +1,133 @@
 package io.teammetric.tracker.repository;
 
+import io.teammetric.tracker.dto.response.project.ProjectSummaryResponse;
 import io.teammetric.tracker.entity.Project;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
 @Repository
-public interface ProjectRepository extends JpaRepository<Project, Long> {
+public interface ProjectRepository extends JpaRepository<Project, Long>, ProjectCountRepository {
+    int EXPORT_FETCH_SIZE = 500;
+
+    List<Project> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    @Query("select p from Project p left join fetch p.employees order by p.id")
+    List<Project> findAllWithEmployees();
+
+    @Query("""
+            select new io.teammetric.tracker.dto.response.project.ProjectSummaryResponse(
+                p.id, p.name, p.description, count(e))
+            from Project p left join p.employees e
+            group by p.id, p.name, p.description
+            order by p.id
+            """)
+    List<ProjectSummaryResponse> findAllSummaries();
+
+    @Query("select new io.teammetric.tracker.repository.ProjectName(p.id, p.name) from Project p")
+    List<ProjectName> findAllNames();
+
+    /**
+     * Same as {@link EmployeeRepository#findChangedSince}; rosters are batch fetched.
+     */
+    @Query("""
+            select p from Project p
+            where (p.updatedAt > :updatedAt or p.updatedAt = :updatedAt and p.id > :id)
+                and p.updatedAt < statement_instant() - :settleSeconds second
+            order by p.updatedAt, p.id
+            """)
+    List<Project> findChangedSince(@Param("updatedAt") Instant updatedAt, @Param("id") Long id,
+                                   @Param("settleSeconds") long settleSeconds, Limit limit);
+
+    @Query("select p from Project p order by p.id")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<Project> streamAllForExport();
+
+    /**
+     * Loads the rosters of a window of exported projects in one statement; the projects themselves are already in
+     * the persistence context, so only their collections are initialized.
+     */
+    @Query("select p from Project p left join fetch p.employees where p.id in :ids order by p.id")
+    List<Project> findWithEmployeesByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("""
+            select concat(str(count(p)), '.', str(coalesce(max(p.id), 0)), '.',
+                str(coalesce(sum(p.version + p.revision), 0)))
+            from Project p
+            """)
+    String findCollectionVersionTag();
+
+    /**
+     * Bumps the target project and every project the given employees currently belong to, and takes the employees off
+     * their counts (the target's included, it is credited with all of them afterwards); must run before they move.
+     * The target is left alone when none of the employees exist.
+     */
+    @Modifying
+    @Query("""
+            update Project p set p.revision = p.revision + 1, p.updatedAt = statement_instant(),
+                p.employeeCount = p.employeeCount
+                    - (select count(e) from Employee e where e.project = p and e.id in :employeeIds)
+            where p.id = :projectId and exists (select e.id from Employee e where e.id in :employeeIds)
+                or p.id in (select e.project.id from Employee e where e.id in :employeeIds)
+            """)
+    int prepareReassignment(@Param("projectId") Long projectId, @Param("employeeIds") Collection<Long> employeeIds);
+
+    /**
+     * Moves {@code count} members from one project's count to the other's and bumps both revisions; either id may be
+     * null when employees join or leave without a project on the other side.
+     */
+    @Modifying
+    @Query("""
+            update Project p set p.revision = p.revision + 1, p.updatedAt = statement_instant(),
+                p.employeeCount = case when p.id = :toProjectId
+                    then p.employeeCount + :count
+                    else p.employeeCount - :count end
+            where p.id = :fromProjectId or p.id = :toProjectId
+            """)
+    int moveEmployeeCount(@Param("fromProjectId") Long fromProjectId, @Param("toProjectId") Long toProjectId,
+                          @Param("count") int count);
+
+    /**
+     * Count only, for callers that bump the revisions themselves.
+     */
+    @Modifying
+    @Query("""
+            update Project p set p.employeeCount = p.employeeCount + :delta, p.updatedAt = statement_instant()
+            where p.id = :id
+            """)
+    int adjustEmployeeCount(@Param("id") Long id, @Param("delta") int delta);
+
+    @Query("""
+            select new io.teammetric.tracker.repository.EmployeeCountDrift(p.id, p.employeeCount, count(e))
+            from Project p left join p.employees e
+            group by p.id, p.employeeCount
+            having p.employeeCount <> count(e)
+            order by p.id
+            """)
+    List<EmployeeCountDrift> findEmployeeCountDrift();
+
+    /**
+     * Recounts the members of the given projects; revisions are bumped only where the count actually changes.
+     */
+    @Modifying
+    @Query("""
+            update Project p set p.revision = p.revision + 1, p.updatedAt = statement_instant(),
+                p.employeeCount = (select count(e) from Employee e where e.project = p)
+            where p.id in :ids and p.employeeCount <> (select count(e) from Employee e where e.project = p)
+            """)
+    int recountEmployees(@Param("ids") Collection<Long> ids);
 }
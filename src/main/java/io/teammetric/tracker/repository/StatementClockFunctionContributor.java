@@ -0,0 +1,27 @@
+package io.teammetric.tracker.repository;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.type.BasicType;
+import org.hibernate.type.StandardBasicTypes;
+
+import java.time.Instant;
+
+/**
+ * Registers {@code statement_instant()}, the database clock at the time the statement runs. HQL's {@code instant} is
+ * {@code current_timestamp}, which PostgreSQL freezes at transaction start; {@code clock_timestamp()} keeps the stamps
+ * of a long transaction close to its commit. H2 has no per-statement clock and falls back to {@code current_timestamp}.
+ */
+public class StatementClockFunctionContributor implements FunctionContributor {
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        String clock = functionContributions.getDialect() instanceof PostgreSQLDialect
+                ? "clock_timestamp()"
+                : "current_timestamp";
+        BasicType<Instant> instant = functionContributions.getTypeConfiguration()
+                .getBasicTypeRegistry()
+                .resolve(StandardBasicTypes.INSTANT);
+        functionContributions.getFunctionRegistry().registerPattern("statement_instant", clock, instant);
+    }
+}
@@ -0,0 +1,50 @@
+package io.teammetric.tracker.repository;
+
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * In-memory counterpart of pg_trgm: words are lower-cased alphanumeric runs padded with two leading
+ * and one trailing blank, and a string is represented by the set of its words' three-character windows.
+ */
+final class Trigrams {
+    private Trigrams() {
+    }
+
+    static Set<String> of(String text) {
+        Set<String> trigrams = new HashSet<>();
+        if (text == null) {
+            return trigrams;
+        }
+
+        for (String word : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (word.isEmpty()) {
+                continue;
+            }
+
+            String padded = "  " + word + " ";
+            for (int i = 0; i + 3 <= padded.length(); i++) {
+                trigrams.add(padded.substring(i, i + 3));
+            }
+        }
+
+        return trigrams;
+    }
+
+    /**
+     * Share of the query's trigrams found in the text, the same measure pg_trgm's word_similarity reports
+     * when the best-matching extent of the text is the whole set.
+     */
+    static double wordSimilarity(Set<String> queryTrigrams, Set<String> textTrigrams) {
+        if (queryTrigrams.isEmpty()) {
+            return 0;
+        }
+
+        long shared = queryTrigrams.stream()
+                .filter(textTrigrams::contains)
+                .count();
+
+        return (double) shared / queryTrigrams.size();
+    }
+}
@@ -0,0 +1,47 @@
+package io.teammetric.tracker.service;
+
+import io.teammetric.tracker.entity.ChangeEvent.AggregateType;
+import io.teammetric.tracker.entity.ChangeEvent.ChangeType;
+import io.teammetric.tracker.repository.EmployeeCountDrift;
+import io.teammetric.tracker.repository.ProjectRepository;
+import io.teammetric.tracker.service.cache.ResponseCaches;
+import io.teammetric.tracker.service.changes.ChangeOutbox;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Repairs {@code projects.employee_count} where it no longer matches the roster, e.g. after rows were written
+ * around the services or a relative update raced a recount.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EmployeeCountReconciler {
+    private final ProjectRepository projectRepository;
+    private final ResponseCaches responseCaches;
+    private final ChangeOutbox changeOutbox;
+
+    @Scheduled(cron = "${tracker.employee-count.reconcile-cron}")
+    @Transactional
+    public List<EmployeeCountDrift> reconcile() {
+        List<EmployeeCountDrift> drift = projectRepository.findEmployeeCountDrift();
+        if (drift.isEmpty()) {
+            return drift;
+        }
+
+        List<Long> projectIds = drift.stream()
+                .map(EmployeeCountDrift::projectId)
+                .toList();
+        int repaired = projectRepository.recountEmployees(projectIds);
+        responseCaches.evictProjects(projectIds);
+        changeOutbox.record(AggregateType.PROJECT, ChangeType.UPDATED, projectIds);
+        log.warn("Repaired employee counts of {} projects: {}", repaired, drift);
+
+        return drift;
+    }
+}
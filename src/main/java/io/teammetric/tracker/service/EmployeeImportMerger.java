@@ -0,0 +1,51 @@
+package io.teammetric.tracker.service;
+
+import io.teammetric.tracker.entity.ChangeEvent.AggregateType;
+import io.teammetric.tracker.entity.ChangeEvent.ChangeType;
+import io.teammetric.tracker.repository.EmployeeImportRowRepository;
+import io.teammetric.tracker.service.autocomplete.EmployeePrefixIndex;
+import io.teammetric.tracker.service.cache.ResponseCaches;
+import io.teammetric.tracker.service.changes.ChangeOutbox;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Moves a staged import into {@code employees}. Kept apart from the parsing and staging so that the transaction only
+ * spans these few set-based statements: its rows are stamped close to the commit, and delta sync does not hand out a
+ * token past them while the file is still being read.
+ */
+@Component
+@RequiredArgsConstructor
+public class EmployeeImportMerger {
+    private final EmployeeImportRowRepository importRowRepository;
+    private final ResponseCaches responseCaches;
+    private final EmployeePrefixIndex employeePrefixIndex;
+    private final ChangeOutbox changeOutbox;
+
+    /**
+     * Rejects the staged rows that conflict with existing employees or each other and creates the rest.
+     *
+     * @return the number of employees created
+     */
+    @Transactional
+    public int merge(UUID importId) {
+        importRowRepository.rejectConflicts(importId);
+        int imported = importRowRepository.insertAccepted(importId);
+        if (imported > 0) {
+            List<Long> projectIds = importRowRepository.findAcceptedProjectIds(importId);
+            importRowRepository.creditProjects(importId);
+            responseCaches.evictProjects(projectIds);
+            responseCaches.clearStats();
+
+            employeePrefixIndex.reloadAfterCommit();
+            changeOutbox.recordImported(importId);
+            changeOutbox.record(AggregateType.PROJECT, ChangeType.UPDATED, projectIds);
+        }
+
+        return imported;
+    }
+}
@@ -0,0 +1,188 @@
+package io.teammetric.tracker.service;
+
+import com.fasterxml.jackson.core.JacksonException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvParser;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import io.micrometer.core.annotation.Timed;
+import io.teammetric.tracker.dto.request.employee.CreateEmployeeRequest;
+import io.teammetric.tracker.dto.request.employee.EmployeeCsvRow;
+import io.teammetric.tracker.dto.response.employee.EmployeeImportResponse;
+import io.teammetric.tracker.exception.InvalidImportFileException;
+import io.teammetric.tracker.repository.EmployeeImportRow;
+import io.teammetric.tracker.repository.EmployeeImportRowRepository;
+import io.teammetric.tracker.repository.ProjectName;
+import io.teammetric.tracker.repository.ProjectRepository;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Bulk creation of employees from a CSV file with the header
+ * {@code firstName,lastName,middleName,username,email,project}. The file is read row by row and staged in chunks
+ * outside of any transaction, then checked and merged with set-based statements by {@link EmployeeImportMerger}, so
+ * memory does not grow with the file and no transaction stays open while it is read. Rows that fail a check are
+ * reported and skipped, the rest are created together.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Timed(value = "tracker.service", histogram = true)
+public class EmployeeImportService {
+    public static final int MAX_REPORTED_ERRORS = 1000;
+
+    static final int CHUNK_SIZE = 5000;
+
+    /**
+     * Width of the text columns of {@code employees}; longer values would fail the whole merge.
+     */
+    private static final int MAX_COLUMN_LENGTH = 255;
+
+    /**
+     * Age after which staged rows are taken for leftovers of a dead import; no upload runs anywhere near this long.
+     */
+    static final Duration STAGED_ROW_RETENTION = Duration.ofDays(1);
+
+    private static final ObjectReader CSV_READER = new CsvMapper()
+            .readerFor(EmployeeCsvRow.class)
+            .with(CsvSchema.emptySchema().withHeader())
+            .with(CsvParser.Feature.TRIM_SPACES)
+            .with(CsvParser.Feature.EMPTY_STRING_AS_NULL);
+
+    private final EmployeeImportRowRepository importRowRepository;
+    private final ProjectRepository projectRepository;
+    private final Validator validator;
+    private final EmployeeImportMerger employeeImportMerger;
+
+    public EmployeeImportResponse importCsv(InputStream csv) {
+        long startedAt = System.nanoTime();
+        UUID importId = UUID.randomUUID();
+        try {
+            long rows = stage(importId, csv);
+            int imported = employeeImportMerger.merge(importId);
+
+            EmployeeImportResponse response = EmployeeImportResponse.builder()
+                    .imported(imported)
+                    .rejected(importRowRepository.countRejected(importId))
+                    .errors(importRowRepository.findRejected(importId, MAX_REPORTED_ERRORS))
+                    .build();
+
+            log.info("Imported {} of {} employee rows in {} ms", imported, rows,
+                    (System.nanoTime() - startedAt) / 1_000_000);
+            return response;
+        } finally {
+            // Staged chunks are committed as they go, so a failed import has to clear them too
+            importRowRepository.delete(importId);
+        }
+    }
+
+    /**
+     * Deletes the staged rows of imports that never reached their {@code finally}, e.g. because the instance was
+     * killed while reading the file.
+     */
+    @Scheduled(cron = "${tracker.employee-import.purge-cron}")
+    public int purgeAbandoned() {
+        int purged = importRowRepository.deleteStagedBefore(Instant.now().minus(STAGED_ROW_RETENTION));
+        log.info("Purged {} staged import rows older than {}", purged, STAGED_ROW_RETENTION);
+
+        return purged;
+    }
+
+    /**
+     * Parses, validates and stages the file chunk by chunk.
+     *
+     * @return the number of data rows read
+     */
+    private long stage(UUID importId, InputStream csv) {
+        Map<String, Long> projectIds = projectRepository.findAllNames().stream()
+                .collect(Collectors.toMap(ProjectName::name, ProjectName::id));
+
+        List<EmployeeImportRow> chunk = new ArrayList<>(CHUNK_SIZE);
+        long rowNo = 0;
+        try (MappingIterator<EmployeeCsvRow> rows = CSV_READER.readValues(csv)) {
+            while (rows.hasNextValue()) {
+                EmployeeCsvRow row = rows.nextValue();
+                rowNo++;
+                chunk.add(toImportRow(rowNo, row, projectIds));
+
+                if (chunk.size() == CHUNK_SIZE) {
+                    stageChunk(importId, chunk);
+                    chunk.clear();
+                }
+            }
+        } catch (JacksonException e) {
+            throw new InvalidImportFileException("Malformed CSV at row " + (rowNo + 1) + ": " + e.getOriginalMessage());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        stageChunk(importId, chunk);
+
+        return rowNo;
+    }
+
+    /**
+     * Gives the rows that passed validation their ids, taken from the employee sequence in one statement.
+     */
+    private void stageChunk(UUID importId, List<EmployeeImportRow> chunk) {
+        int valid = (int) chunk.stream().filter(row -> row.error() == null).count();
+        long[] ids = importRowRepository.allocateEmployeeIds(valid);
+
+        List<EmployeeImportRow> staged = new ArrayList<>(chunk.size());
+        int next = 0;
+        for (EmployeeImportRow row : chunk) {
+            staged.add(row.error() != null ? row : new EmployeeImportRow(row.rowNo(), ids[next++], row.firstName(),
+                    row.lastName(), row.middleName(), row.username(), row.email(), row.projectId(), null));
+        }
+
+        importRowRepository.stage(importId, staged);
+    }
+
+    private EmployeeImportRow toImportRow(long rowNo, EmployeeCsvRow row, Map<String, Long> projectIds) {
+        Long projectId = row.project() == null ? null : projectIds.get(row.project());
+
+        return new EmployeeImportRow(rowNo, null, row.firstName(), row.lastName(), row.middleName(), row.username(),
+                row.email(), projectId, findRowError(row, projectId));
+    }
+
+    private String findRowError(EmployeeCsvRow row, Long projectId) {
+        CreateEmployeeRequest employeeRequest = CreateEmployeeRequest.builder()
+                .firstName(row.firstName())
+                .lastName(row.lastName())
+                .middleName(row.middleName())
+                .username(row.username())
+                .email(row.email())
+                .projectId(projectId)
+                .build();
+        Set<ConstraintViolation<CreateEmployeeRequest>> violations = validator.validate(employeeRequest);
+        if (!violations.isEmpty()) {
+            return violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining("; "));
+        }
+        if (row.project() != null && projectId == null) {
+            return "Project not found with name: " + row.project();
+        }
+        boolean tooLong = Stream.of(row.firstName(), row.lastName(), row.middleName(), row.username(), row.email())
+                .anyMatch(value -> value != null && value.length() > MAX_COLUMN_LENGTH);
+        if (tooLong) {
+            return "Values cannot be longer than " + MAX_COLUMN_LENGTH + " characters";
+        }
+
+        return null;
+    }
+}
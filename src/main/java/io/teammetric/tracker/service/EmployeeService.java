@@ -1,40 +1,159 @@
 package io.teammetric.tracker.service;
 
+import io.micrometer.core.annotation.Timed;
+import io.teammetric.tracker.dto.request.employee.BatchUpdateEmployeeRequest;
 import io.teammetric.tracker.dto.request.employee.CreateEmployeeRequest;
+import io.teammetric.tracker.dto.request.employee.EmployeeBatchRequest;
 import io.teammetric.tracker.dto.request.employee.UpdateEmployeeRequest;
+import io.teammetric.tracker.dto.response.employee.EmployeeBatchItemResult;
+import io.teammetric.tracker.dto.response.employee.EmployeeBatchItemResult.Operation;
+import io.teammetric.tracker.dto.response.employee.EmployeeBatchItemResult.Status;
+import io.teammetric.tracker.dto.response.employee.EmployeeBatchResponse;
+import io.teammetric.tracker.dto.response.employee.EmployeePrefixIndexStatsResponse;
 import io.teammetric.tracker.dto.response.employee.EmployeeResponse;
+import io.teammetric.tracker.dto.response.employee.EmployeeSuggestionResponse;
+import io.teammetric.tracker.dto.response.page.CursorPageResponse;
+import io.teammetric.tracker.dto.response.page.DeltaPageResponse;
+import io.teammetric.tracker.entity.ChangeEvent.AggregateType;
+import io.teammetric.tracker.entity.ChangeEvent.ChangeType;
 import io.teammetric.tracker.entity.Employee;
 import io.teammetric.tracker.entity.Project;
 import io.teammetric.tracker.exception.EntityNotFoundException;
 import io.teammetric.tracker.mapper.employee.EmployeeMapper;
+import io.teammetric.tracker.pagination.CursorPages;
+import io.teammetric.tracker.pagination.DeltaPages;
+import io.teammetric.tracker.pagination.DeltaSyncProperties;
 import io.teammetric.tracker.repository.EmployeeRepository;
 import io.teammetric.tracker.repository.ProjectRepository;
+import io.teammetric.tracker.service.autocomplete.EmployeePrefixIndex;
+import io.teammetric.tracker.service.cache.ResponseCaches;
+import io.teammetric.tracker.service.changes.ChangeOutbox;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
-import java.util.Objects;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
+@Timed(value = "tracker.service", histogram = true)
 public class EmployeeService {
+    /**
+     * SQL standard foreign key violation, and H2's "parent row missing".
+     */
+    private static final Set<String> FOREIGN_KEY_SQL_STATES = Set.of("23503", "23506");
+
     private final EmployeeRepository employeeRepository;
     private final ProjectRepository projectRepository;
     private final EmployeeMapper employeeMapper;
+    private final EntityManager entityManager;
+    private final ResponseCaches responseCaches;
+    private final EmployeePrefixIndex employeePrefixIndex;
+    private final ChangeOutbox changeOutbox;
+    private final DeltaSyncProperties deltaSyncProperties;
 
+    @Cacheable(cacheNames = ResponseCaches.EMPLOYEES, key = "#id", sync = true)
     public EmployeeResponse getById(Long id) {
         Employee employee = getEmployeeById(id);
 
         return employeeMapper.toResponse(employee);
     }
 
+    /**
+     * Responses embed the project name, so a project rename has to change the tag of the employee list too.
+     */
+    public String getCollectionVersionTag() {
+        return employeeRepository.findCollectionVersionTag() + "/" + projectRepository.findCollectionVersionTag();
+    }
+
     public List<EmployeeResponse> findAll() {
         return employeeRepository.findAll().stream()
                 .map(employeeMapper::toResponse)
                 .toList();
     }
 
+    public CursorPageResponse<EmployeeResponse> findPage(String after, int limit) {
+        long afterId = CursorPages.decode(after);
+        List<Employee> employees = employeeRepository.findByIdGreaterThanOrderByIdAsc(afterId, Limit.of(limit + 1));
+
+        return CursorPages.toPage(employees, limit, employeeMapper::toResponse, Employee::getId);
+    }
+
+    /**
+     * Employees created or modified after the token, oldest change first.
+     */
+    public DeltaPageResponse<EmployeeResponse> findChanges(String since, int limit) {
+        DeltaPages.Position position = DeltaPages.decode(since);
+        List<Employee> employees = employeeRepository.findChangedSince(position.updatedAt(), position.id(),
+                deltaSyncProperties.settleWindow().toSeconds(), Limit.of(limit + 1));
+
+        return DeltaPages.toPage(employees, limit, position, employeeMapper::toResponse,
+                employee -> new DeltaPages.Position(employee.getUpdatedAt(), employee.getId()));
+    }
+
+    /**
+     * Ranked, typo-tolerant search. Ranking is not keyset-friendly, so the cursor carries the offset of the next page.
+     */
+    public CursorPageResponse<EmployeeResponse> search(String query, String after, int limit) {
+        long offset = CursorPages.decode(after);
+        List<Long> ids = employeeRepository.searchIds(query.trim(), offset, limit + 1);
+
+        boolean hasNext = ids.size() > limit;
+        List<Long> pageIds = hasNext ? ids.subList(0, limit) : ids;
+        Map<Long, Employee> employees = pageIds.isEmpty()
+                ? Map.of()
+                : employeeRepository.findWithProjectByIdIn(pageIds).stream()
+                        .collect(Collectors.toMap(Employee::getId, Function.identity()));
+
+        List<EmployeeResponse> items = pageIds.stream()
+                .map(employees::get)
+                .filter(Objects::nonNull)
+                .map(employeeMapper::toResponse)
+                .toList();
+
+        return CursorPageResponse.<EmployeeResponse>builder()
+                .items(items)
+                .nextCursor(hasNext ? CursorPages.encode(offset + limit) : null)
+                .build();
+    }
+
+    public List<EmployeeSuggestionResponse> autocomplete(String prefix, int limit) {
+        return employeePrefixIndex.complete(prefix, limit);
+    }
+
+    public EmployeePrefixIndexStatsResponse getAutocompleteStats() {
+        return employeePrefixIndex.getStats();
+    }
+
+    /**
+     * Streams every employee through a forward-only cursor and hands each mapped response to the sink.
+     * The persistence context is cleared every fetch window, so memory stays flat regardless of table size.
+     */
+    @Transactional(readOnly = true)
+    public void exportAll(Consumer<EmployeeResponse> sink) {
+        try (Stream<Employee> employees = employeeRepository.streamAllForExport()) {
+            Iterator<Employee> iterator = employees.iterator();
+            int processed = 0;
+
+            while (iterator.hasNext()) {
+                sink.accept(employeeMapper.toResponse(iterator.next()));
+
+                if (++processed % EmployeeRepository.EXPORT_FETCH_SIZE == 0) {
+                    entityManager.clear();
+                }
+            }
+        }
+    }
+
     @Transactional
     public EmployeeResponse save(CreateEmployeeRequest employeeRequest) {
         boolean employeeRequestHasProject = employeeRequest.projectId() != null;
@@ -47,38 +166,324 @@ public class EmployeeService {
         }
 
         Employee savedEmployee = employeeRepository.save(employee);
+        markEmployeeMoved(null, employeeRequest.projectId());
+        responseCaches.clearStats();
+        employeePrefixIndex.index(List.of(savedEmployee));
+        changeOutbox.record(AggregateType.EMPLOYEE, ChangeType.CREATED, savedEmployee.getId());
 
         return employeeMapper.toResponse(savedEmployee);
     }
 
+    /**
+     * Loads the employee together with its project in one statement and lets dirty checking write only the changed
+     * columns. A new project is attached by reference; a missing one surfaces as a foreign key violation on flush.
+     */
     @Transactional
     public EmployeeResponse update(Long id, UpdateEmployeeRequest employeeRequest) {
         Employee employeeToSave = getEmployeeById(id);
 
-        employeeToSave.setFirstName(employeeRequest.firstName());
-        employeeToSave.setLastName(employeeRequest.lastName());
-        employeeToSave.setMiddleName(employeeRequest.middleName());
-        employeeToSave.setEmail(employeeRequest.email());
+        applyChanges(employeeToSave, employeeRequest);
 
         Long currentProjectId = employeeToSave.getProject() == null ? null : employeeToSave.getProject().getId();
         Long newProjectId = employeeRequest.projectId();
 
-        if (!Objects.equals(currentProjectId, newProjectId)) {
-            if (newProjectId != null) {
-                Project newProject = getProjectById(newProjectId);
-                employeeToSave.setProject(newProject);
-            } else {
-                employeeToSave.setProject(null);
-            }
+        Employee updatedEmployee;
+        if (Objects.equals(currentProjectId, newProjectId)) {
+            updatedEmployee = employeeRepository.save(employeeToSave);
+            markRostersChanged(Collections.singletonList(currentProjectId), Map.of());
+        } else {
+            employeeToSave.setProject(newProjectId == null ? null : projectRepository.getReferenceById(newProjectId));
+            updatedEmployee = saveAndFlushProjectChange(employeeToSave, newProjectId);
+            markEmployeeMoved(currentProjectId, newProjectId);
+            responseCaches.clearStats();
         }
 
-        Employee updatedEmployee = employeeRepository.save(employeeToSave);
+        responseCaches.evictEmployee(id);
+        employeePrefixIndex.index(List.of(updatedEmployee));
+        changeOutbox.record(AggregateType.EMPLOYEE, ChangeType.UPDATED, id);
 
         return employeeMapper.toResponse(updatedEmployee);
     }
 
+    /**
+     * Applies a mixed batch of creates and updates in one transaction. Referenced projects, updated employees
+     * and unique usernames/emails are each resolved with a single IN query up front, so an invalid item is
+     * reported in its result instead of failing the whole batch; valid items are flushed with JDBC batching.
+     */
+    @Transactional
+    public EmployeeBatchResponse saveAll(EmployeeBatchRequest batchRequest) {
+        List<CreateEmployeeRequest> creates = batchRequest.create();
+        List<BatchUpdateEmployeeRequest> updates = batchRequest.update();
+
+        Map<Long, Project> projects = findProjectsByIds(Stream.concat(
+                creates.stream().map(CreateEmployeeRequest::projectId),
+                updates.stream().map(update -> update.employee().projectId())));
+        Map<Long, Employee> employees = findEmployeesByIds(updates.stream().map(BatchUpdateEmployeeRequest::id));
+        Set<String> takenUsernames = findExistingUsernames(creates);
+        Map<String, Long> emailOwners = findEmailOwners(Stream.concat(
+                creates.stream().map(CreateEmployeeRequest::email),
+                updates.stream().map(update -> update.employee().email())));
+        Set<String> claimedEmails = new HashSet<>();
+
+        List<EmployeeBatchItemResult> results = new ArrayList<>(creates.size() + updates.size());
+        List<Employee> indexedEmployees = new ArrayList<>();
+        List<Long> createdIds = new ArrayList<>();
+        List<Long> updatedIds = new ArrayList<>();
+        Set<Long> affectedProjectIds = new HashSet<>();
+        Map<Long, Integer> employeeCountDeltas = new HashMap<>();
+        boolean staffingChanged = false;
+
+        for (int index = 0; index < creates.size(); index++) {
+            CreateEmployeeRequest employeeRequest = creates.get(index);
+            String error = findCreateConflict(employeeRequest, projects, takenUsernames, emailOwners, claimedEmails);
+
+            if (error != null) {
+                results.add(failed(Operation.CREATE, index, null, error));
+                continue;
+            }
+
+            Employee employee = employeeMapper.toEntity(employeeRequest);
+            employee.setProject(resolveProject(projects, employeeRequest.projectId()));
+            takenUsernames.add(employeeRequest.username());
+            claimEmail(claimedEmails, employeeRequest.email());
+
+            Employee savedEmployee = employeeRepository.save(employee);
+            affectedProjectIds.add(employeeRequest.projectId());
+            countMove(employeeCountDeltas, null, employeeRequest.projectId());
+            staffingChanged = true;
+            indexedEmployees.add(savedEmployee);
+            createdIds.add(savedEmployee.getId());
+            results.add(succeeded(Operation.CREATE, index, savedEmployee.getId()));
+        }
+
+        for (int index = 0; index < updates.size(); index++) {
+            BatchUpdateEmployeeRequest update = updates.get(index);
+            Employee employee = employees.get(update.id());
+            String error = findUpdateConflict(update, employee, projects, emailOwners, claimedEmails);
+
+            if (error != null) {
+                results.add(failed(Operation.UPDATE, index, update.id(), error));
+                continue;
+            }
+
+            UpdateEmployeeRequest employeeRequest = update.employee();
+            if (!Objects.equals(employeeRequest.email(), employee.getEmail())) {
+                claimEmail(claimedEmails, employeeRequest.email());
+            }
+            Long previousProjectId = employee.getProject() == null ? null : employee.getProject().getId();
+            applyChanges(employee, employeeRequest);
+            employee.setProject(resolveProject(projects, employeeRequest.projectId()));
+            affectedProjectIds.add(previousProjectId);
+            affectedProjectIds.add(employeeRequest.projectId());
+            countMove(employeeCountDeltas, previousProjectId, employeeRequest.projectId());
+            staffingChanged |= !Objects.equals(previousProjectId, employeeRequest.projectId());
+            responseCaches.evictEmployee(employee.getId());
+            indexedEmployees.add(employee);
+            updatedIds.add(employee.getId());
+
+            results.add(succeeded(Operation.UPDATE, index, employee.getId()));
+        }
+
+        markRostersChanged(affectedProjectIds, employeeCountDeltas);
+        if (staffingChanged) {
+            responseCaches.clearStats();
+        }
+        employeePrefixIndex.index(indexedEmployees);
+        changeOutbox.record(AggregateType.EMPLOYEE, ChangeType.CREATED, createdIds);
+        changeOutbox.record(AggregateType.EMPLOYEE, ChangeType.UPDATED, updatedIds);
+
+        int failed = (int) results.stream()
+                .filter(result -> result.status() == Status.FAILED)
+                .count();
+
+        return EmployeeBatchResponse.builder()
+                .succeeded(results.size() - failed)
+                .failed(failed)
+                .results(results)
+                .build();
+    }
+
+    private Employee saveAndFlushProjectChange(Employee employee, Long projectId) {
+        try {
+            return employeeRepository.saveAndFlush(employee);
+        } catch (DataIntegrityViolationException e) {
+            if (e.getCause() instanceof ConstraintViolationException violation && violatesProjectForeignKey(violation)) {
+                throw new EntityNotFoundException("Project not found with id: " + projectId);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * project_id is the only foreign key on employees; the name check covers dialects that don't classify the violation.
+     */
+    private static boolean violatesProjectForeignKey(ConstraintViolationException violation) {
+        String constraintName = violation.getConstraintName();
+
+        return FOREIGN_KEY_SQL_STATES.contains(violation.getSQLState())
+                || constraintName != null && constraintName.toLowerCase(Locale.ROOT).contains(Employee.PROJECT_FOREIGN_KEY);
+    }
+
+    /**
+     * Project responses embed their members, so any member change bumps the project revision, drops its cache entry
+     * and is published as a project update. Member counts move by the given deltas in the same statement.
+     */
+    private void markRostersChanged(Collection<Long> projectIds, Map<Long, Integer> employeeCountDeltas) {
+        Set<Long> changedProjectIds = distinctNonNull(projectIds.stream());
+        if (changedProjectIds.isEmpty()) {
+            return;
+        }
+
+        projectRepository.adjustEmployeeCounts(changedProjectIds, employeeCountDeltas);
+        responseCaches.evictProjects(changedProjectIds);
+        changeOutbox.record(AggregateType.PROJECT, ChangeType.UPDATED, changedProjectIds);
+    }
+
+    /**
+     * Same as {@link #markRostersChanged}, and moves the employee between the projects' member counts.
+     */
+    private void markEmployeeMoved(Long fromProjectId, Long toProjectId) {
+        Set<Long> changedProjectIds = distinctNonNull(Stream.of(fromProjectId, toProjectId));
+        if (changedProjectIds.isEmpty()) {
+            return;
+        }
+
+        projectRepository.moveEmployeeCount(fromProjectId, toProjectId, 1);
+        responseCaches.evictProjects(changedProjectIds);
+        changeOutbox.record(AggregateType.PROJECT, ChangeType.UPDATED, changedProjectIds);
+    }
+
+    private static void countMove(Map<Long, Integer> employeeCountDeltas, Long fromProjectId, Long toProjectId) {
+        if (Objects.equals(fromProjectId, toProjectId)) {
+            return;
+        }
+        if (fromProjectId != null) {
+            employeeCountDeltas.merge(fromProjectId, -1, Integer::sum);
+        }
+        if (toProjectId != null) {
+            employeeCountDeltas.merge(toProjectId, 1, Integer::sum);
+        }
+    }
+
+    private String findCreateConflict(CreateEmployeeRequest employeeRequest, Map<Long, Project> projects,
+                                      Set<String> takenUsernames, Map<String, Long> emailOwners,
+                                      Set<String> claimedEmails) {
+        if (employeeRequest.projectId() != null && !projects.containsKey(employeeRequest.projectId())) {
+            return "Project not found with id: " + employeeRequest.projectId();
+        }
+        if (takenUsernames.contains(employeeRequest.username())) {
+            return "Username is already taken: " + employeeRequest.username();
+        }
+        String email = employeeRequest.email();
+        if (email != null && (emailOwners.containsKey(email) || claimedEmails.contains(email))) {
+            return "Email is already taken: " + email;
+        }
+
+        return null;
+    }
+
+    private String findUpdateConflict(BatchUpdateEmployeeRequest update, Employee employee,
+                                      Map<Long, Project> projects, Map<String, Long> emailOwners,
+                                      Set<String> claimedEmails) {
+        UpdateEmployeeRequest employeeRequest = update.employee();
+
+        if (employee == null) {
+            return "Employee not found with id: " + update.id();
+        }
+        if (employeeRequest.projectId() != null && !projects.containsKey(employeeRequest.projectId())) {
+            return "Project not found with id: " + employeeRequest.projectId();
+        }
+        String email = employeeRequest.email();
+        boolean ownedByOther = email != null && emailOwners.containsKey(email)
+                && !Objects.equals(emailOwners.get(email), employee.getId());
+        if (ownedByOther || claimedEmails.contains(email)) {
+            return "Email is already taken: " + email;
+        }
+
+        return null;
+    }
+
+    private static Project resolveProject(Map<Long, Project> projects, Long projectId) {
+        return projectId == null ? null : projects.get(projectId);
+    }
+
+    private static void claimEmail(Set<String> claimedEmails, String email) {
+        if (email != null) {
+            claimedEmails.add(email);
+        }
+    }
+
+    private static EmployeeBatchItemResult succeeded(Operation operation, int index, Long id) {
+        return EmployeeBatchItemResult.builder()
+                .operation(operation)
+                .index(index)
+                .id(id)
+                .status(Status.SUCCEEDED)
+                .build();
+    }
+
+    private static EmployeeBatchItemResult failed(Operation operation, int index, Long id, String error) {
+        return EmployeeBatchItemResult.builder()
+                .operation(operation)
+                .index(index)
+                .id(id)
+                .status(Status.FAILED)
+                .error(error)
+                .build();
+    }
+
+    private Map<Long, Project> findProjectsByIds(Stream<Long> ids) {
+        Set<Long> projectIds = distinctNonNull(ids);
+        if (projectIds.isEmpty()) {
+            return Map.of();
+        }
+
+        return projectRepository.findAllById(projectIds).stream()
+                .collect(Collectors.toMap(Project::getId, Function.identity()));
+    }
+
+    private Map<Long, Employee> findEmployeesByIds(Stream<Long> ids) {
+        Set<Long> employeeIds = distinctNonNull(ids);
+        if (employeeIds.isEmpty()) {
+            return Map.of();
+        }
+
+        return employeeRepository.findAllById(employeeIds).stream()
+                .collect(Collectors.toMap(Employee::getId, Function.identity()));
+    }
+
+    private Set<String> findExistingUsernames(List<CreateEmployeeRequest> creates) {
+        Set<String> usernames = distinctNonNull(creates.stream().map(CreateEmployeeRequest::username));
+        if (usernames.isEmpty()) {
+            return new HashSet<>();
+        }
+
+        return new HashSet<>(employeeRepository.findExistingUsernames(usernames));
+    }
+
+    private Map<String, Long> findEmailOwners(Stream<String> emails) {
+        Set<String> requestedEmails = distinctNonNull(emails);
+        if (requestedEmails.isEmpty()) {
+            return Map.of();
+        }
+
+        return employeeRepository.findByEmailIn(requestedEmails).stream()
+                .collect(Collectors.toMap(Employee::getEmail, Employee::getId));
+    }
+
+    private static <T> Set<T> distinctNonNull(Stream<T> values) {
+        return values.filter(Objects::nonNull).collect(Collectors.toSet());
+    }
+
+    private static void applyChanges(Employee employee, UpdateEmployeeRequest employeeRequest) {
+        employee.setFirstName(employeeRequest.firstName());
+        employee.setLastName(employeeRequest.lastName());
+        employee.setMiddleName(employeeRequest.middleName());
+        employee.setEmail(employeeRequest.email());
+    }
+
     private Employee getEmployeeById(Long id) {
-        return employeeRepository.findById(id).orElseThrow(
+        return employeeRepository.findWithProjectById(id).orElseThrow(
                 () -> new EntityNotFoundException("Employee not found with id: " + id)
         );
     }
@@ -1,40 +1,127 @@
 package io.teammetric.tracker.service;
 
+import io.micrometer.core.annotation.Timed;
+import io.teammetric.tracker.dto.request.project.AssignMembersRequest;
 import io.teammetric.tracker.dto.request.project.CreateProjectRequest;
+import io.teammetric.tracker.dto.request.project.UnassignMembersRequest;
 import io.teammetric.tracker.dto.request.project.UpdateProjectRequest;
+import io.teammetric.tracker.dto.response.employee.EmployeeResponse;
+import io.teammetric.tracker.dto.response.page.CursorPageResponse;
+import io.teammetric.tracker.dto.response.page.DeltaPageResponse;
+import io.teammetric.tracker.dto.response.project.MembershipChangeResponse;
 import io.teammetric.tracker.dto.response.project.ProjectResponse;
+import io.teammetric.tracker.dto.response.project.ProjectSummaryResponse;
+import io.teammetric.tracker.entity.ChangeEvent.AggregateType;
+import io.teammetric.tracker.entity.ChangeEvent.ChangeType;
 import io.teammetric.tracker.entity.Project;
 import io.teammetric.tracker.exception.EntityNotFoundException;
 import io.teammetric.tracker.mapper.project.ProjectMapper;
+import io.teammetric.tracker.pagination.CursorPages;
+import io.teammetric.tracker.pagination.DeltaPages;
+import io.teammetric.tracker.pagination.DeltaSyncProperties;
+import io.teammetric.tracker.repository.EmployeeRepository;
 import io.teammetric.tracker.repository.ProjectRepository;
+import io.teammetric.tracker.service.cache.ResponseCaches;
+import io.teammetric.tracker.service.changes.ChangeOutbox;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.ToIntFunction;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
+@Timed(value = "tracker.service", histogram = true)
 public class ProjectService {
+    static final int MEMBERSHIP_CHUNK_SIZE = 1000;
+
     private final ProjectRepository projectRepository;
+    private final EmployeeRepository employeeRepository;
     private final ProjectMapper projectMapper;
+    private final EntityManager entityManager;
+    private final ResponseCaches responseCaches;
+    private final ChangeOutbox changeOutbox;
+    private final DeltaSyncProperties deltaSyncProperties;
 
+    @Cacheable(cacheNames = ResponseCaches.PROJECTS, key = "#id", sync = true)
     public ProjectResponse getById(Long id) {
         Project project = getProjectById(id);
 
         return projectMapper.toResponse(project);
     }
 
+    public String getCollectionVersionTag() {
+        return projectRepository.findCollectionVersionTag();
+    }
+
     public List<ProjectResponse> findAll() {
-        return projectRepository.findAll().stream()
+        return projectRepository.findAllWithEmployees().stream()
                 .map(projectMapper::toResponse)
                 .toList();
     }
 
+    public List<ProjectSummaryResponse> findAllSummaries() {
+        return projectRepository.findAllSummaries();
+    }
+
+    public CursorPageResponse<ProjectResponse> findPage(String after, int limit) {
+        long afterId = CursorPages.decode(after);
+        List<Project> projects = projectRepository.findByIdGreaterThanOrderByIdAsc(afterId, Limit.of(limit + 1));
+
+        return CursorPages.toPage(projects, limit, projectMapper::toResponse, Project::getId);
+    }
+
+    /**
+     * Same as {@link EmployeeService#findChanges}; roster changes count as changes of the project. Rosters are
+     * loaded lazily, so batch consumers calling this outside a web request need the transaction.
+     */
+    @Transactional(readOnly = true)
+    public DeltaPageResponse<ProjectResponse> findChanges(String since, int limit) {
+        DeltaPages.Position position = DeltaPages.decode(since);
+        List<Project> projects = projectRepository.findChangedSince(position.updatedAt(), position.id(),
+                deltaSyncProperties.settleWindow().toSeconds(), Limit.of(limit + 1));
+
+        return DeltaPages.toPage(projects, limit, position, projectMapper::toResponse,
+                project -> new DeltaPages.Position(project.getUpdatedAt(), project.getId()));
+    }
+
+    /**
+     * Same as {@link EmployeeService#exportAll}. Rows reach the persistence context one at a time, so batch fetching
+     * would load every roster on its own; they are loaded per fetch window with one query instead.
+     */
+    @Transactional(readOnly = true)
+    public void exportAll(Consumer<ProjectResponse> sink) {
+        try (Stream<Project> projects = projectRepository.streamAllForExport()) {
+            Iterator<Project> iterator = projects.iterator();
+            List<Long> window = new ArrayList<>(ProjectRepository.EXPORT_FETCH_SIZE);
+
+            while (iterator.hasNext()) {
+                window.add(iterator.next().getId());
+
+                if (window.size() == ProjectRepository.EXPORT_FETCH_SIZE || !iterator.hasNext()) {
+                    projectRepository.findWithEmployeesByIdIn(window).forEach(project ->
+                            sink.accept(projectMapper.toResponse(project)));
+                    window.clear();
+                    entityManager.clear();
+                }
+            }
+        }
+    }
+
     @Transactional
     public ProjectResponse save(CreateProjectRequest projectRequest) {
         Project project = projectMapper.toEntity(projectRequest);
         Project savedProject = projectRepository.save(project);
+        changeOutbox.record(AggregateType.PROJECT, ChangeType.CREATED, savedProject.getId());
 
         return projectMapper.toResponse(savedProject);
     }
@@ -42,13 +129,130 @@ public class ProjectService {
     @Transactional
     public ProjectResponse update(Long id, UpdateProjectRequest projectRequest) {
         Project projectToSave = getProjectById(id);
+        boolean renamed = !Objects.equals(projectToSave.getName(), projectRequest.name());
 
         projectToSave.setName(projectRequest.name());
         projectToSave.setDescription(projectRequest.description());
 
         Project savedProject = projectRepository.save(projectToSave);
+        ProjectResponse projectResponse = projectMapper.toResponse(savedProject);
 
-        return projectMapper.toResponse(savedProject);
+        // Members embed the project name in their own cached responses
+        responseCaches.evictProject(id);
+        responseCaches.clearStats();
+        responseCaches.evictEmployees(projectResponse.employees().stream()
+                .map(EmployeeResponse::id)
+                .toList());
+        if (renamed) {
+            employeeRepository.touchProjectMembers(id);
+        }
+        changeOutbox.record(AggregateType.PROJECT, ChangeType.UPDATED, id);
+
+        return projectResponse;
+    }
+
+    @Transactional
+    public MembershipChangeResponse assignMembers(Long id, AssignMembersRequest membersRequest) {
+        Project project = getProjectReference(id);
+
+        int affected;
+        if (membersRequest.fromProjectId() != null) {
+            affected = Objects.equals(id, membersRequest.fromProjectId())
+                    ? 0
+                    : moveProjectMembers(project, membersRequest.fromProjectId());
+        } else {
+            affected = updateInChunks(membersRequest.employeeIds(), ids -> {
+                changeOutbox.recordAssignment(id, ids);
+                projectRepository.prepareReassignment(id, ids);
+                return employeeRepository.assignToProject(project, ids);
+            });
+            // Unchanged rosters keep their revision, and with it the clients' ETags and delta sync positions
+            if (affected > 0) {
+                projectRepository.adjustEmployeeCount(id, affected);
+            }
+        }
+
+        // Previous projects of the moved employees are not known without an extra lookup, and reorgs are rare
+        responseCaches.clearProjects();
+        responseCaches.clearStats();
+        if (membersRequest.fromProjectId() != null) {
+            responseCaches.clearEmployees();
+        } else {
+            responseCaches.evictEmployees(membersRequest.employeeIds());
+        }
+        recordRosterChange(affected, id, membersRequest.fromProjectId());
+
+        return toMembershipChange(id, affected);
+    }
+
+    @Transactional
+    public MembershipChangeResponse unassignMembers(Long id, UnassignMembersRequest membersRequest) {
+        getProjectReference(id);
+
+        int affected = updateInChunks(membersRequest.employeeIds(), ids -> {
+            changeOutbox.recordUnassignment(id, ids);
+            return employeeRepository.unassignFromProject(id, ids);
+        });
+        if (affected > 0) {
+            projectRepository.moveEmployeeCount(id, null, affected);
+        }
+        responseCaches.evictProject(id);
+        responseCaches.clearStats();
+        responseCaches.evictEmployees(membersRequest.employeeIds());
+        recordRosterChange(affected, id, null);
+
+        return toMembershipChange(id, affected);
+    }
+
+    private int moveProjectMembers(Project project, Long fromProjectId) {
+        changeOutbox.recordMembersMoved(fromProjectId);
+        int affected = employeeRepository.moveProjectMembers(project, fromProjectId);
+        projectRepository.moveEmployeeCount(fromProjectId, project.getId(), affected);
+
+        return affected;
+    }
+
+    /**
+     * The moved employees and, when members are picked by id, the projects they leave are recorded while the chunks
+     * are applied; this covers the projects named in the request.
+     */
+    private void recordRosterChange(int affected, Long projectId, Long fromProjectId) {
+        if (affected == 0) {
+            return;
+        }
+
+        changeOutbox.record(AggregateType.PROJECT, ChangeType.UPDATED, fromProjectId == null
+                ? List.of(projectId)
+                : List.of(fromProjectId, projectId));
+    }
+
+    private static int updateInChunks(List<Long> employeeIds, ToIntFunction<List<Long>> update) {
+        List<Long> distinctIds = employeeIds.stream()
+                .distinct()
+                .toList();
+
+        int affected = 0;
+        for (int from = 0; from < distinctIds.size(); from += MEMBERSHIP_CHUNK_SIZE) {
+            int to = Math.min(from + MEMBERSHIP_CHUNK_SIZE, distinctIds.size());
+            affected += update.applyAsInt(distinctIds.subList(from, to));
+        }
+
+        return affected;
+    }
+
+    private static MembershipChangeResponse toMembershipChange(Long projectId, int affected) {
+        return MembershipChangeResponse.builder()
+                .projectId(projectId)
+                .affected(affected)
+                .build();
+    }
+
+    private Project getProjectReference(Long id) {
+        if (!projectRepository.existsById(id)) {
+            throw new EntityNotFoundException("Project not found with id: " + id);
+        }
+
+        return projectRepository.getReferenceById(id);
     }
 
     private Project getProjectById(Long id) {
@@ -0,0 +1,57 @@
+package io.teammetric.tracker.service;
+
+import io.micrometer.core.annotation.Timed;
+import io.teammetric.tracker.dto.response.stats.ProjectHeadcountResponse;
+import io.teammetric.tracker.dto.response.stats.StaffingStatsResponse;
+import io.teammetric.tracker.repository.EmployeeRepository;
+import io.teammetric.tracker.service.cache.ResponseCaches;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Timed(value = "tracker.service", histogram = true)
+public class StatsService {
+    static final int LARGEST_TEAMS_LIMIT = 10;
+
+    private final EmployeeRepository employeeRepository;
+
+    /**
+     * One aggregate over employees; cleared by the services whenever a membership or a project name changes.
+     */
+    @Cacheable(cacheNames = ResponseCaches.STATS, key = "'staffing'", sync = true)
+    public StaffingStatsResponse getStaffing() {
+        List<ProjectHeadcountResponse> projects = new ArrayList<>();
+        long unassigned = 0;
+
+        for (ProjectHeadcountResponse headcount : employeeRepository.countByProject()) {
+            if (headcount.projectId() == null) {
+                unassigned = headcount.headcount();
+            } else {
+                projects.add(headcount);
+            }
+        }
+        projects.sort(Comparator.comparing(ProjectHeadcountResponse::projectId));
+
+        long assigned = projects.stream()
+                .mapToLong(ProjectHeadcountResponse::headcount)
+                .sum();
+        List<ProjectHeadcountResponse> largestTeams = projects.stream()
+                .sorted(Comparator.comparingLong(ProjectHeadcountResponse::headcount).reversed())
+                .limit(LARGEST_TEAMS_LIMIT)
+                .toList();
+
+        return StaffingStatsResponse.builder()
+                .totalEmployees(assigned + unassigned)
+                .assignedEmployees(assigned)
+                .unassignedEmployees(unassigned)
+                .projects(List.copyOf(projects))
+                .largestTeams(largestTeams)
+                .build();
+    }
+}
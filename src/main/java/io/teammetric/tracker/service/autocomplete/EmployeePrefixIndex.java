@@ -0,0 +1,414 @@
+package io.teammetric.tracker.service.autocomplete;
+
+import io.teammetric.tracker.dto.response.employee.EmployeePrefixIndexStatsResponse;
+import io.teammetric.tracker.dto.response.employee.EmployeeSuggestionResponse;
+import io.teammetric.tracker.entity.Employee;
+import io.teammetric.tracker.mapper.employee.EmployeeMapper;
+import io.teammetric.tracker.repository.EmployeeRepository;
+import io.teammetric.tracker.service.support.TransactionCallbacks;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * Answers autocomplete over username, first/last name and email without touching the database.
+ * <p>
+ * Most entries live in an immutable {@link Snapshot} of packed arrays: one UTF-8 record per employee and the
+ * lower-cased terms of all employees sorted bytewise, each pointing back at its record. Writes land in a small
+ * copy-on-write overlay that shadows the snapshot. Once it outgrows {@link #OVERLAY_LIMIT} a background thread
+ * folds it into a fresh snapshot, so a write never copies the whole index. Bulk writes skip the overlay and have the
+ * same thread reload the index from the database instead.
+ */
+@Slf4j
+@Component
+public class EmployeePrefixIndex implements DisposableBean {
+    static final int OVERLAY_LIMIT = 1024;
+
+    private static final byte FIELD_SEPARATOR = 0;
+    private static final int RECORD_FIELDS = 4;
+
+    private final EmployeeRepository employeeRepository;
+    private final EmployeeMapper employeeMapper;
+    private final TransactionOperations transactions;
+    private final Executor merger;
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    private volatile State state = new State(Snapshot.EMPTY, Map.of());
+
+    /**
+     * Guarded by {@link #writeLock}; at most one merge is queued or running.
+     */
+    private boolean mergeScheduled;
+
+    @Autowired
+    public EmployeePrefixIndex(EmployeeRepository employeeRepository, EmployeeMapper employeeMapper,
+                               TransactionOperations transactions) {
+        this(employeeRepository, employeeMapper, transactions,
+                Executors.newSingleThreadExecutor(Thread.ofVirtual().name("employee-prefix-index-merge").factory()));
+    }
+
+    EmployeePrefixIndex(EmployeeRepository employeeRepository, EmployeeMapper employeeMapper,
+                        TransactionOperations transactions, Executor merger) {
+        this.employeeRepository = employeeRepository;
+        this.employeeMapper = employeeMapper;
+        this.transactions = transactions;
+        this.merger = merger;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        State loading = state;
+        Snapshot snapshot = transactions.execute(status -> {
+            Map<Long, byte[]> records = new HashMap<>();
+            try (Stream<EmployeeSuggestionResponse> employees = employeeRepository.streamSuggestions()) {
+                employees.forEach(employee -> records.put(employee.id(), pack(employee)));
+            }
+            return Snapshot.of(records);
+        });
+
+        writeLock.lock();
+        try {
+            // Overlay entries from before the load were committed and are in the snapshot; writes committed while
+            // loading may not be and keep shadowing it
+            Map<Long, byte[]> overlay = new HashMap<>(state.overlay());
+            overlay.entrySet().removeIf(entry -> loading.overlay().get(entry.getKey()) == entry.getValue());
+            state = new State(snapshot, Map.copyOf(overlay));
+        } finally {
+            writeLock.unlock();
+        }
+
+        EmployeePrefixIndexStatsResponse stats = getStats();
+        log.info("Employee prefix index loaded: {} employees, {} terms, ~{} bytes per employee",
+                stats.employees(), stats.terms(), stats.bytesPerEmployee());
+    }
+
+    /**
+     * Employees having a username, name or email that starts with the prefix (case-insensitive),
+     * ordered by the matching term.
+     */
+    public List<EmployeeSuggestionResponse> complete(String prefix, int limit) {
+        byte[] key = toKey(prefix);
+        State current = state;
+
+        List<Match> matches = new ArrayList<>();
+        current.snapshot().collect(key, limit, current.overlay().keySet(), matches);
+        current.overlay().forEach((id, record) -> {
+            for (byte[] term : terms(record)) {
+                if (startsWith(term, 0, term.length, key)) {
+                    matches.add(new Match(term, id, record));
+                }
+            }
+        });
+        matches.sort(Match.ORDER);
+
+        Set<Long> seen = new HashSet<>();
+        return matches.stream()
+                .filter(match -> seen.add(match.id()))
+                .limit(limit)
+                .map(match -> unpack(match.id(), match.record()))
+                .toList();
+    }
+
+    /**
+     * Makes the given employees visible to lookups once the current transaction commits. Their fields are
+     * captured right away, later changes to the entities are not picked up.
+     */
+    public void index(Collection<Employee> employees) {
+        if (employees.isEmpty()) {
+            return;
+        }
+
+        Map<Long, byte[]> records = new HashMap<>();
+        for (Employee employee : employees) {
+            records.put(employee.getId(), pack(employeeMapper.toSuggestion(employee)));
+        }
+        TransactionCallbacks.afterCommit(() -> apply(records));
+    }
+
+    /**
+     * For writes too large for the overlay, e.g. a bulk import: once the current transaction commits, the index is
+     * reloaded from the database in the background. Lookups see the written employees when the reload completes.
+     */
+    public void reloadAfterCommit() {
+        TransactionCallbacks.afterCommit(() -> merger.execute(this::reload));
+    }
+
+    public EmployeePrefixIndexStatsResponse getStats() {
+        State current = state;
+        Snapshot snapshot = current.snapshot();
+
+        long pendingBytes = 0;
+        long pendingOnly = 0;
+        for (Map.Entry<Long, byte[]> entry : current.overlay().entrySet()) {
+            pendingBytes += Long.BYTES + entry.getValue().length;
+            if (snapshot.slotOf(entry.getKey()) < 0) {
+                pendingOnly++;
+            }
+        }
+
+        long employees = snapshot.size() + pendingOnly;
+        long estimatedBytes = snapshot.estimatedBytes() + pendingBytes;
+
+        return EmployeePrefixIndexStatsResponse.builder()
+                .employees(employees)
+                .terms(snapshot.termCount())
+                .pendingEmployees(current.overlay().size())
+                .estimatedBytes(estimatedBytes)
+                .bytesPerEmployee(employees == 0 ? 0 : estimatedBytes / employees)
+                .build();
+    }
+
+    @Override
+    public void destroy() {
+        if (merger instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+
+    private void reload() {
+        try {
+            load();
+        } catch (RuntimeException e) {
+            log.error("Failed to reload the employee prefix index", e);
+        }
+    }
+
+    private void apply(Map<Long, byte[]> records) {
+        writeLock.lock();
+        try {
+            Map<Long, byte[]> overlay = new HashMap<>(state.overlay());
+            overlay.putAll(records);
+
+            state = new State(state.snapshot(), Map.copyOf(overlay));
+            scheduleMergeIfFull();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void scheduleMergeIfFull() {
+        if (!mergeScheduled && state.overlay().size() > OVERLAY_LIMIT) {
+            mergeScheduled = true;
+            merger.execute(this::merge);
+        }
+    }
+
+    /**
+     * Builds the merged snapshot outside the lock while lookups keep using the overlay. Overlay entries written in
+     * the meantime are new arrays and stay; a merge that raced with a reload is dropped and retried on top of it.
+     */
+    private void merge() {
+        State merging = state;
+        Snapshot merged = null;
+        try {
+            merged = merging.snapshot().merge(merging.overlay());
+        } catch (RuntimeException e) {
+            log.error("Failed to merge the employee prefix index overlay", e);
+        }
+
+        writeLock.lock();
+        try {
+            mergeScheduled = false;
+            if (merged == null) {
+                return;
+            }
+
+            if (state.snapshot() == merging.snapshot()) {
+                Map<Long, byte[]> overlay = new HashMap<>(state.overlay());
+                overlay.entrySet().removeIf(entry -> merging.overlay().get(entry.getKey()) == entry.getValue());
+                state = new State(merged, Map.copyOf(overlay));
+            }
+            scheduleMergeIfFull();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private static byte[] pack(EmployeeSuggestionResponse employee) {
+        String joined = String.join(String.valueOf((char) FIELD_SEPARATOR),
+                Objects.toString(employee.username(), ""),
+                Objects.toString(employee.firstName(), ""),
+                Objects.toString(employee.lastName(), ""),
+                Objects.toString(employee.email(), ""));
+
+        return joined.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static EmployeeSuggestionResponse unpack(long id, byte[] record) {
+        String[] fields = new String(record, StandardCharsets.UTF_8).split(String.valueOf((char) FIELD_SEPARATOR), -1);
+
+        return EmployeeSuggestionResponse.builder()
+                .id(id)
+                .username(emptyToNull(fields[0]))
+                .firstName(emptyToNull(fields[1]))
+                .lastName(emptyToNull(fields[2]))
+                .email(emptyToNull(fields[3]))
+                .build();
+    }
+
+    private static String emptyToNull(String value) {
+        return value.isEmpty() ? null : value;
+    }
+
+    private static List<byte[]> terms(byte[] record) {
+        List<byte[]> terms = new ArrayList<>(RECORD_FIELDS);
+        for (String field : new String(record, StandardCharsets.UTF_8).split(String.valueOf((char) FIELD_SEPARATOR))) {
+            if (!field.isEmpty()) {
+                terms.add(toKey(field));
+            }
+        }
+
+        return terms;
+    }
+
+    private static byte[] toKey(String value) {
+        return value.trim().toLowerCase(Locale.ROOT).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static boolean startsWith(byte[] bytes, int from, int to, byte[] prefix) {
+        return to - from >= prefix.length
+                && Arrays.equals(bytes, from, from + prefix.length, prefix, 0, prefix.length);
+    }
+
+    private record State(Snapshot snapshot, Map<Long, byte[]> overlay) {
+    }
+
+    private record Match(byte[] term, long id, byte[] record) {
+        static final Comparator<Match> ORDER = Comparator.<Match, byte[]>comparing(Match::term, Arrays::compareUnsigned)
+                .thenComparingLong(Match::id);
+    }
+
+    private record SlotTerm(byte[] term, int slot) {
+        static final Comparator<SlotTerm> ORDER = Comparator.<SlotTerm, byte[]>comparing(SlotTerm::term, Arrays::compareUnsigned)
+                .thenComparingInt(SlotTerm::slot);
+    }
+
+    /**
+     * Employees sorted by id with their records packed back to back, plus every term sorted bytewise
+     * (UTF-8 byte order equals code point order) with the slot of the employee it belongs to.
+     */
+    private record Snapshot(long[] ids, int[] recordOffsets, byte[] records,
+                            int[] termOffsets, byte[] terms, int[] termSlots) {
+        static final Snapshot EMPTY = of(Map.of());
+
+        static Snapshot of(Map<Long, byte[]> recordsById) {
+            long[] ids = recordsById.keySet().stream()
+                    .mapToLong(Long::longValue)
+                    .sorted()
+                    .toArray();
+
+            int[] recordOffsets = new int[ids.length + 1];
+            byte[][] recordsBySlot = new byte[ids.length][];
+            List<SlotTerm> slotTerms = new ArrayList<>();
+            for (int slot = 0; slot < ids.length; slot++) {
+                recordsBySlot[slot] = recordsById.get(ids[slot]);
+                recordOffsets[slot + 1] = recordOffsets[slot] + recordsBySlot[slot].length;
+                for (byte[] term : EmployeePrefixIndex.terms(recordsBySlot[slot])) {
+                    slotTerms.add(new SlotTerm(term, slot));
+                }
+            }
+            slotTerms.sort(SlotTerm.ORDER);
+
+            byte[] records = new byte[recordOffsets[ids.length]];
+            for (int slot = 0; slot < ids.length; slot++) {
+                System.arraycopy(recordsBySlot[slot], 0, records, recordOffsets[slot], recordsBySlot[slot].length);
+            }
+
+            int[] termOffsets = new int[slotTerms.size() + 1];
+            int[] termSlots = new int[slotTerms.size()];
+            for (int i = 0; i < slotTerms.size(); i++) {
+                termOffsets[i + 1] = termOffsets[i] + slotTerms.get(i).term().length;
+                termSlots[i] = slotTerms.get(i).slot();
+            }
+            byte[] terms = new byte[termOffsets[slotTerms.size()]];
+            for (int i = 0; i < slotTerms.size(); i++) {
+                byte[] term = slotTerms.get(i).term();
+                System.arraycopy(term, 0, terms, termOffsets[i], term.length);
+            }
+
+            return new Snapshot(ids, recordOffsets, records, termOffsets, terms, termSlots);
+        }
+
+        Snapshot merge(Map<Long, byte[]> overlay) {
+            Map<Long, byte[]> recordsById = new HashMap<>(ids.length + overlay.size());
+            for (int slot = 0; slot < ids.length; slot++) {
+                recordsById.put(ids[slot], record(slot));
+            }
+            recordsById.putAll(overlay);
+
+            return of(recordsById);
+        }
+
+        /**
+         * Adds up to {@code limit} distinct employees whose terms start with the key, skipping shadowed ids.
+         */
+        void collect(byte[] key, int limit, Set<Long> shadowed, List<Match> matches) {
+            Set<Long> found = new HashSet<>();
+            for (int i = lowerBound(key); i < termSlots.length && found.size() < limit; i++) {
+                if (!startsWith(terms, termOffsets[i], termOffsets[i + 1], key)) {
+                    break;
+                }
+
+                long id = ids[termSlots[i]];
+                if (!shadowed.contains(id)) {
+                    found.add(id);
+                    matches.add(new Match(term(i), id, record(termSlots[i])));
+                }
+            }
+        }
+
+        int slotOf(long id) {
+            return Arrays.binarySearch(ids, id);
+        }
+
+        int size() {
+            return ids.length;
+        }
+
+        int termCount() {
+            return termSlots.length;
+        }
+
+        long estimatedBytes() {
+            return (long) Long.BYTES * ids.length
+                    + (long) Integer.BYTES * (recordOffsets.length + termOffsets.length + termSlots.length)
+                    + records.length
+                    + terms.length;
+        }
+
+        private int lowerBound(byte[] key) {
+            int low = 0;
+            int high = termSlots.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (Arrays.compareUnsigned(terms, termOffsets[mid], termOffsets[mid + 1], key, 0, key.length) < 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+
+            return low;
+        }
+
+        private byte[] term(int index) {
+            return Arrays.copyOfRange(terms, termOffsets[index], termOffsets[index + 1]);
+        }
+
+        private byte[] record(int slot) {
+            return Arrays.copyOfRange(records, recordOffsets[slot], recordOffsets[slot + 1]);
+        }
+    }
+}
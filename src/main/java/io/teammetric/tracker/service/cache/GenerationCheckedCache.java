@@ -0,0 +1,77 @@
+package io.teammetric.tracker.service.cache;
+
+import org.springframework.cache.Cache;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Read-through side of {@link ResponseCaches}. A value loaded while an invalidation of the cache ran may describe the
+ * state before that write committed, so it is dropped again once stored: invalidations bump the generation before
+ * they evict, and loads compare it after they store, so one of the two always removes the entry.
+ */
+class GenerationCheckedCache implements Cache {
+    private final Cache delegate;
+    private final AtomicLong generation;
+
+    GenerationCheckedCache(Cache delegate, AtomicLong generation) {
+        this.delegate = delegate;
+        this.generation = generation;
+    }
+
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        long loadedAt = generation.get();
+        T value = delegate.get(key, valueLoader);
+        if (generation.get() != loadedAt) {
+            delegate.evict(key);
+        }
+
+        return value;
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        return delegate.get(key);
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        return delegate.get(key, type);
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        delegate.put(key, value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        delegate.evict(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        return delegate.evictIfPresent(key);
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+    }
+
+    @Override
+    public boolean invalidate() {
+        return delegate.invalidate();
+    }
+}
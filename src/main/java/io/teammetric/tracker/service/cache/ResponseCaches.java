@@ -0,0 +1,140 @@
+package io.teammetric.tracker.service.cache;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.teammetric.tracker.dto.response.cache.CacheStatsResponse;
+import io.teammetric.tracker.service.support.TransactionCallbacks;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.interceptor.CacheOperationInvocationContext;
+import org.springframework.cache.interceptor.CacheResolver;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Write-side access to the response caches filled by {@code @Cacheable} lookups in the services.
+ * Works with any {@link CacheManager}; evictions are deferred until the surrounding transaction commits, so that
+ * readers after the eviction see the committed state. A reader that loaded the row before the commit can still store
+ * it after the eviction; {@code @Cacheable(sync = true)} lookups resolve their caches here, and such late values are
+ * dropped again by {@link GenerationCheckedCache}.
+ */
+@Component
+@RequiredArgsConstructor
+public class ResponseCaches implements CacheResolver {
+    public static final String EMPLOYEES = "employees";
+    public static final String PROJECTS = "projects";
+    public static final String STATS = "stats";
+
+    private static final List<String> CACHE_NAMES = List.of(EMPLOYEES, PROJECTS, STATS);
+
+    private final CacheManager cacheManager;
+    private final Map<String, LongAdder> invalidations = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> generations = new ConcurrentHashMap<>();
+
+    @Override
+    public Collection<? extends Cache> resolveCaches(CacheOperationInvocationContext<?> context) {
+        return context.getOperation().getCacheNames().stream()
+                .map(this::getCheckedCache)
+                .toList();
+    }
+
+    public void evictEmployee(Long id) {
+        evict(EMPLOYEES, id);
+    }
+
+    public void evictEmployees(Collection<Long> ids) {
+        ids.forEach(this::evictEmployee);
+    }
+
+    public void evictProject(Long id) {
+        evict(PROJECTS, id);
+    }
+
+    public void evictProjects(Collection<Long> ids) {
+        ids.forEach(this::evictProject);
+    }
+
+    public void clearEmployees() {
+        clear(EMPLOYEES);
+    }
+
+    public void clearProjects() {
+        clear(PROJECTS);
+    }
+
+    public void clearStats() {
+        clear(STATS);
+    }
+
+    public List<CacheStatsResponse> getStats() {
+        return CACHE_NAMES.stream()
+                .map(cacheManager::getCache)
+                .filter(CaffeineCache.class::isInstance)
+                .map(CaffeineCache.class::cast)
+                .map(this::toStats)
+                .toList();
+    }
+
+    private void evict(String cacheName, Long key) {
+        if (key == null) {
+            return;
+        }
+
+        TransactionCallbacks.afterCommit(() -> {
+            Cache cache = cacheManager.getCache(cacheName);
+            generation(cacheName).incrementAndGet();
+            if (cache != null && cache.evictIfPresent(key)) {
+                invalidationCounter(cacheName).increment();
+            }
+        });
+    }
+
+    private void clear(String cacheName) {
+        TransactionCallbacks.afterCommit(() -> {
+            Cache cache = cacheManager.getCache(cacheName);
+            generation(cacheName).incrementAndGet();
+            if (cache != null && cache.invalidate()) {
+                invalidationCounter(cacheName).increment();
+            }
+        });
+    }
+
+    private Cache getCheckedCache(String cacheName) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache == null) {
+            throw new IllegalArgumentException("Cannot find cache named '" + cacheName + "'");
+        }
+
+        return new GenerationCheckedCache(cache, generation(cacheName));
+    }
+
+    private AtomicLong generation(String cacheName) {
+        return generations.computeIfAbsent(cacheName, name -> new AtomicLong());
+    }
+
+    private LongAdder invalidationCounter(String cacheName) {
+        return invalidations.computeIfAbsent(cacheName, name -> new LongAdder());
+    }
+
+    private CacheStatsResponse toStats(CaffeineCache cache) {
+        CacheStats stats = cache.getNativeCache().stats();
+        LongAdder invalidated = invalidations.get(cache.getName());
+
+        return CacheStatsResponse.builder()
+                .name(cache.getName())
+                .size(cache.getNativeCache().estimatedSize())
+                .hitCount(stats.hitCount())
+                .missCount(stats.missCount())
+                .hitRate(stats.hitRate())
+                .evictionCount(stats.evictionCount())
+                .invalidationCount(invalidated == null ? 0 : invalidated.sum())
+                .build();
+    }
+}
@@ -0,0 +1,78 @@
+package io.teammetric.tracker.service.changes;
+
+import io.teammetric.tracker.entity.ChangeEvent;
+import io.teammetric.tracker.mapper.change.ChangeEventMapper;
+import io.teammetric.tracker.repository.ChangeEventRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Polls the outbox for committed events and hands them to the dispatcher in position order, one query per interval
+ * however many clients are subscribed. Positions are stamped by {@link ChangeEventSequencer} right before reading,
+ * so a rolled-back or slow transaction never holds the stream up and is never skipped.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChangeEventRelay {
+    private final ChangeEventRepository changeEventRepository;
+    private final ChangeEventSequencer changeEventSequencer;
+    private final ChangeEventMapper changeEventMapper;
+    private final ChangeStreamDispatcher changeStreamDispatcher;
+    private final ChangeStreamProperties properties;
+
+    private volatile boolean started;
+    private long lastRelayedPosition;
+
+    /**
+     * Subscribers only get what commits from now on; earlier events are served by replays.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        lastRelayedPosition = changeEventRepository.findLastPosition();
+        changeStreamDispatcher.start(lastRelayedPosition);
+        started = true;
+    }
+
+    @Scheduled(fixedDelayString = "${tracker.changes.relay-interval}")
+    public void relay() {
+        if (!started) {
+            return;
+        }
+
+        int batchSize = properties.relayBatchSize();
+        int stamped;
+        do {
+            stamped = changeEventSequencer.sequence(batchSize);
+        } while (stamped == batchSize);
+
+        List<ChangeEvent> events;
+        do {
+            events = changeEventRepository.findByPositionGreaterThanOrderByPositionAsc(lastRelayedPosition,
+                    Limit.of(batchSize));
+
+            for (ChangeEvent event : events) {
+                lastRelayedPosition = event.getPosition();
+                changeStreamDispatcher.publish(changeEventMapper.toResponse(event));
+            }
+        } while (events.size() == batchSize);
+    }
+
+    @Scheduled(cron = "${tracker.changes.purge-cron}")
+    @Transactional
+    public int purge() {
+        int purged = changeEventRepository.deleteOccurredBefore(Instant.now().minus(properties.retention()));
+        log.info("Purged {} change events older than {}", purged, properties.retention());
+
+        return purged;
+    }
+}
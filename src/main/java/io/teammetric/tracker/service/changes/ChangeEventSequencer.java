@@ -0,0 +1,52 @@
+package io.teammetric.tracker.service.changes;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Gives committed outbox rows their position, in id order within each call. Rows only become visible here once
+ * their transaction commits, so a late commit simply gets a later position: nothing waits on ids that may never
+ * appear. The cursor row lock makes callers take turns, and a call's positions commit together, so positions
+ * become visible without gaps and in order.
+ */
+@Component
+@RequiredArgsConstructor
+public class ChangeEventSequencer {
+    private static final String SELECT_UNSEQUENCED_SQL =
+            "select id from change_events where position is null order by id limit ?";
+    private static final String LOCK_CURSOR_SQL = "select last_position from change_event_cursor where id = 1 for update";
+    private static final String UPDATE_POSITION_SQL = "update change_events set position = ? where id = ?";
+    private static final String UPDATE_CURSOR_SQL = "update change_event_cursor set last_position = ? where id = 1";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Stamps up to {@code limit} rows.
+     *
+     * @return the number of rows stamped
+     */
+    @Transactional
+    public int sequence(int limit) {
+        // Checked before taking the lock, so idle polls stay read-only
+        if (jdbcTemplate.queryForList(SELECT_UNSEQUENCED_SQL, Long.class, 1).isEmpty()) {
+            return 0;
+        }
+
+        long lastPosition = jdbcTemplate.queryForObject(LOCK_CURSOR_SQL, Long.class);
+        List<Long> ids = jdbcTemplate.queryForList(SELECT_UNSEQUENCED_SQL, Long.class, limit);
+
+        List<Object[]> positions = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            positions.add(new Object[]{++lastPosition, id});
+        }
+        jdbcTemplate.batchUpdate(UPDATE_POSITION_SQL, positions);
+        jdbcTemplate.update(UPDATE_CURSOR_SQL, lastPosition);
+
+        return ids.size();
+    }
+}
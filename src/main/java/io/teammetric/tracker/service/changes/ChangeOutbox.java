@@ -0,0 +1,137 @@
+package io.teammetric.tracker.service.changes;
+
+import io.teammetric.tracker.entity.ChangeEvent.AggregateType;
+import io.teammetric.tracker.entity.ChangeEvent.ChangeType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Appends change events in the caller's transaction, so an event becomes visible to the relay exactly when the
+ * change it describes commits. Rows are inserted with a JDBC batch: the identity ids would keep Hibernate from
+ * batching entity inserts.
+ */
+@Component
+@RequiredArgsConstructor
+public class ChangeOutbox {
+    private static final String INSERT_SQL = """
+            insert into change_events (aggregate_type, aggregate_id, change_type, occurred_at)
+            values (?, ?, ?, ?)
+            """;
+    private static final String INSERT_SELECTED_SQL = """
+            insert into change_events (aggregate_type, aggregate_id, change_type, occurred_at)
+            select cast(? as varchar(16)), selected.id, cast(? as varchar(16)), cast(? as timestamp with time zone)
+            from (%s) selected
+            """;
+    /**
+     * Id queries of the bulk membership changes, run before the change, and of the import; {@code %s} takes one
+     * placeholder per employee id.
+     */
+    private static final String SELECT_JOINING_IDS_IN =
+            "select id from employees where project_id is distinct from ? and id in (%s)";
+    private static final String SELECT_LEFT_PROJECT_IDS_IN =
+            "select distinct project_id as id from employees where project_id <> ? and id in (%s)";
+    private static final String SELECT_MEMBER_IDS = "select id from employees where project_id = ?";
+    private static final String SELECT_MEMBER_IDS_IN = "select id from employees where project_id = ? and id in (%s)";
+    private static final String SELECT_IMPORTED_IDS =
+            "select id from employee_import_rows where import_id = ? and error is null";
+    private static final int BATCH_SIZE = 50;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(AggregateType aggregateType, ChangeType changeType, Long aggregateId) {
+        record(aggregateType, changeType, List.of(aggregateId));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(AggregateType aggregateType, ChangeType changeType, Collection<Long> aggregateIds) {
+        if (aggregateIds.isEmpty()) {
+            return;
+        }
+
+        OffsetDateTime occurredAt = OffsetDateTime.now(ZoneOffset.UTC);
+        jdbcTemplate.batchUpdate(INSERT_SQL, aggregateIds, BATCH_SIZE, (statement, aggregateId) -> {
+            statement.setString(1, aggregateType.name());
+            statement.setLong(2, aggregateId);
+            statement.setString(3, changeType.name());
+            statement.setObject(4, occurredAt);
+        });
+    }
+
+    /**
+     * Records, before the given employees are assigned to the project, an update of each one not in it yet and of
+     * every project they leave.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordAssignment(Long projectId, List<Long> employeeIds) {
+        Object[] args = withProject(projectId, employeeIds);
+
+        recordSelected(AggregateType.PROJECT, ChangeType.UPDATED,
+                SELECT_LEFT_PROJECT_IDS_IN.formatted(placeholders(employeeIds)), args);
+        recordSelected(AggregateType.EMPLOYEE, ChangeType.UPDATED,
+                SELECT_JOINING_IDS_IN.formatted(placeholders(employeeIds)), args);
+    }
+
+    /**
+     * Records an update of every member of the project, before they are all moved elsewhere.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordMembersMoved(Long fromProjectId) {
+        recordSelected(AggregateType.EMPLOYEE, ChangeType.UPDATED, SELECT_MEMBER_IDS, fromProjectId);
+    }
+
+    /**
+     * Records an update of each of the given employees that is a member of the project, before they are unassigned.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordUnassignment(Long projectId, List<Long> employeeIds) {
+        recordSelected(AggregateType.EMPLOYEE, ChangeType.UPDATED,
+                SELECT_MEMBER_IDS_IN.formatted(placeholders(employeeIds)), withProject(projectId, employeeIds));
+    }
+
+    /**
+     * Records the creation of every employee a staged import accepted.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordImported(UUID importId) {
+        recordSelected(AggregateType.EMPLOYEE, ChangeType.CREATED, SELECT_IMPORTED_IDS, importId);
+    }
+
+    /**
+     * Records an event for every id returned by {@code idQuery}, a single-column select bound to {@code args}, in one
+     * statement; for bulk writes whose ids are already in the database.
+     */
+    private void recordSelected(AggregateType aggregateType, ChangeType changeType, String idQuery, Object... args) {
+        Object[] parameters = new Object[args.length + 3];
+        parameters[0] = aggregateType.name();
+        parameters[1] = changeType.name();
+        parameters[2] = OffsetDateTime.now(ZoneOffset.UTC);
+        System.arraycopy(args, 0, parameters, 3, args.length);
+
+        jdbcTemplate.update(INSERT_SELECTED_SQL.formatted(idQuery), parameters);
+    }
+
+    private static String placeholders(List<Long> ids) {
+        return String.join(", ", Collections.nCopies(ids.size(), "?"));
+    }
+
+    private static Object[] withProject(Long projectId, List<Long> ids) {
+        Object[] args = new Object[ids.size() + 1];
+        args[0] = projectId;
+        for (int i = 0; i < ids.size(); i++) {
+            args[i + 1] = ids.get(i);
+        }
+
+        return args;
+    }
+}
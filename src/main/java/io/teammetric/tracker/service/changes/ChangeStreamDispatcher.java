@@ -0,0 +1,203 @@
+package io.teammetric.tracker.service.changes;
+
+import io.teammetric.tracker.dto.response.change.ChangeEventResponse;
+import io.teammetric.tracker.entity.ChangeEvent;
+import io.teammetric.tracker.exception.ChangeStreamUnavailableException;
+import io.teammetric.tracker.mapper.change.ChangeEventMapper;
+import io.teammetric.tracker.repository.ChangeEventRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fans the relayed events out to the SSE subscribers of this instance. Each subscriber has a bounded queue drained
+ * by its own virtual thread, so the relay never waits on a client; one that falls {@code subscriberBuffer} events
+ * behind is disconnected and catches up from the outbox when it reconnects with its Last-Event-ID.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChangeStreamDispatcher implements DisposableBean {
+    static final String RESET_EVENT = "reset";
+
+    private final ChangeEventRepository changeEventRepository;
+    private final ChangeEventMapper changeEventMapper;
+    private final ChangeStreamProperties properties;
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final ExecutorService drainers = Executors.newVirtualThreadPerTaskExecutor();
+
+    /**
+     * Position of the last event handed to the subscribers, -1 until the relay has started.
+     */
+    private volatile long watermark = -1;
+
+    /**
+     * Opens a stream of the events after {@code lastEventId}, or of new events only when it is {@code null}.
+     */
+    public SseEmitter subscribe(Long lastEventId) {
+        if (watermark < 0) {
+            throw new ChangeStreamUnavailableException("Change stream is not started yet");
+        }
+
+        SseEmitter emitter = new SseEmitter();
+        Subscriber subscriber = new Subscriber(emitter);
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(error -> subscriber.close());
+
+        // Registered before the watermark is read: events up to it are replayed, later ones are already queued
+        subscribers.add(subscriber);
+        long replayTo = watermark;
+        drainers.execute(() -> subscriber.drain(lastEventId, replayTo));
+
+        return emitter;
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    void start(long lastRelayedPosition) {
+        watermark = lastRelayedPosition;
+    }
+
+    /**
+     * Called by the relay in position order; moves the watermark before queueing so a concurrent subscribe either replays
+     * the event or receives it live.
+     */
+    void publish(ChangeEventResponse event) {
+        watermark = event.id();
+
+        for (Subscriber subscriber : subscribers) {
+            subscriber.offer(event);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        subscribers.forEach(Subscriber::complete);
+        drainers.shutdownNow();
+    }
+
+    private static String eventName(ChangeEventResponse event) {
+        return event.aggregateType().name().toLowerCase(Locale.ROOT)
+                + "." + event.changeType().name().toLowerCase(Locale.ROOT);
+    }
+
+    private final class Subscriber {
+        private final SseEmitter emitter;
+        private final BlockingQueue<ChangeEventResponse> queue;
+        private volatile boolean closed;
+
+        private Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+            this.queue = new ArrayBlockingQueue<>(properties.subscriberBuffer());
+        }
+
+        private void offer(ChangeEventResponse event) {
+            if (!queue.offer(event)) {
+                log.debug("Disconnecting a change stream subscriber that fell {} events behind", queue.size());
+                complete();
+            }
+        }
+
+        private void drain(Long lastEventId, long replayTo) {
+            try {
+                if (lastEventId != null && lastEventId < replayTo) {
+                    replay(lastEventId, replayTo);
+                }
+
+                // The client may come from an instance whose relay got further than this one's
+                long lastSentId = Math.max(replayTo, lastEventId == null ? replayTo : lastEventId);
+                long heartbeatMillis = properties.heartbeatInterval().toMillis();
+                while (!closed) {
+                    ChangeEventResponse event = queue.poll(heartbeatMillis, TimeUnit.MILLISECONDS);
+                    if (closed) {
+                        break;
+                    }
+
+                    if (event == null) {
+                        emitter.send(SseEmitter.event().comment("heartbeat"));
+                    } else if (event.id() > lastSentId) {
+                        send(event);
+                        lastSentId = event.id();
+                    }
+                }
+            } catch (IOException | IllegalStateException e) {
+                // The client is gone or the emitter already completed; the container reports it through the callbacks
+                log.debug("Change stream subscriber dropped: {}", e.getMessage());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                close();
+            }
+        }
+
+        /**
+         * Sends the outbox rows in {@code (lastEventId, replayTo]}. When some of them were already purged the client
+         * gets a reset event instead and has to reload its state.
+         */
+        private void replay(long lastEventId, long replayTo) throws IOException {
+            long firstRetainedPosition = changeEventRepository.findFirstPosition();
+            if (firstRetainedPosition == 0 || lastEventId + 1 < firstRetainedPosition) {
+                emitter.send(SseEmitter.event()
+                        .id(String.valueOf(replayTo))
+                        .name(RESET_EVENT)
+                        .data(RESET_EVENT));
+                return;
+            }
+
+            int batchSize = properties.relayBatchSize();
+            long afterPosition = lastEventId;
+            while (!closed) {
+                List<ChangeEvent> events = changeEventRepository.findByPositionGreaterThanOrderByPositionAsc(
+                        afterPosition, Limit.of(batchSize));
+
+                for (ChangeEvent event : events) {
+                    if (event.getPosition() > replayTo) {
+                        return;
+                    }
+                    send(changeEventMapper.toResponse(event));
+                    afterPosition = event.getPosition();
+                }
+
+                if (events.size() < batchSize) {
+                    return;
+                }
+            }
+        }
+
+        private void send(ChangeEventResponse event) throws IOException {
+            emitter.send(SseEmitter.event()
+                    .id(String.valueOf(event.id()))
+                    .name(eventName(event))
+                    .data(event, MediaType.APPLICATION_JSON));
+        }
+
+        private void close() {
+            closed = true;
+            subscribers.remove(this);
+        }
+
+        private void complete() {
+            close();
+            emitter.complete();
+        }
+    }
+}
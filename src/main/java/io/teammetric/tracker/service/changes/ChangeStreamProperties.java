@@ -0,0 +1,23 @@
+package io.teammetric.tracker.service.changes;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * The relay interval and the purge schedule are read by the {@code @Scheduled} methods of {@link ChangeEventRelay}.
+ *
+ * @param relayBatchSize    outbox rows stamped or read per query, by the relay and by replays
+ * @param subscriberBuffer  events queued for one subscriber before it is disconnected as too slow
+ * @param heartbeatInterval idle time after which a comment is sent, so proxies keep the stream open
+ * @param retention         age after which outbox rows are purged
+ */
+@ConfigurationProperties("tracker.changes")
+public record ChangeStreamProperties(
+        @DefaultValue("500") int relayBatchSize,
+        @DefaultValue("256") int subscriberBuffer,
+        @DefaultValue("15s") Duration heartbeatInterval,
+        @DefaultValue("7d") Duration retention
+) {
+}
@@ -0,0 +1,11 @@
+-- Mirrors the Postgres migration; base_value is the value the sequence hands out next
+create sequence if not exists employees_seq start with 1 increment by 50;
+
+alter sequence employees_seq restart with greatest(
+        (select coalesce(max(id), 1) + 50 from employees),
+        (select base_value from information_schema.sequences where sequence_name = 'EMPLOYEES_SEQ'));
+
+alter table employees alter column id drop identity;
+
+alter table projects add column if not exists version bigint default 0 not null;
+alter table employees add column if not exists version bigint default 0 not null;
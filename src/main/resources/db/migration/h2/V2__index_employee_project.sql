@@ -0,0 +1,2 @@
+-- Mirrors the Postgres migration; trigram search has no H2 equivalent and runs in memory there
+create index if not exists idx_employees_project_id on employees (project_id);
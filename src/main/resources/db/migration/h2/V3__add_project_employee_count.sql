@@ -0,0 +1,5 @@
+-- Mirrors the Postgres migration
+alter table projects add column if not exists employee_count integer not null default 0;
+
+update projects p
+set employee_count = (select count(*) from employees e where e.project_id = p.id);
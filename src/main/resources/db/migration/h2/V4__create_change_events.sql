@@ -0,0 +1,11 @@
+-- Mirrors the Postgres migration
+create table if not exists change_events
+(
+    id             bigint generated by default as identity primary key,
+    aggregate_type varchar(16)              not null,
+    aggregate_id   bigint                   not null,
+    change_type    varchar(16)              not null,
+    occurred_at    timestamp with time zone not null
+);
+
+create index if not exists idx_change_events_occurred_at on change_events (occurred_at);
@@ -0,0 +1,6 @@
+-- Mirrors the Postgres migration
+alter table employees add column if not exists updated_at timestamp with time zone default current_timestamp not null;
+alter table projects add column if not exists updated_at timestamp with time zone default current_timestamp not null;
+
+create index if not exists idx_employees_updated_at on employees (updated_at, id);
+create index if not exists idx_projects_updated_at on projects (updated_at, id);
@@ -0,0 +1,18 @@
+-- Mirrors the Postgres migration, without UNLOGGED
+create table if not exists employee_import_rows
+(
+    import_id   uuid    not null,
+    row_no      bigint  not null,
+    id          bigint,
+    first_name  varchar,
+    last_name   varchar,
+    middle_name varchar,
+    username    varchar,
+    email       varchar,
+    project_id  bigint,
+    error       varchar,
+    primary key (import_id, row_no)
+);
+
+create index if not exists idx_employee_import_rows_username on employee_import_rows (import_id, username);
+create index if not exists idx_employee_import_rows_email on employee_import_rows (import_id, email);
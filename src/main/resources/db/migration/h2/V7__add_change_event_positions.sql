@@ -0,0 +1,15 @@
+-- Mirrors the Postgres migration; H2 has no partial indexes, the position index also finds the unstamped rows
+alter table change_events add column if not exists position bigint;
+update change_events set position = id where position is null;
+
+create unique index if not exists idx_change_events_position on change_events (position);
+
+create table if not exists change_event_cursor
+(
+    id            int    primary key,
+    last_position bigint not null
+);
+
+merge into change_event_cursor (id, last_position)
+key (id)
+select 1, coalesce(max(position), 0) from change_events;
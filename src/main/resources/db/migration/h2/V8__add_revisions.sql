@@ -0,0 +1,3 @@
+-- Mirrors the Postgres migration
+alter table projects add column if not exists revision bigint default 0 not null;
+alter table employees add column if not exists revision bigint default 0 not null;
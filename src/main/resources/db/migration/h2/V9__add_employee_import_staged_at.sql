@@ -0,0 +1,3 @@
+-- Mirrors the Postgres migration
+alter table employee_import_rows add column if not exists staged_at timestamp with time zone
+    default current_timestamp not null;
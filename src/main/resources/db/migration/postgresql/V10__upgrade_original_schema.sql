@@ -0,0 +1,14 @@
+-- Gives databases baselined at V1 what the schema of the former ddl-auto=update lacks: employee ids come from a pooled
+-- sequence instead of an identity column, and both tables carry the optimistic-lock version. A no-op on databases
+-- created by V1, and safe to re-run.
+create sequence if not exists employees_seq start with 1 increment by 50;
+
+-- Hibernate reads each value as the upper end of a block of 50 ids, so the next block has to start past every existing
+-- id. Never moves the sequence back, which would hand out blocks again that running instances still hold.
+select setval('employees_seq', greatest(coalesce(max(id), 1), (select last_value from employees_seq)))
+from employees;
+
+alter table employees alter column id drop identity if exists;
+
+alter table projects add column if not exists version bigint default 0 not null;
+alter table employees add column if not exists version bigint default 0 not null;
@@ -0,0 +1,27 @@
+-- The schema Hibernate used to create with ddl-auto=update; existing databases are baselined at this version
+
+create sequence employees_seq start with 1 increment by 50;
+
+create table projects
+(
+    id          bigint generated by default as identity primary key,
+    name        varchar(255) not null,
+    description varchar(255),
+    version     bigint default 0 not null,
+    constraint uk_projects_name unique (name)
+);
+
+create table employees
+(
+    id          bigint       not null primary key,
+    first_name  varchar(255) not null,
+    last_name   varchar(255) not null,
+    middle_name varchar(255),
+    username    varchar(255) not null,
+    email       varchar(255),
+    project_id  bigint,
+    version     bigint default 0 not null,
+    constraint uk_employees_username unique (username),
+    constraint uk_employees_email unique (email),
+    constraint fk_employees_project foreign key (project_id) references projects (id)
+);
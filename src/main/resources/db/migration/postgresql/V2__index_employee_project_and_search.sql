@@ -0,0 +1,11 @@
+-- Postgres does not index referencing columns: without this, roster loads (project_id = ? / in (...)),
+-- bulk reassignments and the foreign key check on every project delete scan the whole employees table
+create index if not exists idx_employees_project_id on employees (project_id);
+
+-- Previously created by schema-postgresql.sql, hence "if not exists" for baselined databases.
+-- Backs EmployeeSearchRepositoryImpl; the indexed expression must match the one used in the query.
+create extension if not exists pg_trgm;
+
+create index if not exists idx_employees_search_trgm on employees
+    using gin ((first_name || ' ' || last_name || ' ' || coalesce(middle_name, '')
+                || ' ' || username || ' ' || coalesce(email, '')) gin_trgm_ops);
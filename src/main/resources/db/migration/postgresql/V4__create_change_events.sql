@@ -0,0 +1,13 @@
+-- Transactional outbox behind /api/changes/stream: rows are written in the same transaction as the change they
+-- describe. The relay orders them by the position added in V7, which is also the SSE event id clients resume from.
+create table if not exists change_events
+(
+    id             bigint generated by default as identity primary key,
+    aggregate_type varchar(16)              not null,
+    aggregate_id   bigint                   not null,
+    change_type    varchar(16)              not null,
+    occurred_at    timestamp with time zone not null
+);
+
+-- Retention purge
+create index if not exists idx_change_events_occurred_at on change_events (occurred_at);
@@ -0,0 +1,7 @@
+-- Modification time behind the delta sync endpoints (/api/employees/changes, /api/projects/changes), read in
+-- (updated_at, id) order. current_timestamp is stable, so existing rows take the migration time without a rewrite.
+alter table employees add column if not exists updated_at timestamp with time zone default current_timestamp not null;
+alter table projects add column if not exists updated_at timestamp with time zone default current_timestamp not null;
+
+create index if not exists idx_employees_updated_at on employees (updated_at, id);
+create index if not exists idx_projects_updated_at on projects (updated_at, id);
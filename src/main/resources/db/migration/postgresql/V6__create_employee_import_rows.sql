@@ -0,0 +1,21 @@
+-- Staging area for POST /api/employees/import: rows are COPY'd in chunk by chunk, each committed on its own, then
+-- checked for conflicts with set-based queries and merged into employees in one transaction. The import deletes its
+-- rows when it ends. Unlogged, since the rows are only needed while their import runs.
+create unlogged table if not exists employee_import_rows
+(
+    import_id   uuid    not null,
+    row_no      bigint  not null,
+    id          bigint,
+    first_name  varchar,
+    last_name   varchar,
+    middle_name varchar,
+    username    varchar,
+    email       varchar,
+    project_id  bigint,
+    error       varchar,
+    primary key (import_id, row_no)
+);
+
+-- Conflict checks within the file
+create index if not exists idx_employee_import_rows_username on employee_import_rows (import_id, username);
+create index if not exists idx_employee_import_rows_email on employee_import_rows (import_id, email);
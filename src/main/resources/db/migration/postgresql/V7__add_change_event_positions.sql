@@ -0,0 +1,20 @@
+-- Identity ids are taken at insert and become visible at commit, so they commit out of order and rolled-back
+-- inserts leave permanent holes. The relay stamps committed rows with a position instead, in the order it first
+-- sees them; positions are the SSE event ids clients resume from. Existing rows keep their id as position.
+alter table change_events add column if not exists position bigint;
+update change_events set position = id where position is null;
+
+create unique index if not exists idx_change_events_position on change_events (position);
+-- Rows the relay still has to stamp
+create index if not exists idx_change_events_unsequenced on change_events (id) where position is null;
+
+-- Single row locked while stamping, so relays on several instances take turns and positions commit in order
+create table if not exists change_event_cursor
+(
+    id            int    primary key,
+    last_position bigint not null
+);
+
+insert into change_event_cursor (id, last_position)
+select 1, coalesce(max(position), 0) from change_events
+on conflict (id) do nothing;
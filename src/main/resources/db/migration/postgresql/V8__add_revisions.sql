@@ -0,0 +1,5 @@
+-- ETag revision of projects and employees, bumped by the bulk roster, count and import statements that bypass the
+-- entities. version stays the JPA optimistic lock, so those statements no longer fail unrelated entity updates.
+-- A constant default does not rewrite the tables.
+alter table projects add column if not exists revision bigint default 0 not null;
+alter table employees add column if not exists revision bigint default 0 not null;
@@ -0,0 +1,4 @@
+-- Rows of imports that died before deleting them (e.g. the instance was killed mid-file) are purged nightly by age.
+-- Each chunk is staged in a transaction of its own, so the default is the time the chunk was written.
+alter table employee_import_rows add column if not exists staged_at timestamp with time zone
+    default current_timestamp not null;
@@ -0,0 +1,48 @@
+package io.teammetric.tracker.benchmark;
+
+import io.teammetric.tracker.entity.Employee;
+import io.teammetric.tracker.entity.Project;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Detached entity graphs shaped like production data, for benchmarks that do not need a database.
+ */
+final class BenchmarkData {
+    private BenchmarkData() {
+    }
+
+    static Project project(long id, int rosterSize) {
+        Project project = Project.builder()
+                .id(id)
+                .name("Project " + id)
+                .description("Benchmark project number " + id)
+                .employees(new ArrayList<>(rosterSize))
+                .build();
+
+        for (int i = 0; i < rosterSize; i++) {
+            long employeeId = id * 1_000_000 + i;
+            project.getEmployees().add(Employee.builder()
+                    .id(employeeId)
+                    .firstName("Иван")
+                    .lastName("Петров-" + i)
+                    .middleName("Сергеевич")
+                    .username("user" + employeeId)
+                    .email("user" + employeeId + "@teammetric.io")
+                    .project(project)
+                    .build());
+        }
+
+        return project;
+    }
+
+    static List<Project> projects(int count, int rosterSize) {
+        List<Project> projects = new ArrayList<>(count);
+        for (long id = 1; id <= count; id++) {
+            projects.add(project(id, rosterSize));
+        }
+
+        return projects;
+    }
+}
@@ -0,0 +1,93 @@
+package io.teammetric.tracker.benchmark;
+
+import io.teammetric.tracker.TrackerApplication;
+import io.teammetric.tracker.dto.response.employee.EmployeeResponse;
+import io.teammetric.tracker.entity.Employee;
+import io.teammetric.tracker.entity.Project;
+import io.teammetric.tracker.repository.EmployeeRepository;
+import io.teammetric.tracker.repository.ProjectRepository;
+import io.teammetric.tracker.service.EmployeeService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link EmployeeService#findAll()} against the in-memory H2 database from the test configuration.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmployeeServiceBenchmark {
+    private static final int PROJECTS = 100;
+
+    @Param({"1000", "10000"})
+    private int employees;
+
+    private ConfigurableApplicationContext context;
+    private EmployeeService employeeService;
+    private TransactionTemplate readOnlyTransaction;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(TrackerApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+                        "spring.jpa.show-sql=false",
+                        "spring.main.banner-mode=off",
+                        "logging.level.root=WARN")
+                .run();
+
+        employeeService = context.getBean(EmployeeService.class);
+        readOnlyTransaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnlyTransaction.setReadOnly(true);
+
+        seed(context.getBean(ProjectRepository.class), context.getBean(EmployeeRepository.class));
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    /**
+     * Runs inside a read-only transaction, standing in for the open-in-view session of a web request,
+     * so that lazy project references resolve the way they do behind the controller.
+     */
+    @Benchmark
+    public List<EmployeeResponse> findAll() {
+        return readOnlyTransaction.execute(status -> employeeService.findAll());
+    }
+
+    private void seed(ProjectRepository projectRepository, EmployeeRepository employeeRepository) {
+        List<Project> projects = new ArrayList<>(PROJECTS);
+        for (int i = 0; i < PROJECTS; i++) {
+            projects.add(Project.builder()
+                    .name("Project " + i)
+                    .build());
+        }
+        projects = projectRepository.saveAll(projects);
+
+        List<Employee> rows = new ArrayList<>(employees);
+        for (int i = 0; i < employees; i++) {
+            rows.add(Employee.builder()
+                    .firstName("Иван")
+                    .lastName("Петров-" + i)
+                    .username("user" + i)
+                    .email("user" + i + "@teammetric.io")
+                    .project(projects.get(i % PROJECTS))
+                    .build());
+        }
+        employeeRepository.saveAll(rows);
+    }
+}
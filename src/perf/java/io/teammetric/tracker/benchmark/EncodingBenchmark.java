@@ -0,0 +1,111 @@
+package io.teammetric.tracker.benchmark;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import io.teammetric.tracker.controller.support.JacksonProtobufHttpMessageConverter;
+import io.teammetric.tracker.dto.response.employee.EmployeeResponse;
+import io.teammetric.tracker.dto.response.project.ProjectResponse;
+import io.teammetric.tracker.mapper.employee.EmployeeMapper;
+import io.teammetric.tracker.mapper.project.ProjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.GenericHttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.mock.http.MockHttpInputMessage;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Encodes and decodes what {@code GET /api/projects} returns through the converters each {@code Accept} selects,
+ * optionally gzipped as Tomcat does it. The payload size of each combination is printed at setup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EncodingBenchmark {
+    private static final int PROJECTS = 10;
+    private static final Type PROJECT_LIST = new ParameterizedTypeReference<List<ProjectResponse>>() {
+    }.getType();
+
+    @Param({"json", "cbor", "protobuf"})
+    private String encoding;
+
+    @Param({"false", "true"})
+    private boolean gzip;
+
+    @Param({"100", "1000", "10000"})
+    private int rosterSize;
+
+    private GenericHttpMessageConverter<Object> converter;
+    private MediaType mediaType;
+    private List<ProjectResponse> projects;
+    private byte[] payload;
+
+    @Setup
+    public void setUp() throws IOException {
+        switch (encoding) {
+            case "json" -> {
+                converter = new MappingJackson2HttpMessageConverter(Jackson2ObjectMapperBuilder.json().build());
+                mediaType = MediaType.APPLICATION_JSON;
+            }
+            case "cbor" -> {
+                converter = new MappingJackson2CborHttpMessageConverter(
+                        Jackson2ObjectMapperBuilder.json().factory(new CBORFactory()).build());
+                mediaType = MediaType.APPLICATION_CBOR;
+            }
+            case "protobuf" -> {
+                converter = new JacksonProtobufHttpMessageConverter(
+                        List.of(ProjectResponse.class, EmployeeResponse.class));
+                mediaType = JacksonProtobufHttpMessageConverter.APPLICATION_PROTOBUF;
+            }
+            default -> throw new IllegalArgumentException("Unknown encoding: " + encoding);
+        }
+
+        ProjectMapper projectMapper = new ProjectMapper(new EmployeeMapper());
+        projects = BenchmarkData.projects(PROJECTS, rosterSize).stream()
+                .map(projectMapper::toResponse)
+                .toList();
+        payload = encode();
+
+        System.out.printf("%n%s%s, roster %d: %d bytes%n", encoding, gzip ? "+gzip" : "", rosterSize, payload.length);
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        MockHttpOutputMessage message = new MockHttpOutputMessage();
+        converter.write(projects, PROJECT_LIST, mediaType, message);
+        byte[] body = message.getBodyAsBytes();
+        if (!gzip) {
+            return body;
+        }
+
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(body.length / 4);
+        try (GZIPOutputStream output = new GZIPOutputStream(compressed)) {
+            output.write(body);
+        }
+        return compressed.toByteArray();
+    }
+
+    @Benchmark
+    public Object decode() throws IOException {
+        InputStream body = new ByteArrayInputStream(payload);
+        MockHttpInputMessage message = new MockHttpInputMessage(gzip ? new GZIPInputStream(body) : body);
+        message.getHeaders().setContentType(mediaType);
+
+        return converter.read(PROJECT_LIST, null, message);
+    }
+}
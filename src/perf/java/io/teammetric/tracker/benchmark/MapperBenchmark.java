@@ -0,0 +1,48 @@
+package io.teammetric.tracker.benchmark;
+
+import io.teammetric.tracker.dto.response.employee.EmployeeResponse;
+import io.teammetric.tracker.dto.response.project.ProjectResponse;
+import io.teammetric.tracker.entity.Employee;
+import io.teammetric.tracker.entity.Project;
+import io.teammetric.tracker.mapper.employee.EmployeeMapper;
+import io.teammetric.tracker.mapper.project.ProjectMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+    @Param({"10", "1000", "10000"})
+    private int rosterSize;
+
+    private EmployeeMapper employeeMapper;
+    private ProjectMapper projectMapper;
+    private Project project;
+    private List<Employee> roster;
+
+    @Setup
+    public void setUp() {
+        employeeMapper = new EmployeeMapper();
+        projectMapper = new ProjectMapper(employeeMapper);
+        project = BenchmarkData.project(1L, rosterSize);
+        roster = project.getEmployees();
+    }
+
+    @Benchmark
+    public List<EmployeeResponse> employeeMapperToResponse() {
+        return roster.stream()
+                .map(employeeMapper::toResponse)
+                .toList();
+    }
+
+    @Benchmark
+    public ProjectResponse projectMapperToResponse() {
+        return projectMapper.toResponse(project);
+    }
+}
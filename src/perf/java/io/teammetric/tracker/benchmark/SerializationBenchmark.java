@@ -0,0 +1,47 @@
+package io.teammetric.tracker.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.teammetric.tracker.dto.response.project.ProjectResponse;
+import io.teammetric.tracker.mapper.employee.EmployeeMapper;
+import io.teammetric.tracker.mapper.project.ProjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serializes what {@code GET /api/projects} returns: ten projects with the given roster size each.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializationBenchmark {
+    private static final int PROJECTS = 10;
+
+    @Param({"10", "1000", "10000"})
+    private int rosterSize;
+
+    private ObjectWriter writer;
+    private List<ProjectResponse> projects;
+
+    @Setup
+    public void setUp() {
+        // Same defaults as the ObjectMapper Spring MVC uses for response bodies
+        writer = Jackson2ObjectMapperBuilder.json().build().writer();
+
+        ProjectMapper projectMapper = new ProjectMapper(new EmployeeMapper());
+        projects = BenchmarkData.projects(PROJECTS, rosterSize).stream()
+                .map(projectMapper::toResponse)
+                .toList();
+    }
+
+    @Benchmark
+    public byte[] serializeProjects() throws JsonProcessingException {
+        return writer.writeValueAsBytes(projects);
+    }
+}
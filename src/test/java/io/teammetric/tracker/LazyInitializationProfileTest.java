@@ -0,0 +1,42 @@
+package io.teammetric.tracker;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("lazy")
+public class LazyInitializationProfileTest {
+    @Autowired
+    private ConfigurableApplicationContext applicationContext;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @DisplayName("Lazy: EntityManagerFactory создаётся при старте, маппер - при первом запросе")
+    void lazyProfile_ShouldDeferMappersButNotPersistence() throws Exception {
+        // --- GIVEN ---
+        ConfigurableListableBeanFactory beanFactory = applicationContext.getBeanFactory();
+
+        // --- WHEN & THEN ---
+        assertThat(beanFactory.containsSingleton("entityManagerFactory")).isTrue();
+        assertThat(beanFactory.containsSingleton("projectMapper")).isFalse();
+
+        mockMvc.perform(get("/api/projects"))
+                .andExpect(status().isOk());
+
+        assertThat(beanFactory.containsSingleton("projectMapper")).isTrue();
+    }
+}
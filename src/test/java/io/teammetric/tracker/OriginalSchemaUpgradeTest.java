@@ -0,0 +1,94 @@
+package io.teammetric.tracker;
+
+import io.teammetric.tracker.dto.request.employee.CreateEmployeeRequest;
+import io.teammetric.tracker.dto.response.employee.EmployeeResponse;
+import io.teammetric.tracker.entity.Employee;
+import io.teammetric.tracker.repository.EmployeeRepository;
+import io.teammetric.tracker.service.EmployeeService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * Starts the application on a database in the schema the former {@code ddl-auto=update} created: identity employee
+ * ids, no {@code employees_seq} and no {@code version} columns. Baselined at V1 like in production.
+ */
+@SpringBootTest(properties = {"spring.flyway.baseline-on-migrate=true", "spring.flyway.baseline-version=1"})
+public class OriginalSchemaUpgradeTest {
+    private static final String URL = "jdbc:h2:mem:original-schema;DB_CLOSE_DELAY=-1";
+    private static final long MAX_EMPLOYEE_ID = 120;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @DynamicPropertySource
+    static void originalSchema(DynamicPropertyRegistry registry) throws SQLException {
+        try (Connection connection = DriverManager.getConnection(URL, "sa", "");
+             Statement statement = connection.createStatement()) {
+            statement.execute("""
+                    create table projects
+                    (
+                        id          bigint generated by default as identity primary key,
+                        description varchar(255),
+                        name        varchar(255) not null unique
+                    )
+                    """);
+            statement.execute("""
+                    create table employees
+                    (
+                        id          bigint generated by default as identity primary key,
+                        email       varchar(255) unique,
+                        first_name  varchar(255) not null,
+                        last_name   varchar(255) not null,
+                        middle_name varchar(255),
+                        username    varchar(255) not null unique,
+                        project_id  bigint references projects (id)
+                    )
+                    """);
+            statement.execute("insert into projects (name) values ('Apollo')");
+            statement.execute("insert into employees (first_name, last_name, username) "
+                    + "values ('Иван', 'Иванов', 'ivanov')");
+            statement.execute("insert into employees (id, first_name, last_name, username, project_id) "
+                    + "values (" + MAX_EMPLOYEE_ID + ", 'Пётр', 'Петров', 'petrov', 1)");
+        }
+
+        registry.add("spring.datasource.url", () -> URL);
+    }
+
+    @Test
+    @DisplayName("Migrations: База в исходной схеме должна проходить валидацию и выдавать id после существующих")
+    void start_WhenSchemaIsOriginal_ShouldMigrateAndCreateEmployeesPastExistingIds() {
+        // --- GIVEN ---
+        CreateEmployeeRequest employeeRequest = CreateEmployeeRequest.builder()
+                .firstName("Анна")
+                .lastName("Журавлёва")
+                .username("zhuravleva")
+                .build();
+
+        // --- WHEN ---
+        EmployeeResponse created = employeeService.save(employeeRequest);
+
+        // --- THEN ---
+        assertThat(created.id()).isGreaterThan(MAX_EMPLOYEE_ID);
+        assertThat(employeeRepository.findAll())
+                .extracting(Employee::getUsername, Employee::getVersion)
+                .containsExactlyInAnyOrder(
+                        tuple("ivanov", 0L),
+                        tuple("petrov", 0L),
+                        tuple("zhuravleva", 0L));
+    }
+}
@@ -0,0 +1,47 @@
+package io.teammetric.tracker.controller;
+
+import io.teammetric.tracker.dto.response.cache.CacheStatsResponse;
+import io.teammetric.tracker.service.cache.ResponseCaches;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(CacheController.class)
+public class CacheControllerTest {
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private ResponseCaches responseCaches;
+
+    @Test
+    @DisplayName("GetStats: Должна вернуться статистика по каждому кэшу и статус 200")
+    void getStats_ShouldReturnStatsAndStatusOk() throws Exception {
+        // --- GIVEN ---
+        CacheStatsResponse employeeStats = CacheStatsResponse.builder()
+                .name(ResponseCaches.EMPLOYEES)
+                .size(3)
+                .hitCount(10)
+                .missCount(2)
+                .hitRate(10 / 12.0)
+                .build();
+
+        when(responseCaches.getStats()).thenReturn(List.of(employeeStats));
+
+        // --- WHEN & THEN ---
+        mockMvc.perform(get("/api/caches"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.[0].name").value(ResponseCaches.EMPLOYEES))
+                .andExpect(jsonPath("$.[0].hitCount").value(10))
+                .andExpect(jsonPath("$.[0].missCount").value(2));
+    }
+}
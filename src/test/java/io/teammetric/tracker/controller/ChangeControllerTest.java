@@ -0,0 +1,66 @@
+package io.teammetric.tracker.controller;
+
+import io.teammetric.tracker.exception.ChangeStreamUnavailableException;
+import io.teammetric.tracker.service.changes.ChangeStreamDispatcher;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(ChangeController.class)
+public class ChangeControllerTest {
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private ChangeStreamDispatcher changeStreamDispatcher;
+
+    @Test
+    @DisplayName("Stream: Поток должен продолжаться с id из заголовка Last-Event-ID")
+    void stream_WhenLastEventIdHeaderGiven_ShouldResumeFromIt() throws Exception {
+        // --- GIVEN ---
+        when(changeStreamDispatcher.subscribe(42L)).thenReturn(new SseEmitter());
+
+        // --- WHEN & THEN ---
+        mockMvc.perform(get("/api/changes/stream")
+                        .accept(MediaType.TEXT_EVENT_STREAM)
+                        .header("Last-Event-ID", "42")
+                        .param("lastEventId", "7"))
+                .andExpect(request().asyncStarted());
+
+        verify(changeStreamDispatcher).subscribe(42L);
+    }
+
+    @Test
+    @DisplayName("Stream: Без заголовка поток должен продолжаться с id из параметра запроса")
+    void stream_WhenOnlyQueryParameterGiven_ShouldResumeFromIt() throws Exception {
+        // --- GIVEN ---
+        when(changeStreamDispatcher.subscribe(7L)).thenReturn(new SseEmitter());
+
+        // --- WHEN & THEN ---
+        mockMvc.perform(get("/api/changes/stream").param("lastEventId", "7"))
+                .andExpect(request().asyncStarted());
+
+        verify(changeStreamDispatcher).subscribe(7L);
+    }
+
+    @Test
+    @DisplayName("Stream: Пока ретранслятор не запущен, должен вернуться статус 503")
+    void stream_WhenRelayNotStarted_ShouldReturnServiceUnavailable() throws Exception {
+        // --- GIVEN ---
+        when(changeStreamDispatcher.subscribe(null))
+                .thenThrow(new ChangeStreamUnavailableException("Change stream is not started yet"));
+
+        // --- WHEN & THEN ---
+        mockMvc.perform(get("/api/changes/stream"))
+                .andExpect(status().isServiceUnavailable());
+    }
+}
@@ -1,27 +1,48 @@
 package io.teammetric.tracker.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.teammetric.tracker.controller.support.NdjsonStreamer;
+import io.teammetric.tracker.dto.request.employee.BatchUpdateEmployeeRequest;
 import io.teammetric.tracker.dto.request.employee.CreateEmployeeRequest;
+import io.teammetric.tracker.dto.request.employee.EmployeeBatchRequest;
 import io.teammetric.tracker.dto.request.employee.UpdateEmployeeRequest;
+import io.teammetric.tracker.dto.response.employee.EmployeeBatchItemResult;
+import io.teammetric.tracker.dto.response.employee.EmployeeBatchResponse;
+import io.teammetric.tracker.dto.response.employee.EmployeeImportError;
+import io.teammetric.tracker.dto.response.employee.EmployeeImportResponse;
 import io.teammetric.tracker.dto.response.employee.EmployeeResponse;
+import io.teammetric.tracker.dto.response.employee.EmployeeSuggestionResponse;
+import io.teammetric.tracker.dto.response.page.CursorPageResponse;
+import io.teammetric.tracker.dto.response.page.DeltaPageResponse;
 import io.teammetric.tracker.exception.EntityNotFoundException;
+import io.teammetric.tracker.exception.InvalidCursorException;
+import io.teammetric.tracker.exception.InvalidImportFileException;
+import io.teammetric.tracker.service.EmployeeImportService;
 import io.teammetric.tracker.service.EmployeeService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(EmployeeController.class)
+@Import(NdjsonStreamer.class)
 public class EmployeeControllerTest {
     @Autowired
     private MockMvc mockMvc;
@@ -29,6 +50,9 @@ public class EmployeeControllerTest {
     @MockitoBean
     private EmployeeService employeeService;
 
+    @MockitoBean
+    private EmployeeImportService employeeImportService;
+
     @Autowired
     private ObjectMapper jacksonObjectMapper;
 
@@ -69,6 +93,39 @@ public class EmployeeControllerTest {
                 .andExpect(status().isNotFound());
     }
 
+    @Test
+    @DisplayName("GetById: Если версия совпадает с If-None-Match — должен вернуться статус 304 без тела")
+    void getById_WhenVersionMatches_ShouldReturnNotModified() throws Exception {
+        // --- GIVEN ---
+        Long id = 1L;
+
+        when(employeeService.getById(id)).thenReturn(EmployeeResponse.builder().id(id).versionTag("3.1").build());
+
+        // --- WHEN & THEN ---
+        mockMvc.perform(get("/api/employees/{id}", id)
+                        .header("If-None-Match", "\"3.1\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "W/\"3.1\""))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    @DisplayName("GetById: Если версия изменилась — должен вернуться статус 200 и новый ETag")
+    void getById_WhenVersionChanged_ShouldReturnBodyWithNewETag() throws Exception {
+        // --- GIVEN ---
+        Long id = 1L;
+
+        when(employeeService.getById(id)).thenReturn(EmployeeResponse.builder().id(id).versionTag("4.1").build());
+
+        // --- WHEN & THEN ---
+        mockMvc.perform(get("/api/employees/{id}", id)
+                        .header("If-None-Match", "\"3.1\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "W/\"4.1\""))
+                .andExpect(jsonPath("$.id").value(id))
+                .andExpect(jsonPath("$.versionTag").doesNotExist());
+    }
+
     @Test
     @DisplayName("FindAll: Если сотрудники существуют — должен вернуться не пустой список сотрудников и статус 200")
     void findAll_WhenEmployeesExist_ShouldReturnListAndStatusOk() throws Exception {
@@ -110,6 +167,183 @@ public class EmployeeControllerTest {
                 .andExpect(jsonPath("$.size()").value(0));
     }
 
+    @Test
+    @DisplayName("FindPage: Если передан limit — должна вернуться страница с курсором и статус 200")
+    void findPage_WhenLimitGiven_ShouldReturnPageAndStatusOk() throws Exception {
+        // --- GIVEN ---
+        EmployeeResponse response = EmployeeResponse.builder()
+                .id(5L)
+                .firstName("Алиса")
+                .build();
+
+        CursorPageResponse<EmployeeResponse> page = CursorPageResponse.<EmployeeResponse>builder()
+                .items(List.of(response))
+                .nextCursor("NQ")
+                .build();
+
+        when(employeeService.findPage("NA", 1)).thenReturn(page);
+
+        // --- WHEN & THEN ---
+        mockMvc.perform(get("/api/employees")
+                        .param("after", "NA")
+                        .param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.size()").value(1))
+                .andExpect(jsonPath("$.items[0].id").value(response.id()))
+                .andExpect(jsonPath("$.nextCursor").value("NQ"));
+    }
+
+    @Test
+    @DisplayName("FindPage: Если limit вне допустимого диапазона — должен вернуться статус 400")
+    void findPage_WhenLimitOutOfRange_ShouldReturnBadRequest() throws Exception {
+        // --- WHEN & THEN ---
+        mockMvc.perform(get("/api/employees")
+                        .param("limit", "0"))
+                .andExpect(status().isBadRequest());
+
+        verify(employeeService, never()).findPage(any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("FindPage: Если курсор повреждён — должен вернуться статус 400")
+    void findPage_WhenCursorInvalid_ShouldReturnBadRequest() throws Exception {
+        // --- GIVEN ---
+        when(employeeService.findPage("broken", 10))
+                .thenThrow(new InvalidCursorException("Cursor is not valid: broken"));
+
+        // --- WHEN & THEN ---
+        mockMvc.perform(get("/api/employees")
+                        .param("after", "broken")
+                        .param("limit", "10"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("FindChanges: Должны вернуться изменения после токена, новый токен и статус 200")
+    void findChanges_WhenTokenGiven_ShouldReturnChangesAndNextToken() throws Exception {
+        // --- GIVEN ---
+        EmployeeResponse response = EmployeeResponse.builder()
+                .id(7L)
+                .firstName("Алиса")
+                .build();
+
+        DeltaPageResponse<EmployeeResponse> page = DeltaPageResponse.<EmployeeResponse>builder()
+                .items(List.of(response))
+                .nextToken("next")
+                .hasMore(false)
+                .build();
+
+        when(employeeService.findChanges("since", 500)).thenReturn(page);
+
+        // --- WHEN & THEN ---
+        mockMvc.perform(get("/api/employees/changes")
+                        .param("since", "since"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].id").value(response.id()))
+                .andExpect(jsonPath("$.nextToken").value("next"))
+                .andExpect(jsonPath("$.hasMore").value(false));
+    }
+
+    @Test
+    @DisplayName("Search: Если передан запрос — должна вернуться страница найденных сотрудников и статус 200")
+    void search_WhenQueryGiven_ShouldReturnPageAndStatusOk() throws Exception {
+        // --- GIVEN ---
+        EmployeeResponse hit = EmployeeResponse.builder()
+                .id(7L)
+                .lastName("Петров")
+                .build();
+        String nextCursor = "MjA";
+
+        when(employeeService.search("Петрв", null, 20)).thenReturn(CursorPageResponse.<EmployeeResponse>builder()
+                .items(List.of(hit))
+                .nextCursor(nextCursor)
+                .build());
+
+        // --- WHEN & THEN ---
+        mockMvc.perform(get("/api/employees/search")
+                        .param("q", "Петрв"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].id").value(7L))
+                .andExpect(jsonPath("$.nextCursor").value(nextCursor));
+    }
+
+    @Test
+    @DisplayName("Search: Если запрос короче трёх символов — должен вернуться статус 400")
+    void search_WhenQueryTooShort_ShouldReturnBadRequest() throws Exception {
+        // --- WHEN & THEN ---
+        mockMvc.perform(get("/api/employees/search")
+                        .param("q", "Пе"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(employeeService);
+    }
+
+    @Test
+    @DisplayName("Autocomplete: Должны вернуться подсказки по префиксу и статус 200")
+    void autocomplete_WhenPrefixGiven_ShouldReturnSuggestions() throws Exception {
+        // --- GIVEN ---
+        EmployeeSuggestionResponse suggestion = EmployeeSuggestionResponse.builder()
+                .id(1L)
+                .username("ipetrov")
+                .lastName("Петров")
+                .build();
+
+        when(employeeService.autocomplete("ipe", 10)).thenReturn(List.of(suggestion));
+
+        // --- WHEN & THEN ---
+        mockMvc.perform(get("/api/employees/autocomplete")
+                        .param("prefix", "ipe"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.[0].id").value(1L))
+                .andExpect(jsonPath("$.[0].username").value("ipetrov"));
+    }
+
+    @Test
+    @DisplayName("Autocomplete: Если лимит превышает допустимый — должен вернуться статус 400")
+    void autocomplete_WhenLimitTooLarge_ShouldReturnBadRequest() throws Exception {
+        // --- WHEN & THEN ---
+        mockMvc.perform(get("/api/employees/autocomplete")
+                        .param("prefix", "ipe")
+                        .param("limit", "500"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Export: Сотрудники должны выгружаться потоком в формате NDJSON, по одному JSON на строку")
+    void export_WhenEmployeesExist_ShouldStreamNdjson() throws Exception {
+        // --- GIVEN ---
+        EmployeeResponse first = EmployeeResponse.builder()
+                .id(1L)
+                .firstName("Ольга")
+                .build();
+
+        EmployeeResponse second = EmployeeResponse.builder()
+                .id(2L)
+                .firstName("Пётр")
+                .build();
+
+        doAnswer(invocation -> {
+            Consumer<EmployeeResponse> sink = invocation.getArgument(0);
+            sink.accept(first);
+            sink.accept(second);
+            return null;
+        }).when(employeeService).exportAll(any());
+
+        // --- WHEN ---
+        MvcResult mvcResult = mockMvc.perform(get("/api/employees/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // --- THEN ---
+        String expectedBody = jacksonObjectMapper.writeValueAsString(first) + "\n"
+                + jacksonObjectMapper.writeValueAsString(second) + "\n";
+
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().bytes(expectedBody.getBytes(StandardCharsets.UTF_8)));
+    }
+
     @Test
     @DisplayName("Create: При создании сотрудника с валидными данными — должен вернуться статус 201 и JSON с данными")
     void create_WhenValidInput_ShouldReturnStatusCreated() throws Exception {
@@ -173,6 +407,108 @@ public class EmployeeControllerTest {
         verifyNoInteractions(employeeService);
     }
 
+    @Test
+    @DisplayName("SaveAll: При пакетной отправке — должен вернуться статус 200 и результат по каждому элементу")
+    void saveAll_WhenValidBatch_ShouldReturnPerItemResults() throws Exception {
+        // --- GIVEN ---
+        EmployeeBatchRequest batchRequest = EmployeeBatchRequest.builder()
+                .create(List.of(CreateEmployeeRequest.builder()
+                        .firstName("Егор")
+                        .lastName("Лебедев")
+                        .username("egor")
+                        .build()))
+                .build();
+
+        EmployeeBatchResponse batchResponse = EmployeeBatchResponse.builder()
+                .succeeded(1)
+                .results(List.of(EmployeeBatchItemResult.builder()
+                        .operation(EmployeeBatchItemResult.Operation.CREATE)
+                        .index(0)
+                        .id(77L)
+                        .status(EmployeeBatchItemResult.Status.SUCCEEDED)
+                        .build()))
+                .build();
+
+        when(employeeService.saveAll(any(EmployeeBatchRequest.class))).thenReturn(batchResponse);
+
+        // --- WHEN & THEN ---
+        mockMvc.perform(post("/api/employees/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(jacksonObjectMapper.writeValueAsString(batchRequest)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.succeeded").value(1))
+                .andExpect(jsonPath("$.results[0].id").value(77))
+                .andExpect(jsonPath("$.results[0].status").value("SUCCEEDED"));
+    }
+
+    @Test
+    @DisplayName("SaveAll: Если хотя бы один элемент пакета невалиден — должен вернуться статус 400")
+    void saveAll_WhenItemInvalid_ShouldReturnBadRequest() throws Exception {
+        // --- GIVEN ---
+        EmployeeBatchRequest batchRequest = EmployeeBatchRequest.builder()
+                .update(List.of(new BatchUpdateEmployeeRequest(1L, UpdateEmployeeRequest.builder()
+                        .firstName("")
+                        .lastName("Лебедев")
+                        .build())))
+                .build();
+
+        // --- WHEN & THEN ---
+        mockMvc.perform(post("/api/employees/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(jacksonObjectMapper.writeValueAsString(batchRequest)))
+                .andExpect(status().isBadRequest());
+
+        verify(employeeService, never()).saveAll(any());
+    }
+
+    @Test
+    @DisplayName("Import: CSV из тела запроса и из формы должен передаваться в сервис, в ответе — итоги и ошибки строк")
+    void importCsv_FromBodyAndForm_ShouldReturnSummary() throws Exception {
+        // --- GIVEN ---
+        byte[] csv = "firstName,lastName,username\nИван,Иванов,ivanov\n,Петров,petrov\n"
+                .getBytes(StandardCharsets.UTF_8);
+        EmployeeImportResponse importResponse = EmployeeImportResponse.builder()
+                .imported(1)
+                .rejected(1)
+                .errors(List.of(new EmployeeImportError(2, "Firstname cannot be empty")))
+                .build();
+
+        when(employeeImportService.importCsv(any(InputStream.class))).thenAnswer(invocation -> {
+            assertThat(invocation.getArgument(0, InputStream.class).readAllBytes()).isEqualTo(csv);
+            return importResponse;
+        });
+
+        // --- WHEN & THEN ---
+        mockMvc.perform(post("/api/employees/import")
+                        .contentType("text/csv")
+                        .content(csv))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(1))
+                .andExpect(jsonPath("$.rejected").value(1))
+                .andExpect(jsonPath("$.errors[0].row").value(2))
+                .andExpect(jsonPath("$.errors[0].error").value("Firstname cannot be empty"));
+        mockMvc.perform(multipart("/api/employees/import")
+                        .file(new MockMultipartFile("file", "employees.csv", "text/csv", csv)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(1));
+
+        verify(employeeImportService, times(2)).importCsv(any(InputStream.class));
+    }
+
+    @Test
+    @DisplayName("Import: Если файл не разбирается как CSV — должен вернуться статус 400")
+    void importCsv_WhenFileMalformed_ShouldReturnBadRequest() throws Exception {
+        // --- GIVEN ---
+        when(employeeImportService.importCsv(any(InputStream.class)))
+                .thenThrow(new InvalidImportFileException("Malformed CSV at row 1: unknown column"));
+
+        // --- WHEN & THEN ---
+        mockMvc.perform(post("/api/employees/import")
+                        .contentType("text/csv")
+                        .content("name\nИван\n"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     @DisplayName("Update: При обновлении сотрудника с валидными данными — должен вернуться статус 200 и JSON с данными")
     void update_WhenValidInput_ShouldReturnStatusOk() throws Exception {
@@ -1,26 +1,45 @@
 package io.teammetric.tracker.controller;
 
+import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import io.teammetric.tracker.controller.support.JacksonProtobufHttpMessageConverter;
+import io.teammetric.tracker.controller.support.NdjsonStreamer;
+import io.teammetric.tracker.dto.request.project.AssignMembersRequest;
 import io.teammetric.tracker.dto.request.project.CreateProjectRequest;
+import io.teammetric.tracker.dto.request.project.UnassignMembersRequest;
 import io.teammetric.tracker.dto.request.project.UpdateProjectRequest;
+import io.teammetric.tracker.dto.response.employee.EmployeeResponse;
+import io.teammetric.tracker.dto.response.page.CursorPageResponse;
+import io.teammetric.tracker.dto.response.project.MembershipChangeResponse;
 import io.teammetric.tracker.dto.response.project.ProjectResponse;
+import io.teammetric.tracker.dto.response.project.ProjectSummaryResponse;
+import io.teammetric.tracker.entity.Project;
 import io.teammetric.tracker.exception.EntityNotFoundException;
 import io.teammetric.tracker.service.ProjectService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.MediaType;
+import org.springframework.mock.http.MockHttpInputMessage;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import java.util.List;
 
+import static io.teammetric.tracker.controller.support.JacksonProtobufHttpMessageConverter.APPLICATION_PROTOBUF;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(ProjectController.class)
+@Import(NdjsonStreamer.class)
 public class ProjectControllerTest {
     @Autowired
     private MockMvc mockMvc;
@@ -67,6 +86,36 @@ public class ProjectControllerTest {
                 .andExpect(status().isNotFound());
     }
 
+    @Test
+    @DisplayName("GetById: Должен вернуться слабый ETag по версии проекта и Vary: Accept")
+    void getById_WhenProjectExists_ShouldReturnWeakETag() throws Exception {
+        // --- GIVEN ---
+        Long id = 1L;
+
+        when(projectService.getById(id)).thenReturn(ProjectResponse.builder().id(id).versionTag("4").build());
+
+        // --- WHEN & THEN ---
+        mockMvc.perform(get("/api/projects/{id}", id))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "W/\"4\""))
+                .andExpect(header().string("Vary", "Accept"));
+    }
+
+    @Test
+    @DisplayName("FindAll: Если версия коллекции совпадает с If-None-Match — должен вернуться статус 304 без загрузки проектов")
+    void findAll_WhenCollectionUnchanged_ShouldReturnNotModified() throws Exception {
+        // --- GIVEN ---
+        when(projectService.getCollectionVersionTag()).thenReturn("2.7.15");
+
+        // --- WHEN & THEN ---
+        mockMvc.perform(get("/api/projects")
+                        .header("If-None-Match", "\"2.7.15\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        verify(projectService, never()).findAll();
+    }
+
     @Test
     @DisplayName("FindAll: Если проекты существуют — должен вернуться не пустой список проектов и статус 200")
     void findAll_WhenProjectsExist_ShouldReturnListAndStatusOk() throws Exception {
@@ -95,6 +144,63 @@ public class ProjectControllerTest {
                 .andExpect(jsonPath("$.[1].name").value(secondResponse.name()));
     }
 
+    @Test
+    @DisplayName("FindAll: Формат ответа должен выбираться по Accept: JSON по умолчанию, CBOR и protobuf по запросу")
+    void findAll_ShouldNegotiateEncodingFromAccept() throws Exception {
+        // --- GIVEN ---
+        List<ProjectResponse> projects = List.of(ProjectResponse.builder()
+                .id(1L)
+                .name("Ketchup")
+                .employeeCount(1)
+                .employees(List.of(EmployeeResponse.builder()
+                        .id(10L)
+                        .firstName("Иван")
+                        .lastName("Иванов")
+                        .username("ivanov")
+                        .projectId(1L)
+                        .projectName("Ketchup")
+                        .build()))
+                .build());
+        when(projectService.findAll()).thenReturn(projects);
+
+        // --- WHEN ---
+        MvcResult json = mockMvc.perform(get("/api/projects").accept(MediaType.ALL))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andReturn();
+        MvcResult cbor = mockMvc.perform(get("/api/projects").accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andReturn();
+        MvcResult protobuf = mockMvc.perform(get("/api/projects").accept(APPLICATION_PROTOBUF))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(APPLICATION_PROTOBUF))
+                .andReturn();
+
+        // --- THEN ---
+        JavaType projectList = jacksonObjectMapper.getTypeFactory()
+                .constructCollectionType(List.class, ProjectResponse.class);
+        assertThat(jacksonObjectMapper.<List<ProjectResponse>>readValue(
+                json.getResponse().getContentAsByteArray(), projectList)).isEqualTo(projects);
+        assertThat(new CBORMapper().<List<ProjectResponse>>readValue(
+                cbor.getResponse().getContentAsByteArray(), projectList)).isEqualTo(projects);
+        assertThat(new JacksonProtobufHttpMessageConverter(List.of(ProjectResponse.class, EmployeeResponse.class))
+                .read(new ParameterizedTypeReference<List<ProjectResponse>>() {
+                }.getType(), null, new MockHttpInputMessage(protobuf.getResponse().getContentAsByteArray())))
+                .isEqualTo(projects);
+    }
+
+    @Test
+    @DisplayName("FindAll: Для ответа без protobuf-сообщения запрос protobuf должен получать статус 406")
+    void findAllSummaries_WhenProtobufRequested_ShouldReturnNotAcceptable() throws Exception {
+        // --- GIVEN ---
+        when(projectService.findAllSummaries()).thenReturn(List.of());
+
+        // --- WHEN & THEN ---
+        mockMvc.perform(get("/api/projects").param("view", "summary").accept(APPLICATION_PROTOBUF))
+                .andExpect(status().isNotAcceptable());
+    }
+
     @Test
     @DisplayName("FindAll: Если проектов нет — должен вернуть пустой список и статус 200")
     void findAll_WhenProjectsNotFound_ShouldReturnEmptyListAndStatusOk() throws Exception {
@@ -108,6 +214,93 @@ public class ProjectControllerTest {
                 .andExpect(jsonPath("$.size()").value(0));
     }
 
+    @Test
+    @DisplayName("FindAll: Если передан view=summary — должна вернуться сводка проектов без составов команд")
+    void findAll_WhenSummaryViewRequested_ShouldReturnSummaries() throws Exception {
+        // --- GIVEN ---
+        ProjectSummaryResponse summary = ProjectSummaryResponse.builder()
+                .id(1L)
+                .name("Ketchup")
+                .employeeCount(3)
+                .build();
+
+        when(projectService.findAllSummaries()).thenReturn(List.of(summary));
+
+        // --- WHEN & THEN ---
+        mockMvc.perform(get("/api/projects")
+                        .param("view", "summary"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.[0].name").value(summary.name()))
+                .andExpect(jsonPath("$.[0].employeeCount").value(3))
+                .andExpect(jsonPath("$.[0].employees").doesNotExist());
+
+        verify(projectService, never()).findAll();
+    }
+
+    @Test
+    @DisplayName("FindAll: Если передан view=full — должны вернуться проекты с полными составами")
+    void findAll_WhenFullViewRequested_ShouldReturnProjectsWithRosters() throws Exception {
+        // --- GIVEN ---
+        when(projectService.findAll()).thenReturn(List.of());
+
+        // --- WHEN & THEN ---
+        mockMvc.perform(get("/api/projects")
+                        .param("view", "full"))
+                .andExpect(status().isOk());
+
+        verify(projectService).findAll();
+    }
+
+    @Test
+    @DisplayName("FindPage: Если передан limit — должна вернуться страница проектов и статус 200")
+    void findPage_WhenLimitGiven_ShouldReturnPageAndStatusOk() throws Exception {
+        // --- GIVEN ---
+        ProjectResponse response = ProjectResponse.builder()
+                .id(3L)
+                .name("Pancakes")
+                .build();
+
+        CursorPageResponse<ProjectResponse> page = CursorPageResponse.<ProjectResponse>builder()
+                .items(List.of(response))
+                .build();
+
+        when(projectService.findPage(null, 20)).thenReturn(page);
+
+        // --- WHEN & THEN ---
+        mockMvc.perform(get("/api/projects")
+                        .param("limit", "20"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].name").value(response.name()))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("FindChanges: Если limit больше допустимого — должен вернуться статус 400")
+    void findChanges_WhenLimitTooLarge_ShouldReturnBadRequest() throws Exception {
+        // --- WHEN & THEN ---
+        mockMvc.perform(get("/api/projects/changes")
+                        .param("limit", "1001"))
+                .andExpect(status().isBadRequest());
+
+        verify(projectService, never()).findChanges(any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Export: Если проектов нет — должен вернуться пустой NDJSON поток и статус 200")
+    void export_WhenProjectsNotFound_ShouldStreamEmptyBody() throws Exception {
+        // --- WHEN ---
+        MvcResult mvcResult = mockMvc.perform(get("/api/projects/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // --- THEN ---
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(content().string(""));
+
+        verify(projectService).exportAll(any());
+    }
+
     @Test
     @DisplayName("Create: При создании проекта с валидными данными — должен вернуться статус 201 и JSON с данными")
     void create_WhenValidInput_ShouldReturnStatusCreated() throws Exception {
@@ -225,4 +418,78 @@ public class ProjectControllerTest {
                         .content(requestJson))
                 .andExpect(status().isNotFound());
     }
+
+    @Test
+    @DisplayName("Update: Если проект изменили параллельно — должен вернуться статус 409")
+    void update_WhenProjectModifiedConcurrently_ShouldReturnConflict() throws Exception {
+        // --- GIVEN ---
+        Long id = 1L;
+
+        UpdateProjectRequest requestDto = UpdateProjectRequest.builder()
+                .name("Gobbledygook")
+                .build();
+
+        String requestJson = jacksonObjectMapper.writeValueAsString(requestDto);
+
+        when(projectService.update(eq(id), any(UpdateProjectRequest.class)))
+                .thenThrow(new ObjectOptimisticLockingFailureException(Project.class, id));
+
+        // --- WHEN & THEN ---
+        mockMvc.perform(put("/api/projects/{id}", id)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(requestJson))
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    @DisplayName("AssignMembers: При переносе сотрудников — должен вернуться статус 200 и число затронутых строк")
+    void assignMembers_WhenValidInput_ShouldReturnAffectedCount() throws Exception {
+        // --- GIVEN ---
+        Long id = 3L;
+        AssignMembersRequest requestDto = AssignMembersRequest.builder()
+                .employeeIds(List.of(1L, 2L))
+                .build();
+
+        when(projectService.assignMembers(eq(id), any(AssignMembersRequest.class)))
+                .thenReturn(new MembershipChangeResponse(id, 2));
+
+        // --- WHEN & THEN ---
+        mockMvc.perform(post("/api/projects/{id}/members:assign", id)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(jacksonObjectMapper.writeValueAsString(requestDto)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.projectId").value(id))
+                .andExpect(jsonPath("$.affected").value(2));
+    }
+
+    @Test
+    @DisplayName("AssignMembers: Если не указаны ни сотрудники, ни исходный проект — должен вернуться статус 400")
+    void assignMembers_WhenSelectionMissing_ShouldReturnBadRequest() throws Exception {
+        // --- WHEN & THEN ---
+        mockMvc.perform(post("/api/projects/{id}/members:assign", 3L)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{}"))
+                .andExpect(status().isBadRequest());
+
+        verify(projectService, never()).assignMembers(anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("UnassignMembers: Если проект не найден — должен вернуться статус 404")
+    void unassignMembers_WhenProjectNotFound_ShouldReturnNotFound() throws Exception {
+        // --- GIVEN ---
+        Long id = 99L;
+        UnassignMembersRequest requestDto = UnassignMembersRequest.builder()
+                .employeeIds(List.of(1L))
+                .build();
+
+        when(projectService.unassignMembers(eq(id), any(UnassignMembersRequest.class)))
+                .thenThrow(new EntityNotFoundException("Project not found with id: " + id));
+
+        // --- WHEN & THEN ---
+        mockMvc.perform(post("/api/projects/{id}/members:unassign", id)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(jacksonObjectMapper.writeValueAsString(requestDto)))
+                .andExpect(status().isNotFound());
+    }
 }
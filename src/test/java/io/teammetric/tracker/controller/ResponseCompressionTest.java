@@ -0,0 +1,92 @@
+package io.teammetric.tracker.controller;
+
+import io.teammetric.tracker.entity.Employee;
+import io.teammetric.tracker.entity.Project;
+import io.teammetric.tracker.repository.EmployeeRepository;
+import io.teammetric.tracker.repository.ProjectRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpHeaders;
+
+import java.io.ByteArrayInputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+public class ResponseCompressionTest {
+    private final HttpClient httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @AfterEach
+    void tearDown() {
+        employeeRepository.deleteAllInBatch();
+        projectRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("Сжатие: Ответ должен сжиматься gzip в любом формате, если клиент его принимает, и получать слабый ETag")
+    void responses_WhenGzipAccepted_ShouldBeCompressed() throws Exception {
+        // --- GIVEN ---
+        Project apollo = projectRepository.save(Project.builder().name("Apollo").build());
+        employeeRepository.saveAll(IntStream.range(0, 100)
+                .mapToObj(i -> Employee.builder()
+                        .firstName("Иван")
+                        .lastName("Иванов")
+                        .username("user" + i)
+                        .email("user" + i + "@teammetric.io")
+                        .project(apollo)
+                        .build())
+                .toList());
+
+        // --- WHEN ---
+        HttpResponse<byte[]> json = get("/api/projects", "application/json", "gzip");
+        HttpResponse<byte[]> protobuf = get("/api/projects", "application/x-protobuf", "gzip");
+        HttpResponse<byte[]> identity = get("/api/projects", "application/json", "identity");
+
+        // --- THEN ---
+        assertThat(json.headers().firstValue(HttpHeaders.CONTENT_ENCODING)).hasValue("gzip");
+        assertThat(json.headers().firstValue(HttpHeaders.ETAG)).hasValueSatisfying(etag -> assertThat(etag).startsWith("W/"));
+        assertThat(String.join(",", json.headers().allValues(HttpHeaders.VARY))).isEqualTo("accept,accept-encoding");
+        assertThat(new String(gunzip(json.body()), StandardCharsets.UTF_8)).contains("\"username\":\"user99\"");
+        assertThat(protobuf.headers().firstValue(HttpHeaders.CONTENT_TYPE)).hasValue("application/x-protobuf");
+        assertThat(protobuf.headers().firstValue(HttpHeaders.CONTENT_ENCODING)).hasValue("gzip");
+        assertThat(identity.headers().firstValue(HttpHeaders.CONTENT_ENCODING)).isEmpty();
+        assertThat(identity.body()).isEqualTo(gunzip(json.body()));
+    }
+
+    private HttpResponse<byte[]> get(String path, String accept, String acceptEncoding) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header(HttpHeaders.ACCEPT, accept)
+                .header(HttpHeaders.ACCEPT_ENCODING, acceptEncoding)
+                .build();
+
+        HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        assertThat(response.statusCode()).isEqualTo(200);
+        return response;
+    }
+
+    private static byte[] gunzip(byte[] body) throws Exception {
+        try (GZIPInputStream input = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            return input.readAllBytes();
+        }
+    }
+}
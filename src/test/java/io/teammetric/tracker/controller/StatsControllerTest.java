@@ -0,0 +1,55 @@
+package io.teammetric.tracker.controller;
+
+import io.teammetric.tracker.dto.response.stats.ProjectHeadcountResponse;
+import io.teammetric.tracker.dto.response.stats.StaffingStatsResponse;
+import io.teammetric.tracker.service.StatsService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(StatsController.class)
+public class StatsControllerTest {
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private StatsService statsService;
+
+    @Test
+    @DisplayName("GetStaffing: Должна вернуться численность по проектам, число свободных сотрудников и статус 200")
+    void getStaffing_ShouldReturnHeadcountsAndStatusOk() throws Exception {
+        // --- GIVEN ---
+        ProjectHeadcountResponse apollo = ProjectHeadcountResponse.builder()
+                .projectId(1L)
+                .projectName("Apollo")
+                .headcount(12)
+                .build();
+
+        StaffingStatsResponse stats = StaffingStatsResponse.builder()
+                .totalEmployees(15)
+                .assignedEmployees(12)
+                .unassignedEmployees(3)
+                .projects(List.of(apollo))
+                .largestTeams(List.of(apollo))
+                .build();
+
+        when(statsService.getStaffing()).thenReturn(stats);
+
+        // --- WHEN & THEN ---
+        mockMvc.perform(get("/api/stats/staffing"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalEmployees").value(15))
+                .andExpect(jsonPath("$.unassignedEmployees").value(3))
+                .andExpect(jsonPath("$.projects[0].projectName").value("Apollo"))
+                .andExpect(jsonPath("$.largestTeams[0].headcount").value(12));
+    }
+}
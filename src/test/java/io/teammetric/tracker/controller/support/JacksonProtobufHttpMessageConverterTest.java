@@ -0,0 +1,98 @@
+package io.teammetric.tracker.controller.support;
+
+import io.teammetric.tracker.dto.response.employee.EmployeeResponse;
+import io.teammetric.tracker.dto.response.page.CursorPageResponse;
+import io.teammetric.tracker.dto.response.project.ProjectResponse;
+import io.teammetric.tracker.dto.response.project.ProjectSummaryResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.MockHttpInputMessage;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.lang.reflect.Type;
+import java.util.List;
+
+import static io.teammetric.tracker.controller.support.JacksonProtobufHttpMessageConverter.APPLICATION_PROTOBUF;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class JacksonProtobufHttpMessageConverterTest {
+    private static final Type PROJECT_LIST = new ParameterizedTypeReference<List<ProjectResponse>>() {
+    }.getType();
+
+    private final JacksonProtobufHttpMessageConverter converter =
+            new JacksonProtobufHttpMessageConverter(List.of(ProjectResponse.class, EmployeeResponse.class));
+
+    @Test
+    @DisplayName("Protobuf: Список проектов с составами должен записываться и читаться без потерь, включая null-поля")
+    void writeAndRead_ProjectList_ShouldRoundTrip() throws Exception {
+        // --- GIVEN ---
+        List<ProjectResponse> projects = List.of(
+                ProjectResponse.builder()
+                        .id(1L)
+                        .name("Apollo")
+                        .description("Луна")
+                        .employeeCount(2)
+                        .employees(List.of(employee(10L, "ivanov", 1L, "Apollo"), employee(11L, "petrov", 1L, "Apollo")))
+                        .build(),
+                ProjectResponse.builder()
+                        .id(2L)
+                        .name("Gemini")
+                        .build());
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+
+        // --- WHEN ---
+        converter.write(projects, PROJECT_LIST, APPLICATION_PROTOBUF, output);
+        Object read = converter.read(PROJECT_LIST, null, new MockHttpInputMessage(output.getBodyAsBytes()));
+
+        // --- THEN ---
+        assertThat(output.getHeaders().getContentType()).isEqualTo(APPLICATION_PROTOBUF);
+        assertThat(read).isEqualTo(projects);
+    }
+
+    @Test
+    @DisplayName("Protobuf: Одиночный сотрудник должен записываться одним сообщением без префикса длины")
+    void writeAndRead_SingleEmployee_ShouldRoundTrip() throws Exception {
+        // --- GIVEN ---
+        EmployeeResponse employee = employee(10L, "ivanov", null, null);
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+
+        // --- WHEN ---
+        converter.write(employee, EmployeeResponse.class, APPLICATION_PROTOBUF, output);
+        Object read = converter.read(EmployeeResponse.class, null, new MockHttpInputMessage(output.getBodyAsBytes()));
+
+        // --- THEN ---
+        assertThat(output.getBodyAsBytes()[0]).isEqualTo((byte) 0x08);
+        assertThat(read).isEqualTo(employee);
+    }
+
+    @Test
+    @DisplayName("Protobuf: Типы без сообщения в схеме не должны поддерживаться")
+    void canWrite_WhenTypeHasNoMessage_ShouldReturnFalse() {
+        // --- GIVEN ---
+        Type summaries = new ParameterizedTypeReference<List<ProjectSummaryResponse>>() {
+        }.getType();
+        Type page = new ParameterizedTypeReference<CursorPageResponse<ProjectResponse>>() {
+        }.getType();
+
+        // --- WHEN & THEN ---
+        assertThat(converter.canWrite(PROJECT_LIST, List.class, APPLICATION_PROTOBUF)).isTrue();
+        assertThat(converter.canWrite(summaries, List.class, APPLICATION_PROTOBUF)).isFalse();
+        assertThat(converter.canWrite(page, CursorPageResponse.class, APPLICATION_PROTOBUF)).isFalse();
+        assertThat(converter.canWrite(PROJECT_LIST, List.class, MediaType.APPLICATION_JSON))
+                .isFalse();
+    }
+
+    private static EmployeeResponse employee(Long id, String username, Long projectId, String projectName) {
+        return EmployeeResponse.builder()
+                .id(id)
+                .firstName("Иван")
+                .lastName(username)
+                .username(username)
+                .email(username + "@teammetric.io")
+                .projectId(projectId)
+                .projectName(projectName)
+                .build();
+    }
+}
@@ -0,0 +1,108 @@
+package io.teammetric.tracker.diagnostics;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.teammetric.tracker.dto.request.employee.BatchUpdateEmployeeRequest;
+import io.teammetric.tracker.dto.request.employee.CreateEmployeeRequest;
+import io.teammetric.tracker.dto.request.employee.EmployeeBatchRequest;
+import io.teammetric.tracker.dto.request.employee.UpdateEmployeeRequest;
+import io.teammetric.tracker.entity.Employee;
+import io.teammetric.tracker.entity.Project;
+import io.teammetric.tracker.repository.EmployeeRepository;
+import io.teammetric.tracker.repository.ProjectRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Bulk endpoints at their maximum size against the default budget, which fails requests in tests.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+public class BulkRequestQueryBudgetTest {
+    private static final int MAX_BATCH_SIZE = 1000;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper jacksonObjectMapper;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @AfterEach
+    void tearDown() {
+        employeeRepository.deleteAllInBatch();
+        projectRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("Batch: Создание максимального числа сотрудников должно укладываться в бюджет запросов")
+    void saveAll_WhenCreateBatchIsFull_ShouldStayWithinBudget() throws Exception {
+        // --- GIVEN ---
+        Project apollo = projectRepository.save(Project.builder().name("Apollo").build());
+        List<CreateEmployeeRequest> creates = IntStream.range(0, MAX_BATCH_SIZE)
+                .mapToObj(i -> CreateEmployeeRequest.builder()
+                        .firstName("Иван")
+                        .lastName("Иванов")
+                        .username("user" + i)
+                        .email("user" + i + "@teammetric.io")
+                        .projectId(apollo.getId())
+                        .build())
+                .toList();
+
+        // --- WHEN & THEN ---
+        postBatch(EmployeeBatchRequest.builder().create(creates).build());
+    }
+
+    @Test
+    @DisplayName("Batch: Обновление максимального числа сотрудников должно укладываться в бюджет запросов")
+    void saveAll_WhenUpdateBatchIsFull_ShouldStayWithinBudget() throws Exception {
+        // --- GIVEN ---
+        Project gemini = projectRepository.save(Project.builder().name("Gemini").build());
+        List<Employee> employees = employeeRepository.saveAll(IntStream.range(0, MAX_BATCH_SIZE)
+                .mapToObj(i -> Employee.builder()
+                        .firstName("Иван")
+                        .lastName("Иванов")
+                        .username("user" + i)
+                        .build())
+                .toList());
+        List<BatchUpdateEmployeeRequest> updates = employees.stream()
+                .map(employee -> BatchUpdateEmployeeRequest.builder()
+                        .id(employee.getId())
+                        .employee(UpdateEmployeeRequest.builder()
+                                .firstName("Пётр")
+                                .lastName("Петров")
+                                .projectId(gemini.getId())
+                                .build())
+                        .build())
+                .toList();
+
+        // --- WHEN & THEN ---
+        postBatch(EmployeeBatchRequest.builder().update(updates).build());
+    }
+
+    private void postBatch(EmployeeBatchRequest batchRequest) throws Exception {
+        mockMvc.perform(post("/api/employees/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(jacksonObjectMapper.writeValueAsString(batchRequest)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.succeeded").value(MAX_BATCH_SIZE))
+                .andExpect(jsonPath("$.failed").value(0));
+    }
+}
@@ -0,0 +1,28 @@
+package io.teammetric.tracker.diagnostics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+@SpringBootTest(properties = "tracker.query-budget.max-statements=0")
+@AutoConfigureMockMvc
+public class QueryBudgetInterceptorTest {
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @DisplayName("Запрос: При превышении бюджета в тестах запрос должен падать с указанием эндпоинта")
+    void request_WhenBudgetExceeded_ShouldFailWithEndpoint() {
+        // --- WHEN & THEN ---
+        assertThatThrownBy(() -> mockMvc.perform(get("/api/projects/{id}", 1)))
+                .rootCause()
+                .isInstanceOf(QueryBudgetExceededException.class)
+                .hasMessageContaining("GET /api/projects/{id} ran 1 statements (budget 0)");
+    }
+}
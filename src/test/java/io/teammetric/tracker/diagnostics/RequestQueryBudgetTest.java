@@ -0,0 +1,133 @@
+package io.teammetric.tracker.diagnostics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class RequestQueryBudgetTest {
+    private static final String SELECT_PROJECT = "select p.id, p.name from projects p where p.id=?";
+
+    @Test
+    @DisplayName("Inspect: Вне запроса SQL должен возвращаться без изменений и без проверки бюджета")
+    void inspect_WithoutScope_ShouldPassThrough() {
+        // --- GIVEN ---
+        RequestQueryBudget queryBudget = new RequestQueryBudget(new QueryBudgetProperties(true, 1, 1, true));
+
+        // --- WHEN & THEN ---
+        for (int i = 0; i < 10; i++) {
+            assertThat(queryBudget.inspect(SELECT_PROJECT)).isEqualTo(SELECT_PROJECT);
+        }
+    }
+
+    @Test
+    @DisplayName("Inspect: При повторе одного шаблона больше K раз должно выбрасываться исключение с эндпоинтом и SQL")
+    void inspect_WhenSameShapeRepeatsTooOften_ShouldThrow() {
+        // --- GIVEN ---
+        RequestQueryBudget queryBudget = new RequestQueryBudget(new QueryBudgetProperties(true, 100, 3, true));
+        queryBudget.open("GET /api/projects");
+
+        for (int i = 0; i < 3; i++) {
+            queryBudget.inspect(SELECT_PROJECT);
+        }
+
+        // --- WHEN & THEN ---
+        assertThatThrownBy(() -> queryBudget.inspect(SELECT_PROJECT))
+                .isInstanceOf(QueryBudgetExceededException.class)
+                .hasMessageContaining("GET /api/projects")
+                .hasMessageContaining("4 times")
+                .hasMessageContaining(SELECT_PROJECT);
+        queryBudget.close();
+    }
+
+    @Test
+    @DisplayName("Inspect: При превышении общего числа запросов должно выбрасываться исключение")
+    void inspect_WhenStatementBudgetExceeded_ShouldThrow() {
+        // --- GIVEN ---
+        RequestQueryBudget queryBudget = new RequestQueryBudget(new QueryBudgetProperties(true, 2, 5, true));
+        queryBudget.open("PUT /api/employees/{id}");
+        queryBudget.inspect("select 1");
+        queryBudget.inspect("select 2");
+
+        // --- WHEN & THEN ---
+        assertThatThrownBy(() -> queryBudget.inspect("select 3"))
+                .isInstanceOf(QueryBudgetExceededException.class)
+                .hasMessageContaining("PUT /api/employees/{id} ran 3 statements (budget 2)");
+        queryBudget.close();
+    }
+
+    @Test
+    @DisplayName("Inspect: В режиме предупреждений превышение бюджета не должно прерывать запрос")
+    void inspect_WhenWarningOnly_ShouldNotThrow() {
+        // --- GIVEN ---
+        RequestQueryBudget queryBudget = new RequestQueryBudget(new QueryBudgetProperties(true, 1, 1, false));
+        queryBudget.open("GET /api/projects");
+
+        // --- WHEN & THEN ---
+        assertThatCode(() -> {
+            for (int i = 0; i < 5; i++) {
+                queryBudget.inspect(SELECT_PROJECT);
+            }
+            queryBudget.close();
+        }).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("Inspect: Вызовы последовательности и пакетная запись сущностей не должны расходовать бюджет")
+    void inspect_WhenSequenceOrEntityFlush_ShouldNotCount() {
+        // --- GIVEN ---
+        RequestQueryBudget queryBudget = new RequestQueryBudget(new QueryBudgetProperties(true, 1, 1, true));
+        queryBudget.open("POST /api/employees/batch");
+
+        // --- WHEN & THEN ---
+        assertThatCode(() -> {
+            for (int i = 0; i < 5; i++) {
+                queryBudget.inspect("select nextval('employees_seq')");
+                queryBudget.inspect("select next value for employees_seq");
+                queryBudget.inspect("insert into employees (email,first_name,id) values (?,?,?)");
+                queryBudget.inspect("update employees set first_name=?,version=? where id=? and version=?");
+                queryBudget.inspect("delete from employees where id=? and version=?");
+            }
+        }).doesNotThrowAnyException();
+        queryBudget.inspect("update projects set revision=revision+1 where id in (?,?)");
+        assertThatThrownBy(() -> queryBudget.inspect("update projects set revision=revision+1 where id in (?,?)"))
+                .isInstanceOf(QueryBudgetExceededException.class);
+        queryBudget.close();
+    }
+
+    @Test
+    @DisplayName("Open: Новый запрос должен начинать подсчёт заново")
+    void open_ShouldResetCounters() {
+        // --- GIVEN ---
+        RequestQueryBudget queryBudget = new RequestQueryBudget(new QueryBudgetProperties(true, 2, 2, true));
+        queryBudget.open("GET /api/projects");
+        queryBudget.inspect(SELECT_PROJECT);
+        queryBudget.inspect(SELECT_PROJECT);
+        queryBudget.close();
+
+        // --- WHEN ---
+        queryBudget.open("GET /api/projects");
+
+        // --- THEN ---
+        assertThatCode(() -> {
+            queryBudget.inspect(SELECT_PROJECT);
+            queryBudget.inspect(SELECT_PROJECT);
+        }).doesNotThrowAnyException();
+        queryBudget.close();
+    }
+
+    @Test
+    @DisplayName("ShapeOf: Пробелы и длина IN-списка не должны влиять на шаблон запроса")
+    void shapeOf_ShouldNormalizeWhitespaceAndInLists() {
+        // --- WHEN ---
+        String shortList = RequestQueryBudget.shapeOf("select e.id\n  from employees e where e.project_id in (?,?)");
+        String longList = RequestQueryBudget.shapeOf("select e.id from employees e where e.project_id in (?, ?, ?, ?)");
+
+        // --- THEN ---
+        assertThat(shortList)
+                .isEqualTo(longList)
+                .isEqualTo("select e.id from employees e where e.project_id in (?, ...)");
+    }
+}
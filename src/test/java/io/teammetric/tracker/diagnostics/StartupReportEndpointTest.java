@@ -0,0 +1,57 @@
+package io.teammetric.tracker.diagnostics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(useMainMethod = SpringBootTest.UseMainMethod.ALWAYS)
+public class StartupReportEndpointTest {
+    @Autowired
+    private StartupReportEndpoint startupReportEndpoint;
+
+    @Test
+    @DisplayName("Report: Шаги старта должны быть отсортированы по собственному времени по убыванию")
+    void report_ShouldRankStepsBySelfTime() {
+        // --- WHEN ---
+        StartupReport report = startupReportEndpoint.report(10);
+
+        // --- THEN ---
+        assertThat(report.steps()).hasSize(10);
+        assertThat(report.recordedSteps()).isGreaterThan(10);
+        assertThat(report.steps())
+                .extracting(StartupReport.Step::selfMillis)
+                .isSortedAccordingTo((left, right) -> Double.compare(right, left));
+        assertThat(report.steps())
+                .allSatisfy(step -> assertThat(step.selfMillis()).isLessThanOrEqualTo(step.totalMillis()));
+        assertThat(report.totalMillis()).isGreaterThanOrEqualTo(report.steps().get(0).totalMillis());
+    }
+
+    @Test
+    @DisplayName("Report: В отчёт должно попадать создание EntityManagerFactory с именем бина")
+    void report_ShouldIncludeEntityManagerFactoryInstantiation() {
+        // --- WHEN ---
+        StartupReport report = startupReportEndpoint.report(Integer.MAX_VALUE);
+
+        // --- THEN ---
+        assertThat(report.steps()).hasSize(report.recordedSteps());
+        assertThat(report.steps())
+                .filteredOn(step -> step.name().equals("spring.beans.instantiate"))
+                .anySatisfy(step -> assertThat(step.tags()).containsEntry("beanName", "&entityManagerFactory"));
+    }
+
+    @Test
+    @DisplayName("Report: Неположительный limit должен отклоняться как некорректный запрос")
+    void report_WhenLimitIsNotPositive_ShouldRejectRequest() {
+        // --- WHEN & THEN ---
+        assertThatThrownBy(() -> startupReportEndpoint.report(-1))
+                .isInstanceOf(InvalidEndpointRequestException.class)
+                .hasMessageContaining("-1");
+        assertThatThrownBy(() -> startupReportEndpoint.report(0))
+                .isInstanceOf(InvalidEndpointRequestException.class);
+    }
+}
@@ -0,0 +1,159 @@
+package io.teammetric.tracker.reactive;
+
+import io.teammetric.tracker.dto.response.employee.EmployeeResponse;
+import io.teammetric.tracker.dto.response.project.ProjectResponse;
+import io.teammetric.tracker.entity.Employee;
+import io.teammetric.tracker.entity.Project;
+import io.teammetric.tracker.repository.EmployeeRepository;
+import io.teammetric.tracker.repository.ProjectRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {"tracker.reactive.enabled=true", "tracker.reactive.port=0"})
+public class ReactiveApiServerTest {
+    @Autowired
+    private ReactiveApiServer reactiveApiServer;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    private WebTestClient webTestClient;
+    private Project project;
+    private List<Employee> employees;
+
+    @BeforeEach
+    void setUp() {
+        webTestClient = WebTestClient.bindToServer()
+                .baseUrl("http://localhost:" + reactiveApiServer.getPort() + "/api/reactive")
+                .build();
+
+        project = projectRepository.save(Project.builder().name("Apollo").description("Moon").build());
+        employees = employeeRepository.saveAll(List.of(
+                employee("ivanov", project),
+                employee("petrov", project),
+                employee("sidorov", null)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        employeeRepository.deleteAllInBatch();
+        projectRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("GetById: Должен вернуться сотрудник с названием проекта")
+    void getEmployeeById_ShouldReturnEmployeeWithProjectName() {
+        // --- GIVEN ---
+        Employee ivanov = employees.get(0);
+
+        // --- WHEN & THEN ---
+        webTestClient.get().uri("/employees/{id}", ivanov.getId())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(EmployeeResponse.class)
+                .value(response -> {
+                    assertThat(response.id()).isEqualTo(ivanov.getId());
+                    assertThat(response.username()).isEqualTo("ivanov");
+                    assertThat(response.projectId()).isEqualTo(project.getId());
+                    assertThat(response.projectName()).isEqualTo("Apollo");
+                });
+    }
+
+    @Test
+    @DisplayName("GetById: Должен вернуться статус 404, если сотрудник не найден")
+    void getEmployeeById_WhenMissing_ShouldReturnNotFound() {
+        // --- WHEN & THEN ---
+        webTestClient.get().uri("/employees/{id}", Long.MAX_VALUE)
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    @DisplayName("GetById: Должен вернуться статус 400, если id не число")
+    void getEmployeeById_WhenIdInvalid_ShouldReturnBadRequest() {
+        // --- WHEN & THEN ---
+        webTestClient.get().uri("/employees/abc")
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    @DisplayName("FindAll: Сотрудники должны стримиться в NDJSON в порядке id")
+    void findAllEmployees_AsNdjson_ShouldStreamInIdOrder() {
+        // --- WHEN ---
+        List<EmployeeResponse> streamed = webTestClient.get().uri("/employees")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .returnResult(EmployeeResponse.class)
+                .getResponseBody()
+                .collectList()
+                .block();
+
+        // --- THEN ---
+        assertThat(streamed)
+                .extracting(EmployeeResponse::username)
+                .containsExactly("ivanov", "petrov", "sidorov");
+        assertThat(streamed.get(2).projectId()).isNull();
+    }
+
+    @Test
+    @DisplayName("GetById: Должен вернуться проект с составом")
+    void getProjectById_ShouldReturnProjectWithRoster() {
+        // --- WHEN & THEN ---
+        webTestClient.get().uri("/projects/{id}", project.getId())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(ProjectResponse.class)
+                .value(response -> {
+                    assertThat(response.name()).isEqualTo("Apollo");
+                    assertThat(response.employees())
+                            .extracting(EmployeeResponse::username)
+                            .containsExactly("ivanov", "petrov");
+                });
+    }
+
+    @Test
+    @DisplayName("FindAll: Должен вернуться JSON-массив проектов с составами")
+    void findAllProjects_AsJson_ShouldReturnProjectsWithRosters() {
+        // --- GIVEN ---
+        Project empty = projectRepository.save(Project.builder().name("Gemini").build());
+
+        // --- WHEN & THEN ---
+        webTestClient.get().uri("/projects")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_JSON)
+                .expectBodyList(ProjectResponse.class)
+                .value(projects -> {
+                    assertThat(projects).extracting(ProjectResponse::id).containsExactly(project.getId(), empty.getId());
+                    assertThat(projects.get(0).employees()).hasSize(2);
+                    assertThat(projects.get(1).employees()).isEmpty();
+                });
+    }
+
+    private static Employee employee(String username, Project project) {
+        return Employee.builder()
+                .firstName("Иван")
+                .lastName(username)
+                .username(username)
+                .email(username + "@teammetric.io")
+                .project(project)
+                .build();
+    }
+}
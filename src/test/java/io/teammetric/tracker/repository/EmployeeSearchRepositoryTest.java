@@ -0,0 +1,81 @@
+package io.teammetric.tracker.repository;
+
+import io.teammetric.tracker.entity.Employee;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DataJpaTest
+public class EmployeeSearchRepositoryTest {
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    private Long petrovId;
+    private Long petrovaId;
+    private Long smirnovId;
+
+    @BeforeEach
+    void seedEmployees() {
+        petrovId = persist("Иван", "Петров", "ipetrov", "ivan.petrov@example.com");
+        petrovaId = persist("Анна", "Петрова", "apetrova", "anna@example.com");
+        smirnovId = persist("Олег", "Смирнов", "osmirnov", "oleg.smirnov@example.com");
+
+        testEntityManager.flush();
+        testEntityManager.clear();
+    }
+
+    @Test
+    @DisplayName("SearchIds: Запрос с опечаткой должен находить похожие фамилии")
+    void searchIds_WhenQueryHasTypo_ShouldFindSimilarNames() {
+        // --- WHEN ---
+        List<Long> ids = employeeRepository.searchIds("Петрв", 0, 10);
+
+        // --- THEN ---
+        assertThat(ids).containsExactly(petrovId, petrovaId);
+    }
+
+    @Test
+    @DisplayName("SearchIds: Поиск должен идти и по username, и по email")
+    void searchIds_WhenQueryMatchesEmail_ShouldFindEmployee() {
+        // --- WHEN ---
+        List<Long> ids = employeeRepository.searchIds("oleg.smirnov", 0, 10);
+
+        // --- THEN ---
+        assertThat(ids).containsExactly(smirnovId);
+    }
+
+    @Test
+    @DisplayName("SearchIds: Несовпадающий запрос должен возвращать пустой список")
+    void searchIds_WhenNothingMatches_ShouldReturnEmptyList() {
+        // --- WHEN & THEN ---
+        assertThat(employeeRepository.searchIds("Кузнецов", 0, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("SearchIds: Точное совпадение должно быть выше, offset и limit применяются к ранжированному списку")
+    void searchIds_WithOffsetAndLimit_ShouldPageRankedResults() {
+        // --- WHEN & THEN ---
+        assertThat(employeeRepository.searchIds("Петров", 0, 1)).containsExactly(petrovId);
+        assertThat(employeeRepository.searchIds("Петров", 1, 1)).containsExactly(petrovaId);
+    }
+
+    private Long persist(String firstName, String lastName, String username, String email) {
+        return testEntityManager.persist(Employee.builder()
+                        .firstName(firstName)
+                        .lastName(lastName)
+                        .username(username)
+                        .email(email)
+                        .build())
+                .getId();
+    }
+}
@@ -0,0 +1,119 @@
+package io.teammetric.tracker.service;
+
+import io.teammetric.tracker.dto.request.project.AssignMembersRequest;
+import io.teammetric.tracker.dto.request.project.UpdateProjectRequest;
+import io.teammetric.tracker.dto.response.employee.EmployeeResponse;
+import io.teammetric.tracker.dto.response.page.DeltaPageResponse;
+import io.teammetric.tracker.dto.response.project.ProjectResponse;
+import io.teammetric.tracker.entity.Employee;
+import io.teammetric.tracker.entity.Project;
+import io.teammetric.tracker.pagination.DeltaSyncProperties;
+import io.teammetric.tracker.repository.EmployeeRepository;
+import io.teammetric.tracker.repository.ProjectRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+public class DeltaSyncTest {
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @AfterEach
+    void tearDown() {
+        employeeRepository.deleteAllInBatch();
+        projectRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("FindChanges: Первая синхронизация должна пройти все строки страницами, повторная — ничего не вернуть")
+    void findChanges_ShouldPageThroughAllRowsThenReturnNothing() {
+        // --- GIVEN ---
+        employeeRepository.saveAll(List.of(employee("ivanov", null), employee("petrov", null),
+                employee("sidorov", null)));
+
+        // --- WHEN ---
+        DeltaPageResponse<EmployeeResponse> first = employeeService.findChanges(null, 2);
+        DeltaPageResponse<EmployeeResponse> second = employeeService.findChanges(first.nextToken(), 2);
+        DeltaPageResponse<EmployeeResponse> repeated = employeeService.findChanges(second.nextToken(), 2);
+
+        // --- THEN ---
+        assertThat(first.hasMore()).isTrue();
+        assertThat(second.hasMore()).isFalse();
+        assertThat(List.of(first, second))
+                .flatExtracting(DeltaPageResponse::items)
+                .extracting(EmployeeResponse::username)
+                .containsExactlyInAnyOrder("ivanov", "petrov", "sidorov");
+        assertThat(repeated.items()).isEmpty();
+        assertThat(repeated.nextToken()).isEqualTo(second.nextToken());
+    }
+
+    @Test
+    @DisplayName("FindChanges: Перенос и переименование должны попадать в следующую синхронизацию обеих сторон")
+    void findChanges_AfterMembershipChangeAndRename_ShouldReturnOnlyTouchedRows() {
+        // --- GIVEN ---
+        Project apollo = projectRepository.save(Project.builder().name("Apollo").build());
+        Project gemini = projectRepository.save(Project.builder().name("Gemini").build());
+        projectRepository.save(Project.builder().name("Mercury").build());
+        employeeRepository.saveAll(List.of(employee("ivanov", apollo), employee("petrov", null),
+                employee("sidorov", null)));
+        Long petrovId = employeeRepository.findAll().stream()
+                .filter(employee -> employee.getUsername().equals("petrov"))
+                .findFirst()
+                .orElseThrow()
+                .getId();
+
+        String employeeToken = employeeService.findChanges(null, 100).nextToken();
+        String projectToken = projectService.findChanges(null, 100).nextToken();
+
+        // --- WHEN ---
+        projectService.assignMembers(gemini.getId(), AssignMembersRequest.builder()
+                .employeeIds(List.of(petrovId))
+                .build());
+        projectService.update(apollo.getId(), UpdateProjectRequest.builder().name("Apollo 11").build());
+
+        // --- THEN ---
+        assertThat(employeeService.findChanges(employeeToken, 100).items())
+                .extracting(EmployeeResponse::username)
+                .containsExactlyInAnyOrder("petrov", "ivanov");
+        assertThat(projectService.findChanges(projectToken, 100).items())
+                .extracting(ProjectResponse::name)
+                .containsExactlyInAnyOrder("Gemini", "Apollo 11");
+    }
+
+    @Test
+    @DisplayName("DeltaSyncProperties: Окно с долями секунды должно отклоняться, а не округляться до нуля")
+    void deltaSyncProperties_WhenWindowHasFractionOfSecond_ShouldBeRejected() {
+        // --- WHEN & THEN ---
+        assertThatThrownBy(() -> new DeltaSyncProperties(Duration.ofMillis(500)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(new DeltaSyncProperties(Duration.ofSeconds(30)).settleWindow()).hasSeconds(30);
+    }
+
+    private static Employee employee(String username, Project project) {
+        return Employee.builder()
+                .firstName("Иван")
+                .lastName(username)
+                .username(username)
+                .email(username + "@teammetric.io")
+                .project(project)
+                .build();
+    }
+}
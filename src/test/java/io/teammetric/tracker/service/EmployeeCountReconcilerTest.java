@@ -0,0 +1,150 @@
+package io.teammetric.tracker.service;
+
+import io.teammetric.tracker.config.CacheConfig;
+import io.teammetric.tracker.config.DeltaSyncConfig;
+import io.teammetric.tracker.dto.request.employee.BatchUpdateEmployeeRequest;
+import io.teammetric.tracker.dto.request.employee.CreateEmployeeRequest;
+import io.teammetric.tracker.dto.request.employee.EmployeeBatchRequest;
+import io.teammetric.tracker.dto.request.employee.UpdateEmployeeRequest;
+import io.teammetric.tracker.dto.request.project.AssignMembersRequest;
+import io.teammetric.tracker.dto.request.project.UnassignMembersRequest;
+import io.teammetric.tracker.entity.ChangeEvent;
+import io.teammetric.tracker.entity.ChangeEvent.AggregateType;
+import io.teammetric.tracker.entity.ChangeEvent.ChangeType;
+import io.teammetric.tracker.entity.Employee;
+import io.teammetric.tracker.entity.Project;
+import io.teammetric.tracker.mapper.employee.EmployeeMapper;
+import io.teammetric.tracker.mapper.project.ProjectMapper;
+import io.teammetric.tracker.repository.ChangeEventRepository;
+import io.teammetric.tracker.repository.EmployeeCountDrift;
+import io.teammetric.tracker.repository.ProjectRepository;
+import io.teammetric.tracker.service.autocomplete.EmployeePrefixIndex;
+import io.teammetric.tracker.service.cache.ResponseCaches;
+import io.teammetric.tracker.service.changes.ChangeOutbox;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DataJpaTest
+@Import({EmployeeService.class, ProjectService.class, EmployeeCountReconciler.class, EmployeeMapper.class,
+        ProjectMapper.class, ResponseCaches.class, EmployeePrefixIndex.class, CacheConfig.class, ChangeOutbox.class,
+        DeltaSyncConfig.class})
+public class EmployeeCountReconcilerTest {
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private EmployeeCountReconciler employeeCountReconciler;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private ChangeEventRepository changeEventRepository;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    private Project apollo;
+    private Project gemini;
+    private List<Employee> employees;
+
+    @BeforeEach
+    void seedRowsAroundServices() {
+        apollo = testEntityManager.persist(Project.builder().name("Apollo").build());
+        gemini = testEntityManager.persist(Project.builder().name("Gemini").build());
+        employees = List.of(
+                testEntityManager.persist(employee("ivanov", apollo)),
+                testEntityManager.persist(employee("petrov", apollo)),
+                testEntityManager.persist(employee("sidorov", gemini)),
+                testEntityManager.persist(employee("smirnov", null)));
+
+        testEntityManager.flush();
+        testEntityManager.clear();
+    }
+
+    @Test
+    @DisplayName("Reconcile: Расхождение счётчика с составом должно находиться и исправляться")
+    void reconcile_WhenCountsDrifted_ShouldRepairThem() {
+        // --- WHEN ---
+        List<EmployeeCountDrift> drift = employeeCountReconciler.reconcile();
+
+        // --- THEN ---
+        assertThat(drift).containsExactly(
+                new EmployeeCountDrift(apollo.getId(), 0, 2),
+                new EmployeeCountDrift(gemini.getId(), 0, 1));
+        assertThat(projectRepository.findEmployeeCountDrift()).isEmpty();
+        assertThat(employeeCount(apollo)).isEqualTo(2);
+        assertThat(employeeCount(gemini)).isEqualTo(1);
+        assertThat(changeEventRepository.findAll())
+                .extracting(ChangeEvent::getAggregateType, ChangeEvent::getAggregateId, ChangeEvent::getChangeType)
+                .containsExactlyInAnyOrder(
+                        tuple(AggregateType.PROJECT, apollo.getId(), ChangeType.UPDATED),
+                        tuple(AggregateType.PROJECT, gemini.getId(), ChangeType.UPDATED));
+        assertThat(employeeCountReconciler.reconcile()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Счётчик: Создание, перевод, пакетные изменения и перенос составов не должны вызывать расхождений")
+    void membershipChanges_ShouldKeepCountsInSync() {
+        // --- GIVEN ---
+        employeeCountReconciler.reconcile();
+        Long ivanovId = employees.get(0).getId();
+        Long sidorovId = employees.get(2).getId();
+        Long smirnovId = employees.get(3).getId();
+
+        // --- WHEN ---
+        employeeService.save(CreateEmployeeRequest.builder()
+                .firstName("Анна").lastName("Орлова").username("orlova").projectId(apollo.getId()).build());
+        employeeService.update(ivanovId, UpdateEmployeeRequest.builder()
+                .firstName("Иван").lastName("ivanov").projectId(gemini.getId()).build());
+        employeeService.saveAll(EmployeeBatchRequest.builder()
+                .create(List.of(CreateEmployeeRequest.builder()
+                        .firstName("Борис").lastName("Котов").username("kotov").projectId(gemini.getId()).build()))
+                .update(List.of(new BatchUpdateEmployeeRequest(sidorovId, UpdateEmployeeRequest.builder()
+                        .firstName("Иван").lastName("sidorov").projectId(null).build())))
+                .build());
+        projectService.assignMembers(apollo.getId(), AssignMembersRequest.builder()
+                .employeeIds(List.of(ivanovId, smirnovId))
+                .build());
+        projectService.unassignMembers(gemini.getId(), UnassignMembersRequest.builder()
+                .employeeIds(List.of(sidorovId, ivanovId))
+                .build());
+        projectService.assignMembers(gemini.getId(), AssignMembersRequest.builder()
+                .fromProjectId(apollo.getId())
+                .build());
+
+        // --- THEN ---
+        assertThat(projectRepository.findEmployeeCountDrift()).isEmpty();
+        assertThat(employeeCount(apollo)).isZero();
+        assertThat(employeeCount(gemini)).isEqualTo(5);
+    }
+
+    private int employeeCount(Project project) {
+        testEntityManager.clear();
+
+        return projectService.getById(project.getId()).employeeCount();
+    }
+
+    private static Employee employee(String username, Project project) {
+        return Employee.builder()
+                .firstName("Иван")
+                .lastName(username)
+                .username(username)
+                .email(username + "@teammetric.io")
+                .project(project)
+                .build();
+    }
+}
@@ -0,0 +1,279 @@
+package io.teammetric.tracker.service;
+
+import io.teammetric.tracker.dto.request.employee.CreateEmployeeRequest;
+import io.teammetric.tracker.dto.response.employee.EmployeeImportError;
+import io.teammetric.tracker.dto.response.employee.EmployeeImportResponse;
+import io.teammetric.tracker.dto.response.employee.EmployeeResponse;
+import io.teammetric.tracker.dto.response.employee.EmployeeSuggestionResponse;
+import io.teammetric.tracker.entity.ChangeEvent;
+import io.teammetric.tracker.entity.ChangeEvent.AggregateType;
+import io.teammetric.tracker.entity.ChangeEvent.ChangeType;
+import io.teammetric.tracker.entity.Employee;
+import io.teammetric.tracker.entity.Project;
+import io.teammetric.tracker.exception.InvalidImportFileException;
+import io.teammetric.tracker.repository.ChangeEventRepository;
+import io.teammetric.tracker.repository.EmployeeImportRow;
+import io.teammetric.tracker.repository.EmployeeImportRowRepository;
+import io.teammetric.tracker.repository.EmployeeRepository;
+import io.teammetric.tracker.repository.ProjectRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.awaitility.Awaitility.await;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+public class EmployeeImportTest {
+    private static final String HEADER = "firstName,lastName,middleName,username,email,project\n";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EmployeeImportService employeeImportService;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private ChangeEventRepository changeEventRepository;
+
+    @Autowired
+    private EmployeeImportRowRepository importRowRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        employeeRepository.deleteAllInBatch();
+        projectRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("Import: Строки должны создаваться с проектами, счётчиками, событиями и попадать в автодополнение")
+    void importCsv_WhenRowsValid_ShouldCreateEmployees() {
+        // --- GIVEN ---
+        Project apollo = projectRepository.save(Project.builder().name("Apollo").build());
+        long eventCount = changeEventRepository.count();
+        String csv = HEADER
+                + "Иван,Иванов,Иванович,ivanov,ivanov@teammetric.io,Apollo\n"
+                + "Пётр,Петров,,petrov,\"petrov@teammetric.io\",Apollo\n"
+                + "Анна,Журавлёва,,zhuravleva,,\n";
+
+        // --- WHEN ---
+        EmployeeImportResponse response = employeeImportService.importCsv(stream(csv));
+
+        // --- THEN ---
+        assertThat(response.imported()).isEqualTo(3);
+        assertThat(response.rejected()).isZero();
+        assertThat(response.errors()).isEmpty();
+
+        List<Employee> employees = employeeRepository.findAll();
+        assertThat(employees)
+                .extracting(Employee::getUsername, Employee::getMiddleName, Employee::getEmail)
+                .containsExactlyInAnyOrder(
+                        tuple("ivanov", "Иванович", "ivanov@teammetric.io"),
+                        tuple("petrov", null, "petrov@teammetric.io"),
+                        tuple("zhuravleva", null, null));
+        assertThat(projectRepository.findById(apollo.getId()).orElseThrow().getEmployeeCount()).isEqualTo(2);
+        assertThat(projectRepository.findEmployeeCountDrift()).isEmpty();
+        // The prefix index reloads in the background after an import
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() ->
+                assertThat(employeeService.autocomplete("zhurav", 10))
+                        .extracting(EmployeeSuggestionResponse::username)
+                        .containsExactly("zhuravleva"));
+        // One per employee, plus the project they joined
+        assertThat(changeEventRepository.count() - eventCount).isEqualTo(4);
+        assertThat(changeEventRepository.findAll())
+                .filteredOn(event -> event.getAggregateType() == AggregateType.PROJECT)
+                .extracting(ChangeEvent::getAggregateId, ChangeEvent::getChangeType)
+                .contains(tuple(apollo.getId(), ChangeType.UPDATED));
+        assertThat(jdbcTemplate.queryForObject("select count(*) from employee_import_rows", Long.class)).isZero();
+
+        EmployeeResponse created = employeeService.save(CreateEmployeeRequest.builder()
+                .firstName("Борис").lastName("Котов").username("kotov").build());
+        assertThat(employees).extracting(Employee::getId).doesNotContain(created.id());
+    }
+
+    @Test
+    @DisplayName("Import: Невалидные строки и конфликты должны отклоняться с номером строки, остальные — создаваться")
+    void importCsv_WhenRowsInvalidOrConflicting_ShouldReportThem() {
+        // --- GIVEN ---
+        employeeRepository.save(Employee.builder()
+                .firstName("Иван").lastName("Иванов").username("ivanov").email("ivanov@teammetric.io").build());
+        String csv = HEADER
+                + "Иван,Иванов,,ivanov,ivanov2@teammetric.io,\n"
+                + "Пётр,Петров,,petrov,petrov@teammetric.io,\n"
+                + "Пётр,Петров,,petrov,petrov2@teammetric.io,\n"
+                + "Анна,Орлова,,orlova,petrov@teammetric.io,\n"
+                + ",Сидоров,,sidorov,not-an-email,\n"
+                + "Борис,Котов,,kotov,,Mercury\n"
+                + "Олег,Смирнов,,smirnov,ivanov@teammetric.io,\n"
+                + "Вера,Лебедева,,lebedeva,,\n";
+
+        // --- WHEN ---
+        EmployeeImportResponse response = employeeImportService.importCsv(stream(csv));
+
+        // --- THEN ---
+        assertThat(response.imported()).isEqualTo(2);
+        assertThat(response.rejected()).isEqualTo(6);
+        assertThat(response.errors()).containsExactly(
+                new EmployeeImportError(1, "Username is already taken: ivanov"),
+                new EmployeeImportError(3, "Username is already taken: petrov"),
+                new EmployeeImportError(4, "Email is already taken: petrov@teammetric.io"),
+                new EmployeeImportError(5, "Email is not valid; Firstname cannot be empty"),
+                new EmployeeImportError(6, "Project not found with name: Mercury"),
+                new EmployeeImportError(7, "Email is already taken: ivanov@teammetric.io"));
+        assertThat(employeeRepository.findAll())
+                .extracting(Employee::getUsername)
+                .containsExactlyInAnyOrder("ivanov", "petrov", "lebedeva");
+    }
+
+    @Test
+    @DisplayName("Import: Файл с неизвестной колонкой должен отклоняться целиком")
+    void importCsv_WhenColumnUnknown_ShouldRejectFile() {
+        // --- GIVEN ---
+        String csv = "firstName,lastName,username,position\nИван,Иванов,ivanov,Инженер\n";
+
+        // --- WHEN & THEN ---
+        assertThatThrownBy(() -> employeeImportService.importCsv(stream(csv)))
+                .isInstanceOf(InvalidImportFileException.class)
+                .hasMessageStartingWith("Malformed CSV at row 1");
+        assertThat(employeeRepository.count()).isZero();
+        assertThat(jdbcTemplate.queryForObject("select count(*) from employee_import_rows", Long.class)).isZero();
+    }
+
+    @Test
+    @DisplayName("Import: Файл из нескольких пачек должен загружаться через форму в пределах бюджета запросов")
+    void importCsv_WhenFileSpansChunks_ShouldImportEverythingWithinQueryBudget() throws Exception {
+        // --- GIVEN ---
+        projectRepository.save(Project.builder().name("Apollo").build());
+        int rows = EmployeeImportService.CHUNK_SIZE * 2 + 1;
+        String csv = IntStream.range(0, rows)
+                .mapToObj(i -> "Иван,Иванов,,user" + i + ",user" + i + "@teammetric.io," + (i % 2 == 0 ? "Apollo" : ""))
+                .collect(Collectors.joining("\n", HEADER, "\n"));
+
+        // --- WHEN & THEN ---
+        mockMvc.perform(multipart("/api/employees/import")
+                        .file(new MockMultipartFile("file", "employees.csv", "text/csv",
+                                csv.getBytes(StandardCharsets.UTF_8))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(rows))
+                .andExpect(jsonPath("$.rejected").value(0));
+
+        assertThat(employeeRepository.count()).isEqualTo(rows);
+        assertThat(projectRepository.findEmployeeCountDrift()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Import: Строки должны попадать в дельта-синхронизацию, выданную пока файл ещё читался")
+    void importCsv_WhenDeltaSyncRunsWhileFileIsRead_ShouldReturnRowsNextTime() {
+        // --- GIVEN ---
+        int rows = EmployeeImportService.CHUNK_SIZE + 2;
+        String firstChunk = IntStream.range(0, EmployeeImportService.CHUNK_SIZE + 1)
+                .mapToObj(i -> "Иван,Иванов,,user" + i + ",,")
+                .collect(Collectors.joining("\n", HEADER, "\n"));
+        AtomicReference<String> token = new AtomicReference<>();
+        // The first chunk is staged by the time the parser runs out of input in the row after it
+        InputStream csv = new SequenceInputStream(Collections.enumeration(List.of(
+                stream(firstChunk),
+                onFirstRead(() -> CompletableFuture.runAsync(() -> {
+                    employeeRepository.save(Employee.builder()
+                            .firstName("Пётр").lastName("Петров").username("petrov").build());
+                    token.set(employeeService.findChanges(null, 100).nextToken());
+                }).join()),
+                stream("Иван,Иванов,,last,,\n"))));
+
+        // --- WHEN ---
+        employeeImportService.importCsv(csv);
+
+        // --- THEN ---
+        assertThat(employeeService.findChanges(token.get(), rows + 1).items())
+                .hasSize(rows)
+                .extracting(EmployeeResponse::username)
+                .contains("user0", "last")
+                .doesNotContain("petrov");
+    }
+
+    @Test
+    @DisplayName("Import: Строки, оставшиеся от прерванного импорта, должны удаляться по возрасту")
+    void purgeAbandoned_WhenRowsOutliveRetention_ShouldDeleteOnlyThem() {
+        // --- GIVEN ---
+        UUID abandonedImportId = UUID.randomUUID();
+        UUID runningImportId = UUID.randomUUID();
+        importRowRepository.stage(abandonedImportId, List.of(
+                new EmployeeImportRow(1, 1L, "Иван", "Иванов", null, "ivanov", null, null, null)));
+        importRowRepository.stage(runningImportId, List.of(
+                new EmployeeImportRow(1, 2L, "Пётр", "Петров", null, "petrov", null, null, null)));
+        jdbcTemplate.update("update employee_import_rows set staged_at = ? where import_id = ?",
+                OffsetDateTime.now(ZoneOffset.UTC).minus(EmployeeImportService.STAGED_ROW_RETENTION).minusHours(1),
+                abandonedImportId);
+
+        // --- WHEN ---
+        int purged = employeeImportService.purgeAbandoned();
+
+        // --- THEN ---
+        assertThat(purged).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForList("select import_id from employee_import_rows", UUID.class))
+                .containsExactly(runningImportId);
+
+        importRowRepository.delete(runningImportId);
+    }
+
+    private static InputStream stream(String csv) {
+        return new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * An empty stream that runs the action when the parser first reaches it.
+     */
+    private static InputStream onFirstRead(Runnable action) {
+        return new InputStream() {
+            private boolean read;
+
+            @Override
+            public int read() {
+                if (!read) {
+                    read = true;
+                    action.run();
+                }
+                return -1;
+            }
+        };
+    }
+}
@@ -0,0 +1,209 @@
+package io.teammetric.tracker.service;
+
+import io.teammetric.tracker.config.CacheConfig;
+import io.teammetric.tracker.config.DeltaSyncConfig;
+import io.teammetric.tracker.dto.request.employee.CreateEmployeeRequest;
+import io.teammetric.tracker.dto.request.employee.EmployeeBatchRequest;
+import io.teammetric.tracker.dto.request.employee.UpdateEmployeeRequest;
+import io.teammetric.tracker.dto.response.employee.EmployeeBatchResponse;
+import io.teammetric.tracker.dto.response.employee.EmployeeResponse;
+import io.teammetric.tracker.entity.Employee;
+import io.teammetric.tracker.entity.Project;
+import io.teammetric.tracker.exception.EntityNotFoundException;
+import io.teammetric.tracker.mapper.employee.EmployeeMapper;
+import io.teammetric.tracker.service.autocomplete.EmployeePrefixIndex;
+import io.teammetric.tracker.service.cache.ResponseCaches;
+import io.teammetric.tracker.service.changes.ChangeOutbox;
+import io.teammetric.tracker.support.StatementBudget;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DataJpaTest
+@Import({EmployeeService.class, EmployeeMapper.class, ResponseCaches.class, EmployeePrefixIndex.class,
+        CacheConfig.class, ChangeOutbox.class, DeltaSyncConfig.class})
+public class EmployeeServiceQueryCountTest {
+    private static final int BATCH_SIZE = 50;
+    /**
+     * More than {@code tracker.query-budget.max-repeated-statements}, so a statement per project would be an N+1.
+     */
+    private static final int SPREAD_PROJECTS = 8;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    private StatementBudget statements;
+    private Long employeeId;
+    private Long currentProjectId;
+    private Long otherProjectId;
+
+    @BeforeEach
+    void seedEmployee() {
+        Project current = testEntityManager.persist(Project.builder().name("Current").build());
+        Project other = testEntityManager.persist(Project.builder().name("Other").build());
+        Employee employee = testEntityManager.persist(Employee.builder()
+                .firstName("Иван")
+                .lastName("Петров")
+                .username("ipetrov")
+                .email("ipetrov@example.com")
+                .project(current)
+                .build());
+
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        employeeId = employee.getId();
+        currentProjectId = current.getId();
+        otherProjectId = other.getId();
+        statements = new StatementBudget(testEntityManager.getEntityManager());
+    }
+
+    @Test
+    @DisplayName("GetById: Сотрудник вместе с проектом должен загружаться одним запросом")
+    void getById_ShouldIssueSingleStatement() {
+        // --- WHEN ---
+        EmployeeResponse response = statements.expectExactly(1, () -> employeeService.getById(employeeId));
+
+        // --- THEN ---
+        assertThat(response.projectName()).isEqualTo("Current");
+    }
+
+    @Test
+    @DisplayName("Update: Без смены проекта — SELECT сотрудника, смена версии проекта и UPDATE только изменённых полей")
+    void update_WhenProjectUnchanged_ShouldIssueThreeStatements() {
+        // --- GIVEN ---
+        UpdateEmployeeRequest request = UpdateEmployeeRequest.builder()
+                .firstName("Иван")
+                .lastName("Сидоров")
+                .email("ipetrov@example.com")
+                .projectId(currentProjectId)
+                .build();
+
+        // --- WHEN ---
+        EmployeeResponse response = statements.expectExactly(3, () -> employeeService.update(employeeId, request));
+
+        // --- THEN ---
+        assertThat(response.lastName()).isEqualTo("Сидоров");
+        assertThat(response.projectName()).isEqualTo("Current");
+    }
+
+    @Test
+    @DisplayName("Update: Смена проекта не должна требовать предварительной проверки его существования")
+    void update_WhenProjectChanged_ShouldIssueFourStatements() {
+        // --- GIVEN ---
+        UpdateEmployeeRequest request = UpdateEmployeeRequest.builder()
+                .firstName("Иван")
+                .lastName("Петров")
+                .email("ipetrov@example.com")
+                .projectId(otherProjectId)
+                .build();
+
+        // --- WHEN ---
+        EmployeeResponse response = statements.expectExactly(4, () -> employeeService.update(employeeId, request));
+
+        // --- THEN ---
+        assertThat(response.projectId()).isEqualTo(otherProjectId);
+        assertThat(response.projectName()).isEqualTo("Other");
+    }
+
+    @Test
+    @DisplayName("Update: Если проекта нет — нарушение внешнего ключа должно превращаться в EntityNotFoundException")
+    void update_WhenProjectMissing_ShouldTranslateForeignKeyViolation() {
+        // --- GIVEN ---
+        Long missingProjectId = otherProjectId + 1_000;
+        UpdateEmployeeRequest request = UpdateEmployeeRequest.builder()
+                .firstName("Иван")
+                .lastName("Петров")
+                .projectId(missingProjectId)
+                .build();
+
+        // --- WHEN & THEN ---
+        assertThatThrownBy(() -> employeeService.update(employeeId, request))
+                .isInstanceOf(EntityNotFoundException.class)
+                .hasMessage("Project not found with id: " + missingProjectId);
+    }
+
+    @Test
+    @DisplayName("SaveAll: Вставки должны уходить пачками JDBC — число запросов растёт на пачку, а не на сотрудника")
+    void saveAll_ShouldBatchInserts() {
+        // --- GIVEN ---
+        EmployeeBatchRequest small = createRequest("small", BATCH_SIZE);
+        EmployeeBatchRequest large = createRequest("large", BATCH_SIZE * 4);
+
+        // --- WHEN ---
+        StatementBudget.Counted<EmployeeBatchResponse> smallSave = statements.count(() -> employeeService.saveAll(small));
+        StatementBudget.Counted<EmployeeBatchResponse> largeSave = statements.count(() -> employeeService.saveAll(large));
+
+        // --- THEN ---
+        assertThat(smallSave.result().succeeded()).isEqualTo(BATCH_SIZE);
+        assertThat(largeSave.result().succeeded()).isEqualTo(BATCH_SIZE * 4);
+        // Each extra batch of 50 costs one sequence call and one INSERT batch
+        assertThat(smallSave.statements()).isLessThan(10);
+        assertThat(largeSave.statements()).isLessThanOrEqualTo(smallSave.statements() + 3 * 2);
+    }
+
+    @Test
+    @DisplayName("SaveAll: Счётчики и ревизии проектов должны обновляться одним запросом, сколько бы проектов ни затронул пакет")
+    void saveAll_AcrossManyProjects_ShouldUpdateProjectCountsInSingleStatement() {
+        // --- GIVEN ---
+        List<Long> projectIds = IntStream.range(0, SPREAD_PROJECTS)
+                .mapToObj(i -> testEntityManager.persist(Project.builder().name("Spread " + i).build()).getId())
+                .toList();
+        testEntityManager.flush();
+
+        EmployeeBatchRequest single = createRequest("single", SPREAD_PROJECTS);
+        EmployeeBatchRequest spread = EmployeeBatchRequest.builder()
+                .create(IntStream.range(0, SPREAD_PROJECTS)
+                        .mapToObj(i -> CreateEmployeeRequest.builder()
+                                .firstName("Иван")
+                                .lastName("Петров")
+                                .username("spread" + i)
+                                .email("spread" + i + "@example.com")
+                                .projectId(projectIds.get(i))
+                                .build())
+                        .toList())
+                .update(List.of())
+                .build();
+
+        // --- WHEN ---
+        StatementBudget.Counted<EmployeeBatchResponse> singleSave = statements.count(() -> employeeService.saveAll(single));
+        StatementBudget.Counted<EmployeeBatchResponse> spreadSave = statements.count(() -> employeeService.saveAll(spread));
+        testEntityManager.clear();
+
+        // --- THEN ---
+        assertThat(spreadSave.result().succeeded()).isEqualTo(SPREAD_PROJECTS);
+        // The two batches are at most one sequence call apart, however many projects they touch
+        assertThat(spreadSave.statements()).isLessThanOrEqualTo(singleSave.statements() + 1);
+        assertThat(projectIds).allSatisfy(projectId ->
+                assertThat(testEntityManager.find(Project.class, projectId).getEmployeeCount()).isEqualTo(1));
+        assertThat(testEntityManager.find(Project.class, currentProjectId).getEmployeeCount())
+                .isEqualTo(SPREAD_PROJECTS);
+    }
+
+    private EmployeeBatchRequest createRequest(String prefix, int size) {
+        return EmployeeBatchRequest.builder()
+                .create(IntStream.range(0, size)
+                        .mapToObj(i -> CreateEmployeeRequest.builder()
+                                .firstName("Иван")
+                                .lastName("Петров")
+                                .username(prefix + i)
+                                .email(prefix + i + "@example.com")
+                                .projectId(currentProjectId)
+                                .build())
+                        .toList())
+                .update(List.of())
+                .build();
+    }
+}
@@ -1,23 +1,46 @@
 package io.teammetric.tracker.service;
 
+import io.teammetric.tracker.dto.request.employee.BatchUpdateEmployeeRequest;
 import io.teammetric.tracker.dto.request.employee.CreateEmployeeRequest;
+import io.teammetric.tracker.dto.request.employee.EmployeeBatchRequest;
 import io.teammetric.tracker.dto.request.employee.UpdateEmployeeRequest;
+import io.teammetric.tracker.dto.response.employee.EmployeeBatchItemResult;
+import io.teammetric.tracker.dto.response.employee.EmployeeBatchItemResult.Operation;
+import io.teammetric.tracker.dto.response.employee.EmployeeBatchItemResult.Status;
+import io.teammetric.tracker.dto.response.employee.EmployeeBatchResponse;
 import io.teammetric.tracker.dto.response.employee.EmployeeResponse;
+import io.teammetric.tracker.dto.response.page.CursorPageResponse;
+import io.teammetric.tracker.entity.ChangeEvent.AggregateType;
+import io.teammetric.tracker.entity.ChangeEvent.ChangeType;
 import io.teammetric.tracker.entity.Employee;
 import io.teammetric.tracker.entity.Project;
 import io.teammetric.tracker.exception.EntityNotFoundException;
+import io.teammetric.tracker.exception.InvalidCursorException;
 import io.teammetric.tracker.mapper.employee.EmployeeMapper;
+import io.teammetric.tracker.pagination.CursorPages;
 import io.teammetric.tracker.repository.EmployeeRepository;
 import io.teammetric.tracker.repository.ProjectRepository;
+import io.teammetric.tracker.service.autocomplete.EmployeePrefixIndex;
+import io.teammetric.tracker.service.cache.ResponseCaches;
+import io.teammetric.tracker.service.changes.ChangeOutbox;
+import jakarta.persistence.EntityManager;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 
+import java.sql.SQLException;
 import java.util.List;
+import java.util.ArrayList;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -33,6 +56,18 @@ public class EmployeeServiceTest {
     @Mock
     private EmployeeMapper employeeMapper;
 
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private ResponseCaches responseCaches;
+
+    @Mock
+    private EmployeePrefixIndex employeePrefixIndex;
+
+    @Mock
+    private ChangeOutbox changeOutbox;
+
     @InjectMocks
     private EmployeeService employeeService;
 
@@ -53,7 +88,7 @@ public class EmployeeServiceTest {
                 .firstName(firstName)
                 .build();
 
-        when(employeeRepository.findById(id)).thenReturn(Optional.of(existingEmployee));
+        when(employeeRepository.findWithProjectById(id)).thenReturn(Optional.of(existingEmployee));
         when(employeeMapper.toResponse(existingEmployee)).thenReturn(expectedDto);
 
         // --- WHEN ---
@@ -69,12 +104,26 @@ public class EmployeeServiceTest {
     void getById_WhenEmployeeNotFound_ShouldThrowException() {
         // --- GIVEN ---
         Long id = 99L;
-        when(employeeRepository.findById(id)).thenReturn(Optional.empty());
+        when(employeeRepository.findWithProjectById(id)).thenReturn(Optional.empty());
 
         // --- WHEN & THEN ---
         assertThrows(EntityNotFoundException.class, () -> employeeService.getById(id));
     }
 
+    @Test
+    @DisplayName("GetCollectionVersionTag: Версия списка должна учитывать и сотрудников, и проекты")
+    void getCollectionVersionTag_ShouldCombineEmployeeAndProjectVersions() {
+        // --- GIVEN ---
+        when(employeeRepository.findCollectionVersionTag()).thenReturn("10.12.30");
+        when(projectRepository.findCollectionVersionTag()).thenReturn("2.2.5");
+
+        // --- WHEN ---
+        String tag = employeeService.getCollectionVersionTag();
+
+        // --- THEN ---
+        assertEquals("10.12.30/2.2.5", tag);
+    }
+
     @Test
     @DisplayName("FindAll: Если сотрудники существуют — должен вернуть список EmployeeResponse")
     void findAll_WhenEmployeesExist_ShouldReturnList() {
@@ -126,6 +175,138 @@ public class EmployeeServiceTest {
         assertEquals(0, actualList.size());
     }
 
+    @Test
+    @DisplayName("FindPage: Если строк больше лимита — должна вернуться страница и курсор на следующую")
+    void findPage_WhenMoreRowsThanLimit_ShouldReturnPageWithNextCursor() {
+        // --- GIVEN ---
+        Employee first = Employee.builder().id(1L).build();
+        Employee second = Employee.builder().id(2L).build();
+        Employee third = Employee.builder().id(3L).build();
+
+        EmployeeResponse firstResponse = EmployeeResponse.builder().id(1L).build();
+        EmployeeResponse secondResponse = EmployeeResponse.builder().id(2L).build();
+
+        when(employeeRepository.findByIdGreaterThanOrderByIdAsc(0L, Limit.of(3)))
+                .thenReturn(List.of(first, second, third));
+        when(employeeMapper.toResponse(first)).thenReturn(firstResponse);
+        when(employeeMapper.toResponse(second)).thenReturn(secondResponse);
+
+        // --- WHEN ---
+        CursorPageResponse<EmployeeResponse> actualPage = employeeService.findPage(null, 2);
+
+        // --- THEN ---
+        assertEquals(List.of(firstResponse, secondResponse), actualPage.items());
+        assertEquals(CursorPages.encode(2L), actualPage.nextCursor());
+        verify(employeeMapper, never()).toResponse(third);
+    }
+
+    @Test
+    @DisplayName("FindPage: Если передан курсор — выборка должна начаться после закодированного в нём id")
+    void findPage_WhenCursorGiven_ShouldSeekAfterCursorId() {
+        // --- GIVEN ---
+        Employee last = Employee.builder().id(42L).build();
+        EmployeeResponse lastResponse = EmployeeResponse.builder().id(42L).build();
+
+        when(employeeRepository.findByIdGreaterThanOrderByIdAsc(41L, Limit.of(11))).thenReturn(List.of(last));
+        when(employeeMapper.toResponse(last)).thenReturn(lastResponse);
+
+        // --- WHEN ---
+        CursorPageResponse<EmployeeResponse> actualPage = employeeService.findPage(CursorPages.encode(41L), 10);
+
+        // --- THEN ---
+        assertEquals(List.of(lastResponse), actualPage.items());
+        assertNull(actualPage.nextCursor());
+    }
+
+    @Test
+    @DisplayName("Search: Результаты должны идти в порядке ранжирования, а курсор — указывать на следующий offset")
+    void search_WhenMoreHitsThanLimit_ShouldKeepRankingAndReturnOffsetCursor() {
+        // --- GIVEN ---
+        Employee best = Employee.builder().id(7L).build();
+        Employee second = Employee.builder().id(3L).build();
+
+        EmployeeResponse bestResponse = EmployeeResponse.builder().id(7L).build();
+        EmployeeResponse secondResponse = EmployeeResponse.builder().id(3L).build();
+
+        when(employeeRepository.searchIds("Петров", 0L, 3)).thenReturn(List.of(7L, 3L, 5L));
+        when(employeeRepository.findWithProjectByIdIn(List.of(7L, 3L))).thenReturn(List.of(second, best));
+        when(employeeMapper.toResponse(best)).thenReturn(bestResponse);
+        when(employeeMapper.toResponse(second)).thenReturn(secondResponse);
+
+        // --- WHEN ---
+        CursorPageResponse<EmployeeResponse> actualPage = employeeService.search("  Петров ", null, 2);
+
+        // --- THEN ---
+        assertEquals(List.of(bestResponse, secondResponse), actualPage.items());
+        assertEquals(CursorPages.encode(2L), actualPage.nextCursor());
+    }
+
+    @Test
+    @DisplayName("Search: Если ничего не найдено — сотрудники не загружаются")
+    void search_WhenNothingMatches_ShouldSkipEmployeeLoad() {
+        // --- GIVEN ---
+        when(employeeRepository.searchIds("Кузнецов", 20L, 11)).thenReturn(List.of());
+
+        // --- WHEN ---
+        CursorPageResponse<EmployeeResponse> actualPage = employeeService.search("Кузнецов", CursorPages.encode(20L), 10);
+
+        // --- THEN ---
+        assertTrue(actualPage.items().isEmpty());
+        assertNull(actualPage.nextCursor());
+        verify(employeeRepository, never()).findWithProjectByIdIn(any());
+    }
+
+    @Test
+    @DisplayName("FindPage: Если курсор повреждён — должно быть выброшено исключение")
+    void findPage_WhenCursorInvalid_ShouldThrowException() {
+        // --- WHEN & THEN ---
+        assertThrows(InvalidCursorException.class, () -> employeeService.findPage("not a cursor", 10));
+        verifyNoInteractions(employeeRepository);
+    }
+
+    @Test
+    @DisplayName("ExportAll: Каждый сотрудник из курсора должен быть передан в приёмник в виде EmployeeResponse")
+    void exportAll_WhenEmployeesExist_ShouldPassEveryResponseToSink() {
+        // --- GIVEN ---
+        Employee first = Employee.builder().id(1L).build();
+        Employee second = Employee.builder().id(2L).build();
+
+        EmployeeResponse firstResponse = EmployeeResponse.builder().id(1L).build();
+        EmployeeResponse secondResponse = EmployeeResponse.builder().id(2L).build();
+
+        when(employeeRepository.streamAllForExport()).thenReturn(Stream.of(first, second));
+        when(employeeMapper.toResponse(first)).thenReturn(firstResponse);
+        when(employeeMapper.toResponse(second)).thenReturn(secondResponse);
+
+        List<EmployeeResponse> exported = new ArrayList<>();
+
+        // --- WHEN ---
+        employeeService.exportAll(exported::add);
+
+        // --- THEN ---
+        assertEquals(List.of(firstResponse, secondResponse), exported);
+        verify(entityManager, never()).clear();
+    }
+
+    @Test
+    @DisplayName("ExportAll: После каждого окна выборки контекст персистентности должен очищаться")
+    void exportAll_WhenFetchWindowPassed_ShouldClearPersistenceContext() {
+        // --- GIVEN ---
+        int rows = EmployeeRepository.EXPORT_FETCH_SIZE * 2 + 1;
+        Stream<Employee> employees = LongStream.rangeClosed(1, rows)
+                .mapToObj(id -> Employee.builder().id(id).build());
+
+        when(employeeRepository.streamAllForExport()).thenReturn(employees);
+        when(employeeMapper.toResponse(any(Employee.class))).thenReturn(EmployeeResponse.builder().build());
+
+        // --- WHEN ---
+        employeeService.exportAll(response -> { });
+
+        // --- THEN ---
+        verify(employeeMapper, times(rows)).toResponse(any(Employee.class));
+        verify(entityManager, times(2)).clear();
+    }
+
     @Test
     @DisplayName("Save: При вызове метода 1 раз должен вызваться репозиторий")
     void save_WhenCalled_ShouldCallRepository() {
@@ -161,6 +342,7 @@ public class EmployeeServiceTest {
         // --- THEN ---
         assertNotNull(actualDto);
         verify(employeeRepository).save(employeeToSave);
+        verify(changeOutbox).record(AggregateType.EMPLOYEE, ChangeType.CREATED, id);
     }
 
     @Test
@@ -218,6 +400,137 @@ public class EmployeeServiceTest {
         assertEquals(projectId, actualDto.projectId());
     }
 
+    @Test
+    @DisplayName("SaveAll: Корректные элементы пакета должны сохраниться, а ошибочные — попасть в отчёт")
+    void saveAll_WhenBatchMixed_ShouldPersistValidItemsAndReportFailures() {
+        // --- GIVEN ---
+        Long projectId = 10L;
+        Long missingProjectId = 11L;
+        Long existingEmployeeId = 20L;
+        Long missingEmployeeId = 21L;
+
+        Project project = Project.builder()
+                .id(projectId)
+                .name("Onboarding")
+                .build();
+
+        Employee existingEmployee = Employee.builder()
+                .id(existingEmployeeId)
+                .firstName("Старое имя")
+                .build();
+
+        CreateEmployeeRequest validCreate = CreateEmployeeRequest.builder()
+                .firstName("Анна")
+                .lastName("Смирнова")
+                .username("anna")
+                .projectId(projectId)
+                .build();
+
+        CreateEmployeeRequest createWithMissingProject = CreateEmployeeRequest.builder()
+                .firstName("Борис")
+                .lastName("Котов")
+                .username("boris")
+                .projectId(missingProjectId)
+                .build();
+
+        UpdateEmployeeRequest employeeChanges = UpdateEmployeeRequest.builder()
+                .firstName("Новое имя")
+                .lastName("Фамилия")
+                .projectId(projectId)
+                .build();
+
+        EmployeeBatchRequest batchRequest = EmployeeBatchRequest.builder()
+                .create(List.of(validCreate, createWithMissingProject))
+                .update(List.of(
+                        new BatchUpdateEmployeeRequest(existingEmployeeId, employeeChanges),
+                        new BatchUpdateEmployeeRequest(missingEmployeeId, employeeChanges)))
+                .build();
+
+        Employee employeeToSave = Employee.builder()
+                .firstName("Анна")
+                .build();
+
+        Employee savedEmployee = Employee.builder()
+                .id(30L)
+                .firstName("Анна")
+                .build();
+
+        when(projectRepository.findAllById(Set.of(projectId, missingProjectId))).thenReturn(List.of(project));
+        when(employeeRepository.findAllById(Set.of(existingEmployeeId, missingEmployeeId)))
+                .thenReturn(List.of(existingEmployee));
+        when(employeeRepository.findExistingUsernames(Set.of("anna", "boris"))).thenReturn(List.of());
+        when(employeeMapper.toEntity(validCreate)).thenReturn(employeeToSave);
+        when(employeeRepository.save(employeeToSave)).thenReturn(savedEmployee);
+
+        // --- WHEN ---
+        EmployeeBatchResponse response = employeeService.saveAll(batchRequest);
+
+        // --- THEN ---
+        assertEquals(2, response.succeeded());
+        assertEquals(2, response.failed());
+        assertEquals(List.of(
+                new EmployeeBatchItemResult(Operation.CREATE, 0, 30L, Status.SUCCEEDED, null),
+                new EmployeeBatchItemResult(Operation.CREATE, 1, null, Status.FAILED,
+                        "Project not found with id: " + missingProjectId),
+                new EmployeeBatchItemResult(Operation.UPDATE, 0, existingEmployeeId, Status.SUCCEEDED, null),
+                new EmployeeBatchItemResult(Operation.UPDATE, 1, missingEmployeeId, Status.FAILED,
+                        "Employee not found with id: " + missingEmployeeId)
+        ), response.results());
+
+        assertEquals(project, employeeToSave.getProject());
+        assertEquals("Новое имя", existingEmployee.getFirstName());
+        assertEquals(project, existingEmployee.getProject());
+        verify(employeeRepository, times(1)).save(any(Employee.class));
+        verify(changeOutbox).record(AggregateType.EMPLOYEE, ChangeType.CREATED, List.of(30L));
+        verify(changeOutbox).record(AggregateType.EMPLOYEE, ChangeType.UPDATED, List.of(existingEmployeeId));
+    }
+
+    @Test
+    @DisplayName("SaveAll: Занятые username и email должны отклоняться, в том числе повторы внутри пакета")
+    void saveAll_WhenUsernameOrEmailTaken_ShouldReportConflicts() {
+        // --- GIVEN ---
+        CreateEmployeeRequest takenUsername = CreateEmployeeRequest.builder()
+                .firstName("Вера")
+                .lastName("Павлова")
+                .username("vera")
+                .build();
+
+        CreateEmployeeRequest first = CreateEmployeeRequest.builder()
+                .firstName("Глеб")
+                .lastName("Орлов")
+                .username("gleb")
+                .email("team@teammetric.io")
+                .build();
+
+        CreateEmployeeRequest sameEmail = CreateEmployeeRequest.builder()
+                .firstName("Дина")
+                .lastName("Орлова")
+                .username("dina")
+                .email("team@teammetric.io")
+                .build();
+
+        EmployeeBatchRequest batchRequest = EmployeeBatchRequest.builder()
+                .create(List.of(takenUsername, first, sameEmail))
+                .build();
+
+        Employee employeeToSave = Employee.builder().build();
+
+        when(employeeRepository.findExistingUsernames(Set.of("vera", "gleb", "dina"))).thenReturn(List.of("vera"));
+        when(employeeRepository.findByEmailIn(Set.of("team@teammetric.io"))).thenReturn(List.of());
+        when(employeeMapper.toEntity(first)).thenReturn(employeeToSave);
+        when(employeeRepository.save(employeeToSave)).thenReturn(Employee.builder().id(1L).build());
+
+        // --- WHEN ---
+        EmployeeBatchResponse response = employeeService.saveAll(batchRequest);
+
+        // --- THEN ---
+        assertEquals(1, response.succeeded());
+        assertEquals("Username is already taken: vera", response.results().get(0).error());
+        assertEquals(Status.SUCCEEDED, response.results().get(1).status());
+        assertEquals("Email is already taken: team@teammetric.io", response.results().get(2).error());
+        verifyNoInteractions(projectRepository);
+    }
+
     @Test
     @DisplayName("Update: При вызове метода 1 раз должен вызваться репозиторий")
     void update_WhenCalled_ShouldCallRepository() {
@@ -239,7 +552,7 @@ public class EmployeeServiceTest {
                 .firstName(firstName)
                 .build();
 
-        when(employeeRepository.findById(id)).thenReturn(Optional.of(existingEmployee));
+        when(employeeRepository.findWithProjectById(id)).thenReturn(Optional.of(existingEmployee));
         when(employeeRepository.save(existingEmployee)).thenReturn(existingEmployee);
         when(employeeMapper.toResponse(existingEmployee)).thenReturn(responseDto);
 
@@ -249,6 +562,7 @@ public class EmployeeServiceTest {
         // --- THEN ---
         assertNotNull(actualDto);
         verify(employeeRepository).save(existingEmployee);
+        verify(changeOutbox).record(AggregateType.EMPLOYEE, ChangeType.UPDATED, id);
     }
 
     @Test
@@ -295,9 +609,9 @@ public class EmployeeServiceTest {
                 .projectName(newProjectName)
                 .build();
 
-        when(employeeRepository.findById(employeeId)).thenReturn(Optional.of(existingEmployee));
-        when(employeeRepository.save(any(Employee.class))).thenReturn(updatedEmployee);
-        when(projectRepository.findById(newProjectId)).thenReturn(Optional.of(newProject));
+        when(employeeRepository.findWithProjectById(employeeId)).thenReturn(Optional.of(existingEmployee));
+        when(employeeRepository.saveAndFlush(any(Employee.class))).thenReturn(updatedEmployee);
+        when(projectRepository.getReferenceById(newProjectId)).thenReturn(newProject);
         when(employeeMapper.toResponse(updatedEmployee)).thenReturn(responseDto);
 
         // --- WHEN ---
@@ -311,6 +625,12 @@ public class EmployeeServiceTest {
 
         // Check that the project has been replaced in the employee that we extracted from the DB
         assertEquals(newProject, existingEmployee.getProject());
+
+        // Both rosters change: the employee moves between their counts and cached responses are invalidated
+        verify(responseCaches).evictEmployee(employeeId);
+        verify(projectRepository).moveEmployeeCount(oldProjectId, newProjectId, 1);
+        verify(responseCaches).clearStats();
+        verify(responseCaches).evictProjects(Set.of(oldProjectId, newProjectId));
     }
 
     @Test
@@ -346,7 +666,7 @@ public class EmployeeServiceTest {
                 .projectName(projectName)
                 .build();
 
-        when(employeeRepository.findById(employeeId)).thenReturn(Optional.of(existingEmployee));
+        when(employeeRepository.findWithProjectById(employeeId)).thenReturn(Optional.of(existingEmployee));
         when(employeeRepository.save(existingEmployee)).thenReturn(existingEmployee);
         when(employeeMapper.toResponse(existingEmployee)).thenReturn(responseDto);
 
@@ -354,7 +674,9 @@ public class EmployeeServiceTest {
         employeeService.update(employeeId, requestDto);
 
         // --- THEN ---
-        verify(projectRepository, never()).findById(anyLong());
+        verify(projectRepository, never()).getReferenceById(anyLong());
+        verify(employeeRepository, never()).saveAndFlush(any());
+        verify(responseCaches, never()).clearStats();
     }
 
     @Test
@@ -393,8 +715,8 @@ public class EmployeeServiceTest {
                 .projectName(null)
                 .build();
 
-        when(employeeRepository.findById(employeeId)).thenReturn(Optional.of(existingEmployee));
-        when(employeeRepository.save(any(Employee.class))).thenReturn(updatedEmployee);
+        when(employeeRepository.findWithProjectById(employeeId)).thenReturn(Optional.of(existingEmployee));
+        when(employeeRepository.saveAndFlush(any(Employee.class))).thenReturn(updatedEmployee);
         when(employeeMapper.toResponse(updatedEmployee)).thenReturn(responseDto);
 
         // --- WHEN ---
@@ -417,7 +739,7 @@ public class EmployeeServiceTest {
                 .firstName("Happy New Year")
                 .build();
 
-        when(employeeRepository.findById(id)).thenReturn(Optional.empty());
+        when(employeeRepository.findWithProjectById(id)).thenReturn(Optional.empty());
 
         // --- WHEN & THEN ---
         assertThrows(EntityNotFoundException.class, () -> employeeService.update(id, requestDto));
@@ -448,12 +770,49 @@ public class EmployeeServiceTest {
                 .projectId(nonExistingProjectId)
                 .build();
 
+        // The reference is not checked up front: the database rejects the row on flush
+        DataIntegrityViolationException violation = new DataIntegrityViolationException("FK violation",
+                new ConstraintViolationException("FK violation", new SQLException("FK violation", "23503"),
+                        "fk_employees_project"));
+
         // --- WHEN ---
-        when(employeeRepository.findById(employeeId)).thenReturn(Optional.of(existingEmployee));
-        when(projectRepository.findById(nonExistingProjectId)).thenReturn(Optional.empty());
+        when(employeeRepository.findWithProjectById(employeeId)).thenReturn(Optional.of(existingEmployee));
+        when(projectRepository.getReferenceById(nonExistingProjectId))
+                .thenReturn(Project.builder().id(nonExistingProjectId).build());
+        when(employeeRepository.saveAndFlush(existingEmployee)).thenThrow(violation);
 
         // --- THEN ---
         assertThrows(EntityNotFoundException.class, () -> employeeService.update(employeeId, requestDto));
-        verify(employeeRepository, never()).save(any());
+        verify(responseCaches, never()).evictEmployee(any());
+    }
+
+    @Test
+    @DisplayName("Update: Нарушение другого ограничения не должно превращаться в 404")
+    void update_WhenOtherConstraintViolated_ShouldRethrow() {
+        // --- GIVEN ---
+        Long employeeId = 1L;
+        Long newProjectId = 5L;
+
+        Employee existingEmployee = Employee.builder()
+                .id(employeeId)
+                .firstName("Ксения")
+                .build();
+
+        UpdateEmployeeRequest requestDto = UpdateEmployeeRequest.builder()
+                .firstName("Ксения")
+                .email("taken@example.com")
+                .projectId(newProjectId)
+                .build();
+
+        DataIntegrityViolationException violation = new DataIntegrityViolationException("Unique violation",
+                new ConstraintViolationException("Unique violation", new SQLException("Unique violation", "23505"),
+                        "uk_employees_email"));
+
+        when(employeeRepository.findWithProjectById(employeeId)).thenReturn(Optional.of(existingEmployee));
+        when(projectRepository.getReferenceById(newProjectId)).thenReturn(Project.builder().id(newProjectId).build());
+        when(employeeRepository.saveAndFlush(existingEmployee)).thenThrow(violation);
+
+        // --- WHEN & THEN ---
+        assertThrows(DataIntegrityViolationException.class, () -> employeeService.update(employeeId, requestDto));
     }
 }
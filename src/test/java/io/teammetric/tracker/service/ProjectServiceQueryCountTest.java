@@ -0,0 +1,221 @@
+package io.teammetric.tracker.service;
+
+import io.teammetric.tracker.config.CacheConfig;
+import io.teammetric.tracker.config.DeltaSyncConfig;
+import io.teammetric.tracker.dto.request.project.AssignMembersRequest;
+import io.teammetric.tracker.dto.request.project.UpdateProjectRequest;
+import io.teammetric.tracker.dto.response.page.CursorPageResponse;
+import io.teammetric.tracker.dto.response.project.MembershipChangeResponse;
+import io.teammetric.tracker.dto.response.project.ProjectResponse;
+import io.teammetric.tracker.dto.response.project.ProjectSummaryResponse;
+import io.teammetric.tracker.entity.Employee;
+import io.teammetric.tracker.entity.Project;
+import io.teammetric.tracker.mapper.employee.EmployeeMapper;
+import io.teammetric.tracker.mapper.project.ProjectMapper;
+import io.teammetric.tracker.repository.ProjectRepository;
+import io.teammetric.tracker.service.cache.ResponseCaches;
+import io.teammetric.tracker.service.changes.ChangeOutbox;
+import io.teammetric.tracker.support.StatementBudget;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DataJpaTest
+@Import({ProjectService.class, ProjectMapper.class, EmployeeMapper.class, ResponseCaches.class, CacheConfig.class,
+        ChangeOutbox.class, DeltaSyncConfig.class})
+public class ProjectServiceQueryCountTest {
+    private static final int PROJECTS = 1_000;
+    private static final int EMPLOYEES_PER_PROJECT = 3;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private ProjectMapper projectMapper;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    private StatementBudget statements;
+
+    @BeforeEach
+    void seedProjects() {
+        for (int p = 0; p < PROJECTS; p++) {
+            Project project = Project.builder()
+                    .name("Project " + p)
+                    .build();
+
+            for (int e = 0; e < EMPLOYEES_PER_PROJECT; e++) {
+                project.getEmployees().add(Employee.builder()
+                        .firstName("First " + e)
+                        .lastName("Last " + e)
+                        .username("user-" + p + "-" + e)
+                        .project(project)
+                        .build());
+            }
+
+            testEntityManager.persist(project);
+        }
+
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        statements = new StatementBudget(testEntityManager.getEntityManager());
+    }
+
+    @Test
+    @DisplayName("FindAll: Проекты вместе с составами должны загружаться одним запросом, без N+1")
+    void findAll_For1000Projects_ShouldIssueSingleStatement() {
+        // --- WHEN ---
+        List<ProjectResponse> projects = statements.expectExactly(1, projectService::findAll);
+
+        // --- THEN ---
+        assertThat(projects).hasSize(PROJECTS);
+        assertThat(projects).allSatisfy(project -> assertThat(project.employees()).hasSize(EMPLOYEES_PER_PROJECT));
+    }
+
+    @Test
+    @DisplayName("FindAllSummaries: Сводка должна считаться одним агрегирующим запросом")
+    void findAllSummaries_For1000Projects_ShouldIssueSingleStatement() {
+        // --- WHEN ---
+        List<ProjectSummaryResponse> summaries = statements.expectExactly(1, projectService::findAllSummaries);
+
+        // --- THEN ---
+        assertThat(summaries).hasSize(PROJECTS);
+        assertThat(summaries).allSatisfy(summary -> assertThat(summary.employeeCount()).isEqualTo(EMPLOYEES_PER_PROJECT));
+    }
+
+    @Test
+    @DisplayName("FindPage: Составы на странице должны догружаться пачками, а не по запросу на проект")
+    void findPage_For1000Projects_ShouldBatchRosterLoads() {
+        // --- WHEN ---
+        CursorPageResponse<ProjectResponse> page = statements.expectAtMost(1 + PROJECTS / 100,
+                () -> projectService.findPage(null, PROJECTS));
+
+        // --- THEN ---
+        assertThat(page.items()).hasSize(PROJECTS);
+    }
+
+    @Test
+    @DisplayName("ExportAll: Составы должны загружаться одним запросом на окно выборки, а не по запросу на проект")
+    void exportAll_For1000Projects_ShouldLoadRostersPerFetchWindow() {
+        // --- GIVEN ---
+        List<ProjectResponse> exported = new ArrayList<>();
+
+        // --- WHEN ---
+        statements.expectExactly(1 + PROJECTS / ProjectRepository.EXPORT_FETCH_SIZE, () -> {
+            projectService.exportAll(exported::add);
+            return exported;
+        });
+
+        // --- THEN ---
+        assertThat(exported).hasSize(PROJECTS);
+        assertThat(exported).allSatisfy(project -> assertThat(project.employees()).hasSize(EMPLOYEES_PER_PROJECT));
+    }
+
+    @Test
+    @DisplayName("AssignMembers: Перенос всех участников проекта должен стоить проверки существования, смены версий и одного UPDATE")
+    void assignMembers_FromAnotherProject_ShouldIssueExistenceCheckVersionBumpAndSingleUpdate() {
+        // --- GIVEN ---
+        List<Long> projectIds = projectService.findAllSummaries().stream()
+                .map(ProjectSummaryResponse::id)
+                .toList();
+        Long targetId = projectIds.get(0);
+        Long fromProjectId = projectIds.get(1);
+
+        // --- WHEN ---
+        MembershipChangeResponse response = statements.expectExactly(3,
+                () -> projectService.assignMembers(targetId, AssignMembersRequest.builder()
+                        .fromProjectId(fromProjectId)
+                        .build()));
+
+        // --- THEN ---
+        assertThat(response.affected()).isEqualTo(EMPLOYEES_PER_PROJECT);
+        assertThat(projectService.getById(targetId).employees()).hasSize(EMPLOYEES_PER_PROJECT * 2);
+    }
+
+    @Test
+    @DisplayName("VersionTag: Версия проекта в ответе должна меняться при смене состава")
+    void versionTag_WhenRosterChanges_ShouldChange() {
+        // --- GIVEN ---
+        List<Long> projectIds = projectService.findAllSummaries().stream()
+                .map(ProjectSummaryResponse::id)
+                .toList();
+        Long targetId = projectIds.get(0);
+        Long fromProjectId = projectIds.get(1);
+        String collectionTagBefore = projectService.getCollectionVersionTag();
+
+        // --- WHEN ---
+        String tagBefore = versionTag(targetId);
+        projectService.assignMembers(targetId, AssignMembersRequest.builder()
+                .fromProjectId(fromProjectId)
+                .build());
+
+        // --- THEN ---
+        assertThat(versionTag(targetId)).isNotEqualTo(tagBefore);
+        assertThat(projectService.getCollectionVersionTag()).isNotEqualTo(collectionTagBefore);
+    }
+
+    @Test
+    @DisplayName("VersionTag: Назначение несуществующих сотрудников не должно менять версию проекта")
+    void versionTag_WhenAssignmentChangesNothing_ShouldStay() {
+        // --- GIVEN ---
+        Long projectId = projectService.findAllSummaries().get(0).id();
+        String tagBefore = versionTag(projectId);
+
+        // --- WHEN ---
+        MembershipChangeResponse response = projectService.assignMembers(projectId, AssignMembersRequest.builder()
+                .employeeIds(List.of(-1L, -2L))
+                .build());
+
+        // --- THEN ---
+        assertThat(response.affected()).isZero();
+        assertThat(versionTag(projectId)).isEqualTo(tagBefore);
+    }
+
+    @Test
+    @DisplayName("Update: Смена состава между чтением и записью проекта не должна вызывать конфликт версий, но меняет ETag")
+    void update_AfterConcurrentRosterChange_ShouldNotConflictAndShouldChangeVersionTag() {
+        // --- GIVEN ---
+        Long projectId = projectService.findAllSummaries().get(0).id();
+        String tagBefore = versionTag(projectId);
+        Project loaded = testEntityManager.find(Project.class, projectId);
+
+        // Another request changes the roster after this one has read the project
+        projectRepository.adjustEmployeeCounts(List.of(projectId), Map.of());
+
+        // --- WHEN ---
+        projectService.update(projectId, UpdateProjectRequest.builder()
+                .name(loaded.getName())
+                .description("Updated")
+                .build());
+        testEntityManager.flush();
+
+        // --- THEN ---
+        assertThat(versionTag(projectId)).isNotEqualTo(tagBefore);
+        assertThat(testEntityManager.find(Project.class, projectId).getDescription()).isEqualTo("Updated");
+    }
+
+    /**
+     * The tag a fresh read would serve; the cached response is only evicted after commit, which never comes here.
+     */
+    private String versionTag(Long projectId) {
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        return projectMapper.toResponse(testEntityManager.find(Project.class, projectId)).versionTag();
+    }
+}
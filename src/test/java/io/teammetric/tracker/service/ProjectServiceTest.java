@@ -1,21 +1,37 @@
 package io.teammetric.tracker.service;
 
+import io.teammetric.tracker.dto.request.project.AssignMembersRequest;
 import io.teammetric.tracker.dto.request.project.CreateProjectRequest;
+import io.teammetric.tracker.dto.request.project.UnassignMembersRequest;
 import io.teammetric.tracker.dto.request.project.UpdateProjectRequest;
+import io.teammetric.tracker.dto.response.page.CursorPageResponse;
+import io.teammetric.tracker.dto.response.project.MembershipChangeResponse;
 import io.teammetric.tracker.dto.response.project.ProjectResponse;
+import io.teammetric.tracker.dto.response.project.ProjectSummaryResponse;
+import io.teammetric.tracker.entity.ChangeEvent.AggregateType;
+import io.teammetric.tracker.entity.ChangeEvent.ChangeType;
 import io.teammetric.tracker.entity.Project;
 import io.teammetric.tracker.exception.EntityNotFoundException;
 import io.teammetric.tracker.mapper.project.ProjectMapper;
+import io.teammetric.tracker.pagination.CursorPages;
+import io.teammetric.tracker.repository.EmployeeRepository;
 import io.teammetric.tracker.repository.ProjectRepository;
+import io.teammetric.tracker.service.cache.ResponseCaches;
+import io.teammetric.tracker.service.changes.ChangeOutbox;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 
 import java.util.List;
+import java.util.ArrayList;
 import java.util.Optional;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -25,9 +41,21 @@ public class ProjectServiceTest {
     @Mock
     private ProjectRepository projectRepository;
 
+    @Mock
+    private EmployeeRepository employeeRepository;
+
     @Mock
     private ProjectMapper projectMapper;
 
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private ResponseCaches responseCaches;
+
+    @Mock
+    private ChangeOutbox changeOutbox;
+
     @InjectMocks
     private ProjectService projectService;
 
@@ -98,7 +126,7 @@ public class ProjectServiceTest {
                 .build();
 
         List<Project> projectList = List.of(first, second);
-        when(projectRepository.findAll()).thenReturn(projectList);
+        when(projectRepository.findAllWithEmployees()).thenReturn(projectList);
         when(projectMapper.toResponse(first)).thenReturn(firstProjectResponse);
         when(projectMapper.toResponse(second)).thenReturn(secondProjectResponse);
 
@@ -115,7 +143,7 @@ public class ProjectServiceTest {
     @DisplayName("FindAll: Если проектов нет — должен вернуть пустой список")
     void findAll_WhenProjectsNotFound_ShouldReturnEmptyList() {
         // --- GIVEN ---
-        when(projectRepository.findAll()).thenReturn(List.of());
+        when(projectRepository.findAllWithEmployees()).thenReturn(List.of());
 
         // --- WHEN ---
         List<ProjectResponse> actualList = projectService.findAll();
@@ -126,6 +154,78 @@ public class ProjectServiceTest {
                 .isEmpty();
     }
 
+    @Test
+    @DisplayName("FindAllSummaries: Сводка проектов должна браться одним агрегирующим запросом репозитория")
+    void findAllSummaries_WhenProjectsExist_ShouldReturnAggregatedSummaries() {
+        // --- GIVEN ---
+        ProjectSummaryResponse summary = ProjectSummaryResponse.builder()
+                .id(1L)
+                .name("Summary")
+                .employeeCount(12)
+                .build();
+
+        when(projectRepository.findAllSummaries()).thenReturn(List.of(summary));
+
+        // --- WHEN ---
+        List<ProjectSummaryResponse> actualList = projectService.findAllSummaries();
+
+        // --- THEN ---
+        assertThat(actualList).containsExactly(summary);
+        verifyNoInteractions(projectMapper);
+    }
+
+    @Test
+    @DisplayName("FindPage: Если это последняя страница — курсор на следующую должен отсутствовать")
+    void findPage_WhenLastPage_ShouldReturnNoNextCursor() {
+        // --- GIVEN ---
+        Project project = Project.builder()
+                .id(7L)
+                .name("Last")
+                .build();
+
+        ProjectResponse projectResponse = ProjectResponse.builder()
+                .id(7L)
+                .name("Last")
+                .build();
+
+        when(projectRepository.findByIdGreaterThanOrderByIdAsc(6L, Limit.of(6))).thenReturn(List.of(project));
+        when(projectMapper.toResponse(project)).thenReturn(projectResponse);
+
+        // --- WHEN ---
+        CursorPageResponse<ProjectResponse> actualPage = projectService.findPage(CursorPages.encode(6L), 5);
+
+        // --- THEN ---
+        assertThat(actualPage.items()).containsExactly(projectResponse);
+        assertThat(actualPage.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("ExportAll: Каждый проект из курсора должен быть передан в приёмник в виде ProjectResponse")
+    void exportAll_WhenProjectsExist_ShouldPassEveryResponseToSink() {
+        // --- GIVEN ---
+        Project project = Project.builder()
+                .id(1L)
+                .name("Streaming")
+                .build();
+
+        ProjectResponse projectResponse = ProjectResponse.builder()
+                .id(1L)
+                .name("Streaming")
+                .build();
+
+        when(projectRepository.streamAllForExport()).thenReturn(Stream.of(project));
+        when(projectRepository.findWithEmployeesByIdIn(List.of(1L))).thenReturn(List.of(project));
+        when(projectMapper.toResponse(project)).thenReturn(projectResponse);
+
+        List<ProjectResponse> exported = new ArrayList<>();
+
+        // --- WHEN ---
+        projectService.exportAll(exported::add);
+
+        // --- THEN ---
+        assertThat(exported).containsExactly(projectResponse);
+    }
+
     @Test
     @DisplayName("Save: При вызове метода 1 раз должен вызваться репозиторий")
     void save_WhenCalled_ShouldCallRepository() {
@@ -166,6 +266,7 @@ public class ProjectServiceTest {
         // --- THEN ---
         assertThat(actualDto).isNotNull();
         verify(projectRepository).save(projectToSave);
+        verify(changeOutbox).record(AggregateType.PROJECT, ChangeType.CREATED, id);
     }
 
     @Test
@@ -203,6 +304,7 @@ public class ProjectServiceTest {
         // --- THEN ---
         assertThat(actualDto).isNotNull();
         verify(projectRepository).save(existingProject);
+        verify(changeOutbox).record(AggregateType.PROJECT, ChangeType.UPDATED, id);
     }
 
     @Test
@@ -222,4 +324,144 @@ public class ProjectServiceTest {
                 .isInstanceOf(EntityNotFoundException.class)
                 .hasMessageContaining("Project not found with id: " + id);
     }
+
+    @Test
+    @DisplayName("AssignMembers: Список сотрудников должен переноситься пачками UPDATE, а не по одному")
+    void assignMembers_WhenEmployeeIdsGiven_ShouldUpdateInChunks() {
+        // --- GIVEN ---
+        Long projectId = 5L;
+        Project projectReference = Project.builder()
+                .id(projectId)
+                .build();
+
+        List<Long> employeeIds = LongStream.rangeClosed(1, ProjectService.MEMBERSHIP_CHUNK_SIZE * 2L + 500)
+                .boxed()
+                .toList();
+
+        AssignMembersRequest membersRequest = AssignMembersRequest.builder()
+                .employeeIds(employeeIds)
+                .build();
+
+        when(projectRepository.existsById(projectId)).thenReturn(true);
+        when(projectRepository.getReferenceById(projectId)).thenReturn(projectReference);
+        when(employeeRepository.assignToProject(eq(projectReference), anyList()))
+                .thenReturn(ProjectService.MEMBERSHIP_CHUNK_SIZE, ProjectService.MEMBERSHIP_CHUNK_SIZE, 500);
+
+        // --- WHEN ---
+        MembershipChangeResponse response = projectService.assignMembers(projectId, membersRequest);
+
+        // --- THEN ---
+        assertThat(response.projectId()).isEqualTo(projectId);
+        assertThat(response.affected()).isEqualTo(employeeIds.size());
+        verify(employeeRepository, times(3)).assignToProject(eq(projectReference), anyList());
+        verify(projectRepository, times(3)).prepareReassignment(eq(projectId), anyList());
+        verify(projectRepository).adjustEmployeeCount(projectId, employeeIds.size());
+    }
+
+    @Test
+    @DisplayName("AssignMembers: Если указан исходный проект — все его участники должны переноситься одним UPDATE")
+    void assignMembers_WhenFromProjectGiven_ShouldMoveAllMembers() {
+        // --- GIVEN ---
+        Long projectId = 5L;
+        Long fromProjectId = 6L;
+        Project projectReference = Project.builder()
+                .id(projectId)
+                .build();
+
+        when(projectRepository.existsById(projectId)).thenReturn(true);
+        when(projectRepository.getReferenceById(projectId)).thenReturn(projectReference);
+        when(employeeRepository.moveProjectMembers(projectReference, fromProjectId)).thenReturn(42);
+
+        // --- WHEN ---
+        MembershipChangeResponse response = projectService.assignMembers(projectId, AssignMembersRequest.builder()
+                .fromProjectId(fromProjectId)
+                .build());
+
+        // --- THEN ---
+        assertThat(response.affected()).isEqualTo(42);
+        verify(projectRepository).moveEmployeeCount(fromProjectId, projectId, 42);
+        verify(responseCaches).clearStats();
+        verify(changeOutbox).record(AggregateType.PROJECT, ChangeType.UPDATED, List.of(fromProjectId, projectId));
+    }
+
+    @Test
+    @DisplayName("AssignMembers: Если целевой проект не найден — должно быть выброшено исключение")
+    void assignMembers_WhenProjectNotFound_ShouldThrowException() {
+        // --- GIVEN ---
+        Long projectId = 99L;
+        when(projectRepository.existsById(projectId)).thenReturn(false);
+
+        // --- WHEN & THEN ---
+        assertThatThrownBy(() -> projectService.assignMembers(projectId, AssignMembersRequest.builder()
+                .employeeIds(List.of(1L))
+                .build()))
+                .isInstanceOf(EntityNotFoundException.class)
+                .hasMessageContaining("Project not found with id: " + projectId);
+
+        verifyNoInteractions(employeeRepository);
+    }
+
+    @Test
+    @DisplayName("UnassignMembers: Сотрудники должны открепляться только от указанного проекта")
+    void unassignMembers_WhenEmployeeIdsGiven_ShouldUnassignFromProject() {
+        // --- GIVEN ---
+        Long projectId = 5L;
+        List<Long> employeeIds = List.of(1L, 2L, 2L);
+
+        when(projectRepository.existsById(projectId)).thenReturn(true);
+        when(employeeRepository.unassignFromProject(projectId, List.of(1L, 2L))).thenReturn(2);
+
+        // --- WHEN ---
+        MembershipChangeResponse response = projectService.unassignMembers(projectId, UnassignMembersRequest.builder()
+                .employeeIds(employeeIds)
+                .build());
+
+        // --- THEN ---
+        assertThat(response.affected()).isEqualTo(2);
+        verify(projectRepository).moveEmployeeCount(projectId, null, 2);
+    }
+
+    @Test
+    @DisplayName("UnassignMembers: Если никто не открепился — счётчик и ревизия проекта не должны меняться")
+    void unassignMembers_WhenNothingChanges_ShouldNotTouchProject() {
+        // --- GIVEN ---
+        Long projectId = 5L;
+
+        when(projectRepository.existsById(projectId)).thenReturn(true);
+        when(employeeRepository.unassignFromProject(projectId, List.of(1L))).thenReturn(0);
+
+        // --- WHEN ---
+        MembershipChangeResponse response = projectService.unassignMembers(projectId, UnassignMembersRequest.builder()
+                .employeeIds(List.of(1L))
+                .build());
+
+        // --- THEN ---
+        assertThat(response.affected()).isZero();
+        verify(projectRepository, never()).moveEmployeeCount(any(), any(), anyInt());
+        verify(changeOutbox, never()).record(any(), any(), anyCollection());
+    }
+
+    @Test
+    @DisplayName("AssignMembers: Если никто не перенесён — счётчик целевого проекта не должен меняться")
+    void assignMembers_WhenNothingChanges_ShouldNotAdjustCount() {
+        // --- GIVEN ---
+        Long projectId = 5L;
+        Project projectReference = Project.builder()
+                .id(projectId)
+                .build();
+
+        when(projectRepository.existsById(projectId)).thenReturn(true);
+        when(projectRepository.getReferenceById(projectId)).thenReturn(projectReference);
+        when(employeeRepository.assignToProject(projectReference, List.of(404L))).thenReturn(0);
+
+        // --- WHEN ---
+        MembershipChangeResponse response = projectService.assignMembers(projectId, AssignMembersRequest.builder()
+                .employeeIds(List.of(404L))
+                .build());
+
+        // --- THEN ---
+        assertThat(response.affected()).isZero();
+        verify(projectRepository, never()).adjustEmployeeCount(any(), anyInt());
+        verify(changeOutbox, never()).record(any(), any(), anyCollection());
+    }
 }
@@ -0,0 +1,86 @@
+package io.teammetric.tracker.service;
+
+import io.teammetric.tracker.dto.response.stats.ProjectHeadcountResponse;
+import io.teammetric.tracker.dto.response.stats.StaffingStatsResponse;
+import io.teammetric.tracker.entity.Employee;
+import io.teammetric.tracker.entity.Project;
+import io.teammetric.tracker.support.StatementBudget;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DataJpaTest
+@Import(StatsService.class)
+public class StatsServiceQueryCountTest {
+    private static final int PROJECTS = StatsService.LARGEST_TEAMS_LIMIT + 5;
+    private static final int UNASSIGNED = 7;
+
+    @Autowired
+    private StatsService statsService;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    private StatementBudget statements;
+
+    /**
+     * Project i has i members, plus one project without members.
+     */
+    @BeforeEach
+    void seedEmployees() {
+        int employee = 0;
+        for (int i = 1; i <= PROJECTS; i++) {
+            Project project = testEntityManager.persist(Project.builder().name("Project " + i).build());
+            for (int member = 0; member < i; member++) {
+                testEntityManager.persist(employee(employee++, project));
+            }
+        }
+        testEntityManager.persist(Project.builder().name("Empty").build());
+        for (int i = 0; i < UNASSIGNED; i++) {
+            testEntityManager.persist(employee(employee++, null));
+        }
+
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        statements = new StatementBudget(testEntityManager.getEntityManager());
+    }
+
+    @Test
+    @DisplayName("GetStaffing: Статистика должна считаться одним агрегирующим запросом")
+    void getStaffing_ShouldIssueSingleAggregateStatement() {
+        // --- WHEN ---
+        StaffingStatsResponse stats = statements.expectExactly(1, statsService::getStaffing);
+
+        // --- THEN ---
+        int assigned = PROJECTS * (PROJECTS + 1) / 2;
+        assertThat(stats.assignedEmployees()).isEqualTo(assigned);
+        assertThat(stats.unassignedEmployees()).isEqualTo(UNASSIGNED);
+        assertThat(stats.totalEmployees()).isEqualTo(assigned + UNASSIGNED);
+        assertThat(stats.projects())
+                .hasSize(PROJECTS)
+                .isSortedAccordingTo((left, right) -> Long.compare(left.projectId(), right.projectId()));
+        assertThat(stats.largestTeams())
+                .extracting(ProjectHeadcountResponse::headcount)
+                .hasSize(StatsService.LARGEST_TEAMS_LIMIT)
+                .startsWith((long) PROJECTS, PROJECTS - 1L)
+                .isSortedAccordingTo((left, right) -> Long.compare(right, left));
+        assertThat(stats.largestTeams().get(0).projectName()).isEqualTo("Project " + PROJECTS);
+    }
+
+    private static Employee employee(int index, Project project) {
+        return Employee.builder()
+                .firstName("Иван")
+                .lastName("Петров")
+                .username("user" + index)
+                .email("user" + index + "@teammetric.io")
+                .project(project)
+                .build();
+    }
+}
@@ -0,0 +1,226 @@
+package io.teammetric.tracker.service.autocomplete;
+
+import io.teammetric.tracker.dto.response.employee.EmployeePrefixIndexStatsResponse;
+import io.teammetric.tracker.dto.response.employee.EmployeeSuggestionResponse;
+import io.teammetric.tracker.entity.Employee;
+import io.teammetric.tracker.mapper.employee.EmployeeMapper;
+import io.teammetric.tracker.repository.EmployeeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class EmployeePrefixIndexTest {
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    private final Deque<Runnable> merges = new ArrayDeque<>();
+
+    private EmployeePrefixIndex employeePrefixIndex;
+
+    @BeforeEach
+    void setUp() {
+        employeePrefixIndex = new EmployeePrefixIndex(employeeRepository, new EmployeeMapper(),
+                TransactionOperations.withoutTransaction(), merges::add);
+    }
+
+    @Test
+    @DisplayName("Complete: После загрузки поиск по префиксу должен быть регистронезависимым и искать по всем полям")
+    void complete_AfterLoad_ShouldMatchAnyFieldIgnoringCase() {
+        // --- GIVEN ---
+        when(employeeRepository.streamSuggestions()).thenReturn(Stream.of(
+                suggestion(1L, "ipetrov", "Иван", "Петров", "ivan@example.com"),
+                suggestion(2L, "apetrova", "Анна", "Петрова", "anna@example.com"),
+                suggestion(3L, "osmirnov", "Олег", "Смирнов", null)));
+        employeePrefixIndex.load();
+
+        // --- WHEN & THEN ---
+        assertThat(employeePrefixIndex.complete("пЕт", 10))
+                .extracting(EmployeeSuggestionResponse::id)
+                .containsExactly(1L, 2L);
+        assertThat(employeePrefixIndex.complete("anna@", 10))
+                .extracting(EmployeeSuggestionResponse::id)
+                .containsExactly(2L);
+        assertThat(employeePrefixIndex.complete("osm", 10))
+                .singleElement()
+                .isEqualTo(suggestion(3L, "osmirnov", "Олег", "Смирнов", null));
+        assertThat(employeePrefixIndex.complete("x", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Complete: Сотрудник, совпавший по нескольким полям, должен возвращаться один раз, с учётом лимита")
+    void complete_WhenSeveralTermsMatch_ShouldReturnDistinctEmployeesUpToLimit() {
+        // --- GIVEN ---
+        when(employeeRepository.streamSuggestions()).thenReturn(Stream.of(
+                suggestion(1L, "anna", "Анна", "Иванова", "anna@example.com"),
+                suggestion(2L, "annak", "Анна", "Кузнецова", "annak@example.com"),
+                suggestion(3L, "annas", "Анна", "Сидорова", "annas@example.com")));
+        employeePrefixIndex.load();
+
+        // --- WHEN ---
+        List<EmployeeSuggestionResponse> suggestions = employeePrefixIndex.complete("ann", 2);
+
+        // --- THEN ---
+        assertThat(suggestions).extracting(EmployeeSuggestionResponse::id).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("Index: Изменения должны заменять старые термы сотрудника без перезагрузки")
+    void index_WhenEmployeeRenamed_ShouldShadowOldTerms() {
+        // --- GIVEN ---
+        when(employeeRepository.streamSuggestions()).thenReturn(Stream.of(
+                suggestion(1L, "ipetrov", "Иван", "Петров", null)));
+        employeePrefixIndex.load();
+
+        // --- WHEN ---
+        employeePrefixIndex.index(List.of(employee(1L, "ipetrov", "Иван", "Сидоров")));
+        employeePrefixIndex.index(List.of(employee(2L, "new", "Новый", "Сотрудник")));
+
+        // --- THEN ---
+        assertThat(employeePrefixIndex.complete("петр", 10)).isEmpty();
+        assertThat(employeePrefixIndex.complete("сидор", 10))
+                .extracting(EmployeeSuggestionResponse::id)
+                .containsExactly(1L);
+        assertThat(employeePrefixIndex.complete("сотр", 10))
+                .extracting(EmployeeSuggestionResponse::id)
+                .containsExactly(2L);
+        assertThat(employeePrefixIndex.getStats().employees()).isEqualTo(2);
+        verify(employeeRepository, times(1)).streamSuggestions();
+    }
+
+    @Test
+    @DisplayName("Index: При переполнении буфера изменений они должны вливаться в основной индекс")
+    void index_WhenOverlayOverflows_ShouldFoldIntoSnapshot() {
+        // --- GIVEN ---
+        when(employeeRepository.streamSuggestions()).thenReturn(Stream.empty());
+        employeePrefixIndex.load();
+
+        List<Employee> employees = LongStream.rangeClosed(1, EmployeePrefixIndex.OVERLAY_LIMIT + 1)
+                .mapToObj(id -> employee(id, "user" + id, "Имя", "Фамилия"))
+                .toList();
+
+        // --- WHEN ---
+        employees.forEach(employee -> employeePrefixIndex.index(List.of(employee)));
+        runMerges();
+        EmployeePrefixIndexStatsResponse stats = employeePrefixIndex.getStats();
+
+        // --- THEN ---
+        assertThat(stats.employees()).isEqualTo(employees.size());
+        assertThat(stats.pendingEmployees()).isZero();
+        assertThat(stats.terms()).isEqualTo(3L * employees.size());
+        assertThat(stats.bytesPerEmployee()).isPositive().isLessThan(100);
+        assertThat(employeePrefixIndex.complete("user1025", 10))
+                .extracting(EmployeeSuggestionResponse::id)
+                .containsExactly(1025L);
+    }
+
+    @Test
+    @DisplayName("Index: Запись сверх лимита не должна ждать слияния, поиск до и после слияния должен видеть все записи")
+    void index_WhenOverlayOverflows_ShouldMergeOffTheWritingThread() {
+        // --- GIVEN ---
+        when(employeeRepository.streamSuggestions()).thenReturn(Stream.of(
+                suggestion(1L, "ipetrov", "Иван", "Петров", null)));
+        employeePrefixIndex.load();
+        employeePrefixIndex.index(LongStream.rangeClosed(2, EmployeePrefixIndex.OVERLAY_LIMIT + 1)
+                .mapToObj(id -> employee(id, "user" + id, "Имя", "Фамилия"))
+                .toList());
+
+        // --- WHEN ---
+        employeePrefixIndex.index(List.of(employee(1L, "ipetrov", "Иван", "Сидоров")));
+        employeePrefixIndex.index(List.of(employee(2L, "late", "Поздний", "Сотрудник")));
+
+        // --- THEN ---
+        assertThat(merges).hasSize(1);
+        assertThat(employeePrefixIndex.getStats().pendingEmployees()).isEqualTo(EmployeePrefixIndex.OVERLAY_LIMIT + 1);
+        assertSearchSeesLatestWrites();
+
+        runMerges();
+        assertThat(employeePrefixIndex.getStats().pendingEmployees()).isZero();
+        assertThat(employeePrefixIndex.getStats().employees()).isEqualTo(EmployeePrefixIndex.OVERLAY_LIMIT + 1);
+        assertSearchSeesLatestWrites();
+    }
+
+    @Test
+    @DisplayName("ReloadAfterCommit: Массовая запись должна перезагружать индекс в фоне, не проходя через буфер изменений")
+    void reloadAfterCommit_ShouldReloadOffTheWritingThread() {
+        // --- GIVEN ---
+        when(employeeRepository.streamSuggestions())
+                .thenReturn(Stream.of(suggestion(1L, "ipetrov", "Иван", "Петров", null)))
+                .thenReturn(Stream.of(
+                        suggestion(1L, "ipetrov", "Иван", "Сидоров", null),
+                        suggestion(2L, "imported", "Импорт", "Сотрудник", null)));
+        employeePrefixIndex.load();
+        employeePrefixIndex.index(List.of(employee(1L, "ipetrov", "Иван", "Сидоров")));
+
+        // --- WHEN ---
+        employeePrefixIndex.reloadAfterCommit();
+
+        // --- THEN ---
+        assertThat(merges).hasSize(1);
+        assertThat(employeePrefixIndex.complete("imp", 10)).isEmpty();
+
+        runMerges();
+        EmployeePrefixIndexStatsResponse stats = employeePrefixIndex.getStats();
+        assertThat(stats.employees()).isEqualTo(2);
+        assertThat(stats.pendingEmployees()).isZero();
+        assertThat(employeePrefixIndex.complete("imp", 10))
+                .extracting(EmployeeSuggestionResponse::id)
+                .containsExactly(2L);
+        assertThat(employeePrefixIndex.complete("сидор", 10))
+                .extracting(EmployeeSuggestionResponse::id)
+                .containsExactly(1L);
+    }
+
+    private void assertSearchSeesLatestWrites() {
+        assertThat(employeePrefixIndex.complete("петр", 10)).isEmpty();
+        assertThat(employeePrefixIndex.complete("сидор", 10))
+                .extracting(EmployeeSuggestionResponse::id)
+                .containsExactly(1L);
+        assertThat(employeePrefixIndex.complete("user2", 200))
+                .extracting(EmployeeSuggestionResponse::id)
+                .doesNotContain(2L)
+                .contains(20L);
+        assertThat(employeePrefixIndex.complete("late", 10))
+                .extracting(EmployeeSuggestionResponse::id)
+                .containsExactly(2L);
+    }
+
+    private void runMerges() {
+        while (!merges.isEmpty()) {
+            merges.poll().run();
+        }
+    }
+
+    private static EmployeeSuggestionResponse suggestion(Long id, String username, String firstName,
+                                                         String lastName, String email) {
+        return EmployeeSuggestionResponse.builder()
+                .id(id)
+                .username(username)
+                .firstName(firstName)
+                .lastName(lastName)
+                .email(email)
+                .build();
+    }
+
+    private static Employee employee(Long id, String username, String firstName, String lastName) {
+        return Employee.builder()
+                .id(id)
+                .username(username)
+                .firstName(firstName)
+                .lastName(lastName)
+                .build();
+    }
+}
@@ -0,0 +1,121 @@
+package io.teammetric.tracker.service.cache;
+
+import io.teammetric.tracker.dto.response.cache.CacheStatsResponse;
+import io.teammetric.tracker.dto.response.employee.EmployeeResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.interceptor.CacheOperationInvocationContext;
+import org.springframework.cache.interceptor.CacheableOperation;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class ResponseCachesTest {
+    private CaffeineCacheManager cacheManager;
+    private ResponseCaches responseCaches;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = new CaffeineCacheManager(ResponseCaches.EMPLOYEES, ResponseCaches.PROJECTS);
+        cacheManager.setCacheSpecification("maximumSize=100,recordStats");
+        responseCaches = new ResponseCaches(cacheManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("EvictEmployee: Без транзакции запись должна удаляться сразу")
+    void evictEmployee_WithoutTransaction_ShouldEvictImmediately() {
+        // --- GIVEN ---
+        Cache employees = cacheManager.getCache(ResponseCaches.EMPLOYEES);
+        employees.put(1L, EmployeeResponse.builder().id(1L).build());
+
+        // --- WHEN ---
+        responseCaches.evictEmployee(1L);
+
+        // --- THEN ---
+        assertThat(employees.get(1L)).isNull();
+    }
+
+    @Test
+    @DisplayName("EvictProject: Внутри транзакции запись должна удаляться только после коммита")
+    void evictProject_InsideTransaction_ShouldEvictAfterCommit() {
+        // --- GIVEN ---
+        Cache projects = cacheManager.getCache(ResponseCaches.PROJECTS);
+        projects.put(7L, "cached");
+        TransactionSynchronizationManager.initSynchronization();
+
+        // --- WHEN ---
+        responseCaches.evictProject(7L);
+
+        // --- THEN ---
+        assertThat(projects.get(7L)).isNotNull();
+
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+
+        assertThat(projects.get(7L)).isNull();
+    }
+
+    @Test
+    @DisplayName("ResolveCaches: Значение, загруженное во время инвалидации кэша, не должно в нём оставаться")
+    void resolveCaches_WhenInvalidatedDuringLoad_ShouldDropLoadedValue() {
+        // --- GIVEN ---
+        CacheableOperation.Builder operation = new CacheableOperation.Builder();
+        operation.setCacheName(ResponseCaches.EMPLOYEES);
+        CacheOperationInvocationContext<?> context = mock(CacheOperationInvocationContext.class);
+        doReturn(operation.build()).when(context).getOperation();
+
+        Cache employees = responseCaches.resolveCaches(context).iterator().next();
+
+        // --- WHEN ---
+        EmployeeResponse loaded = employees.get(1L, () -> {
+            // A write to another employee commits while this one is being read
+            responseCaches.evictEmployee(2L);
+            return EmployeeResponse.builder().id(1L).build();
+        });
+
+        // --- THEN ---
+        assertThat(loaded.id()).isEqualTo(1L);
+        assertThat(employees.get(1L)).isNull();
+        assertThat(employees.get(1L, () -> EmployeeResponse.builder().id(1L).build())).isNotNull();
+        assertThat(employees.get(1L)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("GetStats: Статистика должна учитывать попадания, промахи и инвалидации")
+    void getStats_AfterLookups_ShouldReportHitsMissesAndInvalidations() {
+        // --- GIVEN ---
+        Cache employees = cacheManager.getCache(ResponseCaches.EMPLOYEES);
+        employees.put(1L, EmployeeResponse.builder().id(1L).build());
+        employees.get(1L);
+        employees.get(2L);
+        responseCaches.evictEmployee(1L);
+
+        // --- WHEN ---
+        List<CacheStatsResponse> stats = responseCaches.getStats();
+
+        // --- THEN ---
+        assertThat(stats).extracting(CacheStatsResponse::name)
+                .containsExactly(ResponseCaches.EMPLOYEES, ResponseCaches.PROJECTS);
+
+        CacheStatsResponse employeeStats = stats.get(0);
+        assertThat(employeeStats.hitCount()).isEqualTo(1);
+        assertThat(employeeStats.missCount()).isEqualTo(1);
+        assertThat(employeeStats.invalidationCount()).isEqualTo(1);
+        assertThat(employeeStats.size()).isZero();
+    }
+}
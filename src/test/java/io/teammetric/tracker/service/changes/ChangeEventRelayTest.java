@@ -0,0 +1,120 @@
+package io.teammetric.tracker.service.changes;
+
+import io.teammetric.tracker.dto.response.change.ChangeEventResponse;
+import io.teammetric.tracker.entity.ChangeEvent;
+import io.teammetric.tracker.entity.ChangeEvent.AggregateType;
+import io.teammetric.tracker.entity.ChangeEvent.ChangeType;
+import io.teammetric.tracker.mapper.change.ChangeEventMapper;
+import io.teammetric.tracker.repository.ChangeEventRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ChangeEventRelayTest {
+    @Mock
+    private ChangeEventRepository changeEventRepository;
+
+    @Mock
+    private ChangeStreamDispatcher changeStreamDispatcher;
+
+    @Mock
+    private ChangeEventSequencer changeEventSequencer;
+
+    @Test
+    @DisplayName("Relay: Перед чтением ретранслятор должен проставить позиции и отдать события в их порядке")
+    void relay_ShouldSequenceThenPublishInPositionOrder() {
+        // --- GIVEN ---
+        ChangeEventRelay relay = relay(2);
+        when(changeEventRepository.findLastPosition()).thenReturn(10L);
+        when(changeEventSequencer.sequence(2)).thenReturn(2, 1);
+        when(changeEventRepository.findByPositionGreaterThanOrderByPositionAsc(eq(10L), any(Limit.class)))
+                .thenReturn(List.of(event(7, 11), event(5, 12)));
+        when(changeEventRepository.findByPositionGreaterThanOrderByPositionAsc(eq(12L), any(Limit.class)))
+                .thenReturn(List.of(event(9, 13)));
+        relay.start();
+
+        // --- WHEN ---
+        relay.relay();
+
+        // --- THEN ---
+        assertThat(publishedIds()).containsExactly(11L, 12L, 13L);
+        verify(changeEventSequencer, times(2)).sequence(2);
+        verify(changeStreamDispatcher).start(10L);
+    }
+
+    @Test
+    @DisplayName("Relay: Следующий опрос должен продолжать с последней отданной позиции")
+    void relay_WhenPolledAgain_ShouldContinueAfterLastPosition() {
+        // --- GIVEN ---
+        ChangeEventRelay relay = relay(100);
+        when(changeEventRepository.findLastPosition()).thenReturn(0L);
+        when(changeEventRepository.findByPositionGreaterThanOrderByPositionAsc(eq(0L), any(Limit.class)))
+                .thenReturn(List.of(event(1, 1)));
+        when(changeEventRepository.findByPositionGreaterThanOrderByPositionAsc(eq(1L), any(Limit.class)))
+                .thenReturn(List.of(), List.of(event(3, 2)));
+        relay.start();
+
+        // --- WHEN ---
+        relay.relay();
+        relay.relay();
+        relay.relay();
+
+        // --- THEN ---
+        assertThat(publishedIds()).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("Relay: До ApplicationReadyEvent ретранслятор не должен читать outbox")
+    void relay_WhenNotStarted_ShouldDoNothing() {
+        // --- GIVEN ---
+        ChangeEventRelay relay = relay(100);
+
+        // --- WHEN ---
+        relay.relay();
+
+        // --- THEN ---
+        verifyNoInteractions(changeEventRepository, changeEventSequencer, changeStreamDispatcher);
+    }
+
+    private ChangeEventRelay relay(int batchSize) {
+        ChangeStreamProperties properties = new ChangeStreamProperties(batchSize, 16, Duration.ofSeconds(15),
+                Duration.ofDays(7));
+
+        return new ChangeEventRelay(changeEventRepository, changeEventSequencer, new ChangeEventMapper(),
+                changeStreamDispatcher, properties);
+    }
+
+    private List<Long> publishedIds() {
+        ArgumentCaptor<ChangeEventResponse> published = ArgumentCaptor.forClass(ChangeEventResponse.class);
+        verify(changeStreamDispatcher, atLeast(0)).publish(published.capture());
+
+        return published.getAllValues().stream()
+                .map(ChangeEventResponse::id)
+                .toList();
+    }
+
+    private static ChangeEvent event(long id, long position) {
+        return ChangeEvent.builder()
+                .id(id)
+                .position(position)
+                .aggregateType(AggregateType.EMPLOYEE)
+                .aggregateId(100 + id)
+                .changeType(ChangeType.UPDATED)
+                .occurredAt(Instant.now())
+                .build();
+    }
+}
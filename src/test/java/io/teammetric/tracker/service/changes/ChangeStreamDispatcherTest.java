@@ -0,0 +1,84 @@
+package io.teammetric.tracker.service.changes;
+
+import io.teammetric.tracker.controller.ChangeController;
+import io.teammetric.tracker.dto.response.change.ChangeEventResponse;
+import io.teammetric.tracker.entity.ChangeEvent.AggregateType;
+import io.teammetric.tracker.entity.ChangeEvent.ChangeType;
+import io.teammetric.tracker.mapper.change.ChangeEventMapper;
+import io.teammetric.tracker.repository.ChangeEventRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+@ExtendWith(MockitoExtension.class)
+public class ChangeStreamDispatcherTest {
+    @Mock
+    private ChangeEventRepository changeEventRepository;
+
+    @Mock
+    private ChangeEventMapper changeEventMapper;
+
+    private ChangeStreamDispatcher dispatcher;
+
+    @AfterEach
+    void tearDown() {
+        if (dispatcher != null) {
+            dispatcher.destroy();
+        }
+    }
+
+    @Test
+    @DisplayName("Stream: Last-Event-ID впереди ретранслятора этого экземпляра не должен приводить к повторной отправке")
+    void subscribe_WhenLastEventIdAheadOfWatermark_ShouldSkipEventsClientHas() throws Exception {
+        // --- GIVEN ---
+        dispatcher = new ChangeStreamDispatcher(changeEventRepository, changeEventMapper,
+                new ChangeStreamProperties(500, 256, Duration.ofSeconds(15), Duration.ofDays(7)));
+        dispatcher.start(10);
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new ChangeController(dispatcher)).build();
+        MockHttpServletResponse stream = mockMvc.perform(get("/api/changes/stream")
+                        .accept(MediaType.TEXT_EVENT_STREAM)
+                        .header("Last-Event-ID", 12))
+                .andExpect(request().asyncStarted())
+                .andReturn()
+                .getResponse();
+
+        // --- WHEN ---
+        dispatcher.publish(event(11));
+        dispatcher.publish(event(12));
+        dispatcher.publish(event(13));
+
+        // --- THEN ---
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() ->
+                assertThat(stream.getContentAsString()).contains("id:13\n"));
+        assertThat(stream.getContentAsString())
+                .doesNotContain("id:11\n")
+                .doesNotContain("id:12\n");
+        verifyNoInteractions(changeEventRepository);
+    }
+
+    private static ChangeEventResponse event(long id) {
+        return ChangeEventResponse.builder()
+                .id(id)
+                .aggregateType(AggregateType.EMPLOYEE)
+                .aggregateId(id)
+                .changeType(ChangeType.UPDATED)
+                .occurredAt(Instant.now())
+                .build();
+    }
+}
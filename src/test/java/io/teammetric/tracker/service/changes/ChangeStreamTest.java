@@ -0,0 +1,204 @@
+package io.teammetric.tracker.service.changes;
+
+import io.teammetric.tracker.dto.request.employee.CreateEmployeeRequest;
+import io.teammetric.tracker.dto.request.employee.UpdateEmployeeRequest;
+import io.teammetric.tracker.dto.request.project.AssignMembersRequest;
+import io.teammetric.tracker.dto.request.project.CreateProjectRequest;
+import io.teammetric.tracker.dto.request.project.UpdateProjectRequest;
+import io.teammetric.tracker.dto.response.employee.EmployeeResponse;
+import io.teammetric.tracker.dto.response.project.ProjectResponse;
+import io.teammetric.tracker.entity.ChangeEvent;
+import io.teammetric.tracker.repository.ChangeEventRepository;
+import io.teammetric.tracker.repository.EmployeeRepository;
+import io.teammetric.tracker.repository.ProjectRepository;
+import io.teammetric.tracker.service.EmployeeService;
+import io.teammetric.tracker.service.ProjectService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+public class ChangeStreamTest {
+    private static final Duration RELAY_WAIT = Duration.ofSeconds(10);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private ChangeEventRepository changeEventRepository;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @AfterEach
+    void tearDown() {
+        employeeRepository.deleteAllInBatch();
+        projectRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("Stream: Подписчик должен получить событие о созданном сотруднике после коммита")
+    void stream_WhenEmployeeCreated_ShouldPushEvent() throws Exception {
+        // --- GIVEN ---
+        MockHttpServletResponse stream = openStream(null);
+
+        // --- WHEN ---
+        EmployeeResponse employee = employeeService.save(CreateEmployeeRequest.builder()
+                .firstName("Анна").lastName("Орлова").username("orlova").build());
+
+        // --- THEN ---
+        await().atMost(RELAY_WAIT).untilAsserted(() -> assertThat(stream.getContentAsString())
+                .contains("event:employee.created")
+                .contains("\"aggregateId\":" + employee.id()));
+    }
+
+    @Test
+    @DisplayName("Stream: С Last-Event-ID пропущенные события должны досылаться из outbox по порядку")
+    void stream_WhenResumedWithLastEventId_ShouldReplayMissedEvents() throws Exception {
+        // --- GIVEN ---
+        long lastSeenPosition = changeEventRepository.findLastPosition();
+        ProjectResponse project = projectService.save(CreateProjectRequest.builder().name("Apollo").build());
+        projectService.update(project.id(), UpdateProjectRequest.builder().name("Apollo 11").build());
+
+        // --- WHEN ---
+        MockHttpServletResponse stream = openStream(lastSeenPosition);
+
+        // --- THEN ---
+        await().atMost(RELAY_WAIT).untilAsserted(() -> {
+            String content = stream.getContentAsString();
+            assertThat(content)
+                    .contains("event:project.created")
+                    .contains("event:project.updated")
+                    .contains("\"aggregateId\":" + project.id());
+            assertThat(content.indexOf("event:project.created")).isLessThan(content.indexOf("event:project.updated"));
+        });
+    }
+
+    @Test
+    @DisplayName("Outbox: Событие должно откатываться вместе с изменением, упавшим на коммите")
+    void save_WhenCommitFails_ShouldRollBackEvent() {
+        // --- GIVEN ---
+        CreateEmployeeRequest employeeRequest = CreateEmployeeRequest.builder()
+                .firstName("Борис").lastName("Котов").username("kotov").build();
+        employeeService.save(employeeRequest);
+        long eventCount = changeEventRepository.count();
+
+        // --- WHEN ---
+        // the employee insert is deferred to the flush on commit, after the outbox row has been written
+        assertThatThrownBy(() -> employeeService.save(employeeRequest))
+                .isInstanceOf(DataIntegrityViolationException.class);
+
+        // --- THEN ---
+        assertThat(changeEventRepository.count()).isEqualTo(eventCount);
+    }
+
+    @Test
+    @DisplayName("Stream: Откаченная транзакция не должна задерживать события, закоммиченные после неё")
+    void stream_WhenTransactionRolledBack_ShouldNotStallLaterEvents() throws Exception {
+        // --- GIVEN ---
+        CreateEmployeeRequest employeeRequest = CreateEmployeeRequest.builder()
+                .firstName("Вера").lastName("Лебедева").username("lebedeva").build();
+        employeeService.save(employeeRequest);
+        MockHttpServletResponse stream = openStream(null);
+
+        // --- WHEN ---
+        // leaves a hole in the outbox ids
+        assertThatThrownBy(() -> employeeService.save(employeeRequest))
+                .isInstanceOf(DataIntegrityViolationException.class);
+        EmployeeResponse employee = employeeService.save(CreateEmployeeRequest.builder()
+                .firstName("Олег").lastName("Смирнов").username("smirnov").build());
+
+        // --- THEN ---
+        await().atMost(Duration.ofSeconds(2)).untilAsserted(() -> assertThat(stream.getContentAsString())
+                .contains("\"aggregateId\":" + employee.id()));
+    }
+
+    @Test
+    @DisplayName("Outbox: Переводы сотрудников должны публиковать и сотрудников, и все затронутые проекты")
+    void membershipChanges_ShouldRecordEmployeesAndEveryAffectedProject() {
+        // --- GIVEN ---
+        ProjectResponse apollo = projectService.save(CreateProjectRequest.builder().name("Apollo").build());
+        ProjectResponse gemini = projectService.save(CreateProjectRequest.builder().name("Gemini").build());
+        ProjectResponse mercury = projectService.save(CreateProjectRequest.builder().name("Mercury").build());
+        EmployeeResponse ivanov = employeeService.save(CreateEmployeeRequest.builder()
+                .firstName("Иван").lastName("Иванов").username("ivanov").projectId(apollo.id()).build());
+        EmployeeResponse petrov = employeeService.save(CreateEmployeeRequest.builder()
+                .firstName("Пётр").lastName("Петров").username("petrov").projectId(gemini.id()).build());
+        EmployeeResponse sidorov = employeeService.save(CreateEmployeeRequest.builder()
+                .firstName("Сидор").lastName("Сидоров").username("sidorov").projectId(mercury.id()).build());
+
+        // --- WHEN ---
+        Set<Long> beforeUpdate = eventIds();
+        employeeService.update(ivanov.id(), UpdateEmployeeRequest.builder()
+                .firstName("Иван").lastName("Иванов").projectId(gemini.id()).build());
+        List<String> updateEvents = eventsSince(beforeUpdate);
+
+        Set<Long> beforeAssign = eventIds();
+        projectService.assignMembers(mercury.id(), AssignMembersRequest.builder()
+                .employeeIds(List.of(ivanov.id(), petrov.id(), sidorov.id()))
+                .build());
+        List<String> assignEvents = eventsSince(beforeAssign);
+
+        // --- THEN ---
+        // Sidorov is in Mercury already and does not change
+        assertThat(updateEvents).containsExactlyInAnyOrder(
+                "EMPLOYEE:" + ivanov.id(), "PROJECT:" + apollo.id(), "PROJECT:" + gemini.id());
+        assertThat(assignEvents).containsExactlyInAnyOrder(
+                "EMPLOYEE:" + ivanov.id(), "EMPLOYEE:" + petrov.id(), "PROJECT:" + gemini.id(),
+                "PROJECT:" + mercury.id());
+    }
+
+    private Set<Long> eventIds() {
+        return changeEventRepository.findAll().stream()
+                .map(ChangeEvent::getId)
+                .collect(Collectors.toSet());
+    }
+
+    private List<String> eventsSince(Set<Long> previousIds) {
+        return changeEventRepository.findAll().stream()
+                .filter(event -> !previousIds.contains(event.getId()))
+                .map(event -> event.getAggregateType() + ":" + event.getAggregateId())
+                .toList();
+    }
+
+    private MockHttpServletResponse openStream(Long lastEventId) throws Exception {
+        MockHttpServletRequestBuilder streamRequest = get("/api/changes/stream").accept(MediaType.TEXT_EVENT_STREAM);
+        if (lastEventId != null) {
+            streamRequest.header("Last-Event-ID", lastEventId);
+        }
+
+        return mockMvc.perform(streamRequest)
+                .andExpect(request().asyncStarted())
+                .andReturn()
+                .getResponse();
+    }
+}
@@ -0,0 +1,54 @@
+package io.teammetric.tracker.support;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.hibernate.stat.Statistics;
+
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Counts the JDBC statements Hibernate prepares while a service call runs and checks them against a budget.
+ * The persistence context is flushed before counting stops, so writes that would otherwise wait for the commit
+ * of the test transaction are charged to the call that caused them.
+ */
+public class StatementBudget {
+    private final EntityManager entityManager;
+    private final Statistics statistics;
+
+    public StatementBudget(EntityManager entityManager) {
+        this.entityManager = entityManager;
+        this.statistics = entityManager.unwrap(Session.class).getSessionFactory().getStatistics();
+        this.statistics.setStatisticsEnabled(true);
+    }
+
+    public <T> T expectExactly(long statements, Supplier<T> action) {
+        Counted<T> counted = count(action);
+        assertThat(counted.statements())
+                .as("JDBC statements")
+                .isEqualTo(statements);
+
+        return counted.result();
+    }
+
+    public <T> T expectAtMost(long maxStatements, Supplier<T> action) {
+        Counted<T> counted = count(action);
+        assertThat(counted.statements())
+                .as("JDBC statements")
+                .isLessThanOrEqualTo(maxStatements);
+
+        return counted.result();
+    }
+
+    public <T> Counted<T> count(Supplier<T> action) {
+        statistics.clear();
+        T result = action.get();
+        entityManager.flush();
+
+        return new Counted<>(result, statistics.getPrepareStatementCount());
+    }
+
+    public record Counted<T>(T result, long statements) {
+    }
+}